@@ -0,0 +1,44 @@
+#!/bin/sh
+# Сравнение режимов выполнения запросов: платформенные и виртуальные потоки.
+#
+# Приложение запускается дважды, в профиле local-issuer и в профилях local-issuer,virtual-threads
+# (или без local-issuer, чтобы учесть запросы к Keycloak), и после каждого запуска выполняется
+# этот скрипт с меткой режима:
+#   ./docker/benchmark.sh platform
+#   ./docker/benchmark.sh virtual
+# Результаты сохраняются в benchmark-<метка>.txt. Нужны curl и wrk.
+set -e
+
+LABEL=${1:-run}
+BASE_URL=${BASE_URL:-http://localhost:8081}
+EMAIL=${EMAIL:-pashtet_rus@mail.ru}
+PASSWORD=${PASSWORD:-benchmark}
+DURATION=${DURATION:-30s}
+CONNECTIONS=${CONNECTIONS:-400}
+THREADS=${THREADS:-4}
+OUT=benchmark-$LABEL.txt
+
+# Получаем токен (в профиле local-issuer пароль не проверяется)
+TOKEN=$(curl -sf -X POST "$BASE_URL/auth" -H "Content-Type: application/json" \
+  -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}")
+
+# Прогрев, чтобы JIT и пулы соединений не искажали результат
+wrk -t "$THREADS" -c 50 -d 10s -H "Authorization: Bearer $TOKEN" "$BASE_URL/api/v1/tasks?page=0&size=10" > /dev/null
+
+: > "$OUT"
+for PATH_AND_QUERY in "/api/v1/tasks?page=0&size=10" "/api/v1/tasks/filter?searchQuery=task&page=0&size=10" "/api/v1/users?page=0&size=10"; do
+  echo "== $LABEL: GET $PATH_AND_QUERY, $CONNECTIONS connections, $DURATION" | tee -a "$OUT"
+  wrk -t "$THREADS" -c "$CONNECTIONS" -d "$DURATION" --latency \
+    -H "Authorization: Bearer $TOKEN" "$BASE_URL$PATH_AND_QUERY" | tee -a "$OUT"
+done
+
+# Выдача токенов; без профиля local-issuer каждый запрос ждёт ответа Keycloak
+AUTH_SCRIPT=$(mktemp)
+trap 'rm -f "$AUTH_SCRIPT"' EXIT
+cat > "$AUTH_SCRIPT" <<LUA
+wrk.method = "POST"
+wrk.headers["Content-Type"] = "application/json"
+wrk.body = '{"email":"$EMAIL","password":"$PASSWORD"}'
+LUA
+echo "== $LABEL: POST /auth, $CONNECTIONS connections, $DURATION" | tee -a "$OUT"
+wrk -t "$THREADS" -c "$CONNECTIONS" -d "$DURATION" --latency -s "$AUTH_SCRIPT" "$BASE_URL/auth" | tee -a "$OUT"
@@ -0,0 +1,31 @@
+-- Lets the database delete the comments of a deleted task and indexes comments by task.
+-- Run once against an existing database BEFORE starting the new version of the application:
+--   psql -U $POSTGRES_USER -d task_management -f migrate-comments-on-delete-cascade.sql
+-- New databases do not need it, the constraint and the index are created by Hibernate.
+-- The script is idempotent and may be run again.
+
+SET search_path TO app_schema;
+
+-- Replace the foreign key from comments to tasks, whatever its generated name, with a cascading one
+DO $$
+DECLARE
+    constraint_name text;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.contype = 'f'
+          AND c.conrelid = 'comments'::regclass
+          AND c.confrelid = 'tasks'::regclass
+          AND a.attname = 'task_id'
+    LOOP
+        EXECUTE format('ALTER TABLE comments DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
+
+ALTER TABLE comments
+    ADD CONSTRAINT fk_comments_task FOREIGN KEY (task_id) REFERENCES tasks (id) ON DELETE CASCADE;
+
+-- The cascade looks up the comments of every deleted task
+CREATE INDEX IF NOT EXISTS idx_comments_task_id ON comments (task_id);
@@ -0,0 +1,22 @@
+-- Migrates the users, tasks and comments tables from IDENTITY columns to pooled sequences.
+-- Run once against an existing database BEFORE starting the new version of the application:
+--   psql -U $POSTGRES_USER -d task_management -f migrate-ids-to-sequences.sql
+-- New databases do not need it, the sequences are created by Hibernate.
+-- The INCREMENT must be equal to app.id.allocation-size (50 by default).
+-- The script is idempotent and may be run again.
+
+SET search_path TO app_schema;
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq INCREMENT BY 50;
+
+-- The next block of IDs starts right after the highest existing ID
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+SELECT setval('tasks_seq', COALESCE((SELECT MAX(id) FROM tasks), 0) + 50, false);
+SELECT setval('comments_seq', COALESCE((SELECT MAX(id) FROM comments), 0) + 50, false);
+
+-- IDs are assigned by the application from now on
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY IF EXISTS;
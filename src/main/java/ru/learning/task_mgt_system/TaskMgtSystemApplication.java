@@ -2,12 +2,14 @@ package ru.learning.task_mgt_system;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// The R2DBC connections of the reactive read API are configured by ReactiveConfig, so that JPA keeps its data source
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class TaskMgtSystemApplication {
 
     public static void main(String[] args) {
 
         SpringApplication.run(TaskMgtSystemApplication.class, args);
     }
-}
\ No newline at end of file
+}
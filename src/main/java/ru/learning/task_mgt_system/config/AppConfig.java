@@ -1,19 +1,138 @@
 package ru.learning.task_mgt_system.config;
 
 // Import necessary classes from Spring framework
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
+import ru.learning.task_mgt_system.properties.ArchiveProperties;
+import ru.learning.task_mgt_system.properties.BulkProperties;
+import ru.learning.task_mgt_system.properties.ChangeStreamProperties;
+import ru.learning.task_mgt_system.properties.CommentIngestionProperties;
+import ru.learning.task_mgt_system.properties.ExportProperties;
+import ru.learning.task_mgt_system.properties.GraphQlLimitsProperties;
+import ru.learning.task_mgt_system.properties.ImportProperties;
+import ru.learning.task_mgt_system.properties.OptimisticLockProperties;
+import ru.learning.task_mgt_system.properties.OutboxProperties;
+import ru.learning.task_mgt_system.properties.ReactiveProperties;
+import ru.learning.task_mgt_system.properties.TaskStatisticsProperties;
+import ru.learning.task_mgt_system.properties.TokenClientProperties;
 
-// Marks this class as a configuration class for Spring
+// Marks this class as a configuration class for Spring, running scheduled jobs such as the task archival,
+// the relay of the change events, the change stream and the recount of the task statistics
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({TokenClientProperties.class, BulkProperties.class, OptimisticLockProperties.class,
+        CommentIngestionProperties.class, ImportProperties.class, ExportProperties.class, ArchiveProperties.class,
+        OutboxProperties.class, ChangeStreamProperties.class, ReactiveProperties.class, GraphQlLimitsProperties.class,
+        TaskStatisticsProperties.class})
 public class AppConfig {
 
+    // Defines a bounded connection pool used to talk to the authorization server
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager tokenConnectionManager(TokenClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                        .build())
+                .build();
+    }
+
+    // Exposes pool usage (leased, available and pending connections) as metrics
+    @Bean
+    public MeterBinder tokenConnectionPoolMetrics(PoolingHttpClientConnectionManager tokenConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(tokenConnectionManager, "token-client");
+    }
+
     // Defines a bean named 'restTemplate' that will be managed by the Spring container
     @Bean
-    public RestTemplate restTemplate() {
-        // Returns a new instance of RestTemplate
-        // RestTemplate is used for making HTTP requests in a synchronous manner
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     PoolingHttpClientConnectionManager tokenConnectionManager,
+                                     TokenClientProperties properties) {
+        TimeValue keepAlive = TimeValue.ofMilliseconds(properties.getKeepAlive().toMillis());
+
+        // The client reuses pooled keep-alive connections and never waits longer than the configured timeouts
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(tokenConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+
+        // The builder registers the 'http.client.requests' latency observations
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    // Defines the executor that runs token requests off the servlet threads, sized to the bulkhead
+    @Bean
+    public ThreadPoolTaskExecutor tokenExecutor(TokenClientProperties properties, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getMaxConcurrentRequests());
+        executor.setMaxPoolSize(properties.getMaxConcurrentRequests());
+        executor.setQueueCapacity(properties.getMaxConcurrentRequests());
+        executor.setThreadNamePrefix("token-");
+        useVirtualThreadsIfEnabled(executor, environment);
+        return executor;
+    }
+
+    // Defines the executor that writes the change stream events to the connections; a connection waiting for
+    // its turn is queued, and the connection is closed if even the queue is full
+    @Bean
+    public ThreadPoolTaskExecutor changeStreamExecutor(ChangeStreamProperties properties, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getSenderThreads());
+        executor.setMaxPoolSize(properties.getSenderThreads());
+        executor.setQueueCapacity(properties.getMaxConnections());
+        executor.setThreadNamePrefix("change-stream-");
+        useVirtualThreadsIfEnabled(executor, environment);
+        return executor;
+    }
+
+    // Defines the executor that writes the streamed responses, such as the lists of the reactive read API; a writer
+    // waits while its client does not read, so the reactive read API is only enabled on virtual threads, where
+    // the writers cost no platform threads (see ReactiveReadController)
+    @Bean
+    public ThreadPoolTaskExecutor streamWriterExecutor(ReactiveProperties properties, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWriterThreads());
+        executor.setMaxPoolSize(properties.getWriterThreads());
+        executor.setQueueCapacity(properties.getMaxStreams());
+        executor.setThreadNamePrefix("stream-writer-");
+        useVirtualThreadsIfEnabled(executor, environment);
+        return executor;
+    }
+
+    // With spring.threads.virtual.enabled (Java 21+) the pool keeps its limits, but runs its tasks on virtual threads,
+    // so a task blocked on I/O does not hold a platform thread
+    private static void useVirtualThreadsIfEnabled(ThreadPoolTaskExecutor executor, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(executor.getThreadNamePrefix()).getVirtualThreadFactory());
+        }
     }
-}
\ No newline at end of file
+}
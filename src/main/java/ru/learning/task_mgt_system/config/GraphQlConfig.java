@@ -0,0 +1,54 @@
+package ru.learning.task_mgt_system.config;
+
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.learning.task_mgt_system.properties.GraphQlLimitsProperties;
+
+/**
+ * Configuration class for the limits of the GraphQL API.
+ * <p>
+ * Queries deeper or more complex than configured are rejected before any field is fetched. The complexity
+ * of a list field grows with the number of items requested by its {@code size} or {@code last} argument,
+ * so a query for many tasks with their comments costs as much as the rows it would read.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    /**
+     * Rejects queries nested deeper than configured.
+     *
+     * @param properties the limits of the GraphQL API.
+     * @return the instrumentation picked up by the GraphQL auto-configuration.
+     */
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(GraphQlLimitsProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.getMaxDepth());
+    }
+
+    /**
+     * Rejects queries more complex than configured, see {@link #fieldComplexity}.
+     *
+     * @param properties the limits of the GraphQL API.
+     * @return the instrumentation picked up by the GraphQL auto-configuration.
+     */
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(GraphQlLimitsProperties properties) {
+        return new MaxQueryComplexityInstrumentation(properties.getMaxComplexity(), GraphQlConfig::fieldComplexity);
+    }
+
+    /**
+     * Computes the complexity of a field: one for the field itself plus the complexity of its selection,
+     * counted once per item if the field requests a number of items.
+     *
+     * @param environment     the field and its arguments, including the default values.
+     * @param childComplexity the complexity of the selection of the field.
+     * @return the complexity of the field.
+     */
+    static int fieldComplexity(FieldComplexityEnvironment environment, int childComplexity) {
+        Object items = environment.getArguments().getOrDefault("size", environment.getArguments().get("last"));
+        return 1 + (items instanceof Integer count ? Math.max(count, 1) : 1) * childComplexity;
+    }
+}
@@ -0,0 +1,32 @@
+package ru.learning.task_mgt_system.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.learning.task_mgt_system.model.PooledSequenceGenerator;
+import ru.learning.task_mgt_system.properties.IdGenerationProperties;
+
+/**
+ * Configuration class for the JPA provider.
+ * <p>
+ * Passes the application settings that are needed while Hibernate builds the entity mappings,
+ * such as the allocation size of the identifier sequences.
+ */
+@Configuration
+@EnableConfigurationProperties(IdGenerationProperties.class)
+public class JpaConfig {
+
+    /**
+     * Provides a {@link HibernatePropertiesCustomizer} that passes the allocation size
+     * to {@link PooledSequenceGenerator}.
+     *
+     * @param idGenerationProperties the settings of the identifier generation.
+     * @return the configured {@link HibernatePropertiesCustomizer}.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer idGenerationCustomizer(IdGenerationProperties idGenerationProperties) {
+        return hibernateProperties -> hibernateProperties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING,
+                idGenerationProperties.getAllocationSize());
+    }
+}
@@ -0,0 +1,77 @@
+package ru.learning.task_mgt_system.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.jwt.*;
+import ru.learning.task_mgt_system.properties.LocalIssuerProperties;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.UUID;
+
+/**
+ * Configuration class for the "local-issuer" profile.
+ * <p>
+ * In this profile the application signs and validates JWT tokens itself with an RSA key generated at startup,
+ * so it can run (for example, in load and benchmark tests) without a Keycloak server.
+ * The key lives only in memory: tokens become invalid when the application restarts.
+ */
+@Configuration
+@Profile("local-issuer")
+@EnableConfigurationProperties(LocalIssuerProperties.class)
+public class LocalIssuerConfig {
+
+    /**
+     * Generates the RSA key used to sign and verify tokens.
+     *
+     * @return the generated {@link RSAKey}.
+     * @throws NoSuchAlgorithmException if the RSA algorithm is not supported by the JVM.
+     */
+    @Bean
+    public RSAKey localSigningKey() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        return new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .privateKey((RSAPrivateKey) keyPair.getPrivate())
+                .keyID(UUID.randomUUID().toString())
+                .build();
+    }
+
+    /**
+     * Provides a {@link JwtEncoder} that signs tokens with the local key.
+     *
+     * @param localSigningKey the signing key.
+     * @return the configured {@link JwtEncoder}.
+     */
+    @Bean
+    public JwtEncoder jwtEncoder(RSAKey localSigningKey) {
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(localSigningKey)));
+    }
+
+    /**
+     * Provides a {@link JwtDecoder} that validates tokens against the local key and issuer.
+     * Replaces the JWK Set URI based decoder defined in {@link SecurityConfig}.
+     *
+     * @param localSigningKey the signing key.
+     * @param properties      the local issuer properties.
+     * @return the configured {@link JwtDecoder}.
+     * @throws JOSEException if the public key cannot be extracted.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(RSAKey localSigningKey, LocalIssuerProperties properties) throws JOSEException {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(localSigningKey.toRSAPublicKey()).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.getIssuer()));
+        return decoder;
+    }
+}
@@ -0,0 +1,61 @@
+package ru.learning.task_mgt_system.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import ru.learning.task_mgt_system.properties.ReactiveProperties;
+
+/**
+ * Configuration class for the non-blocking database access of the reactive read API.
+ * <p>
+ * The R2DBC connection pool is deliberately not a bean: Spring Boot backs off from the JDBC data source,
+ * and so from JPA, as soon as an R2DBC connection factory bean exists. The pool is therefore owned by this
+ * configuration, exposed through a {@link DatabaseClient} only, and disposed on shutdown. The R2DBC auto-configuration
+ * is excluded for the same reason, see the application class.
+ * <p>
+ * Like the rest of the reactive read API, the pool is only created on virtual threads.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ReactiveConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * Provides the client of the reactive queries, backed by a bounded pool of non-blocking connections.
+     * No connection is opened before the first query.
+     *
+     * @param properties the settings of the reactive read API.
+     * @return the configured {@link DatabaseClient}.
+     */
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ReactiveProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl())
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-read")
+                .initialSize(properties.getInitialPoolSize())
+                .maxSize(properties.getMaxPoolSize())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
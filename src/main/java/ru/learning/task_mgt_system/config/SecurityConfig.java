@@ -1,9 +1,15 @@
 package ru.learning.task_mgt_system.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -13,45 +19,100 @@ import org.springframework.security.web.SecurityFilterChain;
  * <p>
  * This configuration sets up security filters and rules for handling
  * authentication and authorization, as well as configuring OAuth2
- * and JWT settings.
+ * and JWT settings. The browser login flow and the API are served by
+ * separate filter chains, so API calls never pass the session and
+ * OAuth2 login filters.
  */
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * Paths served by the browser login chain: Swagger UI, OpenAPI docs, OAuth2 login and logout endpoints.
+     */
+    private static final String[] LOGIN_PATHS = {
+            "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/oauth2/**", "/login/**", "/logout"
+    };
+
     @Value("${app.jwk-set-uri}")
     private String jwkSetUri;
 
     /**
-     * Configures the {@link SecurityFilterChain} for the application.
+     * Configures the {@link SecurityFilterChain} for the browser login flow.
      * <p>
-     * This method sets up the security rules for HTTP requests, including
-     * disabling CSRF protection (suitable for APIs), permitting access to
-     * the /auth endpoint without authentication, and requiring authentication
-     * for all other requests. It also configures OAuth2 login and JWT resource
-     * server settings.
+     * This chain is limited to the Swagger UI, the OpenAPI docs and the OAuth2 login and redirect
+     * endpoints. It is the only chain that keeps an HTTP session, which is needed for the OAuth2
+     * authorization code flow. OAuth2 login is skipped when no client registrations are configured
+     * (as in the "local-issuer" profile), then the pages require a bearer token instead.
      *
-     * @param http the {@link HttpSecurity} object used to configure security settings.
+     * @param http                         the {@link HttpSecurity} object used to configure security settings.
+     * @param jwtDecoder                   the {@link JwtDecoder} used to validate bearer tokens.
+     * @param clientRegistrationRepository the OAuth2 client registrations, if any.
      * @return the configured {@link SecurityFilterChain}.
      * @throws Exception if an error occurs while configuring security.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain loginSecurityFilterChain(HttpSecurity http,
+                                                        JwtDecoder jwtDecoder,
+                                                        ObjectProvider<ClientRegistrationRepository> clientRegistrationRepository) throws Exception {
+        http
+                .securityMatcher(LOGIN_PATHS)
+                .authorizeHttpRequests(authorizeRequests ->
+                        authorizeRequests
+                                .anyRequest().authenticated() // Require authentication for the documentation pages
+                );
+
+        if (clientRegistrationRepository.getIfAvailable() != null) {
+            http.oauth2Login(oauth2Login ->
+                    oauth2Login
+                            .defaultSuccessUrl("/swagger-ui/index.html", true) // Redirect to Swagger UI on successful login
+                            .failureUrl("/login?error") // Redirect to login page on failure
+            );
+        } else {
+            http.oauth2ResourceServer(oauth2ResourceServer ->
+                    oauth2ResourceServer
+                            .jwt(jwt ->
+                                    jwt.decoder(jwtDecoder) // Use the specified JWT decoder
+                            )
+            );
+        }
+
+        return http.build();
+    }
+
+    /**
+     * Configures the stateless {@link SecurityFilterChain} for the API.
+     * <p>
+     * This chain handles the /api/** endpoints, the /auth endpoint and every other request
+     * not matched by {@link #loginSecurityFilterChain}. Requests are authenticated by a JWT bearer token only:
+     * no HTTP session is created or read, requests are not saved for a login redirect and
+     * CSRF protection is disabled (suitable for APIs). Unauthenticated requests get 401 instead of
+     * a redirect to the login page.
+     *
+     * @param http       the {@link HttpSecurity} object used to configure security settings.
+     * @param jwtDecoder the {@link JwtDecoder} used to validate bearer tokens.
+     * @return the configured {@link SecurityFilterChain}.
+     * @throws Exception if an error occurs while configuring security.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
         http
                 .csrf().disable() // Disable CSRF protection for APIs
+                .sessionManagement(sessionManagement ->
+                        sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS) // Never create or use an HTTP session
+                )
+                .requestCache(AbstractHttpConfigurer::disable) // Nothing to resume after a login redirect
+                .logout(AbstractHttpConfigurer::disable) // Tokens are not invalidated by the application
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests
                                 .requestMatchers("/auth").permitAll() // Allow access to /auth endpoint without authentication
                                 .anyRequest().authenticated() // Require authentication for all other requests
                 )
-                .oauth2Login(oauth2Login ->
-                        oauth2Login
-                                .defaultSuccessUrl("/swagger-ui/index.html", true) // Redirect to Swagger UI on successful login
-                                .failureUrl("/login?error") // Redirect to login page on failure
-                )
                 .oauth2ResourceServer(oauth2ResourceServer ->
                         oauth2ResourceServer
                                 .jwt(jwt ->
-                                        jwt.decoder(jwtDecoder()) // Use the specified JWT decoder
+                                        jwt.decoder(jwtDecoder) // Use the specified JWT decoder
                                 )
                 );
 
@@ -63,13 +124,15 @@ public class SecurityConfig {
      * <p>
      * This method sets up the JWT decoder with a URL to the public key
      * used for decoding JWT tokens. The public key is obtained from the
-     * Keycloak server or other authorization server.
+     * Keycloak server or other authorization server. In the "local-issuer"
+     * profile the decoder from {@link LocalIssuerConfig} is used instead.
      *
      * @return the configured {@link JwtDecoder} bean.
      */
 
     @Bean
+    @Profile("!local-issuer")
     public JwtDecoder jwtDecoder() {
         return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
     }
-}
\ No newline at end of file
+}
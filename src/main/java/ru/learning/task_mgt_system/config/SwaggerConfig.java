@@ -1,9 +1,12 @@
 package ru.learning.task_mgt_system.config;
 
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,11 +23,16 @@ import java.util.List;
 @Configuration
 public class SwaggerConfig {
 
+    private static final String BEARER_AUTH = "bearerAuth";
+
     /**
      * Creates and configures an OpenAPI component for generating API documentation.
+     * <p>
+     * The API is stateless and accepts JWT bearer tokens only, so a bearer security scheme
+     * is declared to let Swagger UI send the token obtained from /auth.
      *
-     * @return a configured OpenAPI instance containing server information
-     * and API metadata.
+     * @return a configured OpenAPI instance containing server information,
+     * API metadata and the security scheme.
      */
     @Bean
     public OpenAPI api() {
@@ -48,6 +56,15 @@ public class SwaggerConfig {
                                         .name("Apache 2.0")
                                         .url("https://www.apache.org/licenses/LICENSE-2.0.html")
                                 )
-                );
+                )
+                .components(
+                        new Components()
+                                .addSecuritySchemes(BEARER_AUTH, new SecurityScheme()
+                                        .type(SecurityScheme.Type.HTTP)
+                                        .scheme("bearer")
+                                        .bearerFormat("JWT")
+                                )
+                )
+                .addSecurityItem(new SecurityRequirement().addList(BEARER_AUTH));
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package ru.learning.task_mgt_system.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ru.learning.task_mgt_system.web.controller.SparseFieldsAdvice;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.TaskResponse;
+import ru.learning.task_mgt_system.web.dto.UserResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Configuration class for the encodings of the request and response bodies.
+ * <p>
+ * Besides JSON, every DTO can be exchanged as CBOR ({@code application/cbor}) or Smile
+ * ({@code application/x-jackson-smile}), selected by the {@code Accept} and {@code Content-Type} headers.
+ * Spring MVC registers the converters of these formats after the JSON one, so JSON stays the default;
+ * this class makes them serialize with the same settings as the JSON responses, such as ISO-8601 dates.
+ * <p>
+ * The items of list responses can be trimmed to selected fields, see {@link SparseFieldsAdvice}.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final Optional<ThreadPoolTaskExecutor> streamWriterExecutor;  // Absent in web slice tests
+
+    /**
+     * Marks the items of list responses as filtered by {@link SparseFieldsAdvice}. Bodies written without
+     * the filter, which are all bodies but sparse lists, keep all fields.
+     * Static, as the object mapper this configuration depends on is built with it.
+     *
+     * @return the customizer of the application object mapper.
+     */
+    @Bean
+    public static Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return builder -> builder
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .mixIn(TaskResponse.class, SparseFieldsAdvice.FilteredMixIn.class)
+                .mixIn(CommentResponse.class, SparseFieldsAdvice.FilteredMixIn.class)
+                .mixIn(UserResponse.class, SparseFieldsAdvice.FilteredMixIn.class);
+    }
+
+    /**
+     * Writes the streamed responses, such as the lists of the reactive read API, with the configured writers
+     * instead of a new thread per response, if they are configured.
+     *
+     * @param configurer the configurer of asynchronous request processing.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        streamWriterExecutor.ifPresent(configurer::setTaskExecutor);
+    }
+
+    /**
+     * Replaces the default object mappers of the binary converters by copies of the application object mapper
+     * that write the binary format.
+     *
+     * @param converters the converters registered by Spring MVC.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2CborHttpMessageConverter cbor) {
+                cbor.setObjectMapper(objectMapper.copyWith(cbor.getObjectMapper().getFactory()));
+            } else if (converter instanceof MappingJackson2SmileHttpMessageConverter smile) {
+                smile.setObjectMapper(objectMapper.copyWith(smile.getObjectMapper().getFactory()));
+            }
+        }
+    }
+}
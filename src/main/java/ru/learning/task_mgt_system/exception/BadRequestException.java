@@ -0,0 +1,17 @@
+package ru.learning.task_mgt_system.exception;
+
+/**
+ * Exception thrown when a request is well-formed but cannot be processed as submitted,
+ * for example when it exceeds a configured limit.
+ */
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new {@link BadRequestException} with the specified detail message.
+     *
+     * @param message the detail message to be displayed when the exception is thrown.
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
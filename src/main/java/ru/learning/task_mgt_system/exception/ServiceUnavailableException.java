@@ -0,0 +1,17 @@
+package ru.learning.task_mgt_system.exception;
+
+/**
+ * Exception thrown when a request is rejected because the service
+ * or one of its downstream dependencies is temporarily overloaded.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new {@link ServiceUnavailableException} with the specified detail message.
+     *
+     * @param message the detail message to be displayed when the exception is thrown.
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package ru.learning.task_mgt_system.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when an entity has been changed by someone else since the client read it,
+ * so applying the request would overwrite the other change.
+ */
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * The current version of the entity, or {@code null} if it is not known.
+     */
+    private final Long currentVersion;
+
+    /**
+     * Constructs a new {@link VersionConflictException} with the specified detail message and current version.
+     *
+     * @param message        the detail message to be displayed when the exception is thrown.
+     * @param currentVersion the current version of the entity.
+     */
+    public VersionConflictException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.learning.task_mgt_system.model;
+
+/**
+ * Enumeration for defining the kind of entity a change event refers to.
+ */
+public enum AggregateType {
+    /**
+     * The event refers to a task.
+     */
+    TASK,
+
+    /**
+     * The event refers to a comment.
+     */
+    COMMENT
+}
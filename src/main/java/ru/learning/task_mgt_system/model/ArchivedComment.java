@@ -0,0 +1,80 @@
+package ru.learning.task_mgt_system.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * Entity representing a comment of an archived task.
+ * Moved from the comments table together with its task by the archival job. Archived comments are read-only.
+ */
+@Entity(name = "comments_archive")
+@Table(indexes = @Index(name = "idx_comments_archive_task_id", columnList = "task_id"))
+@Immutable
+@Getter
+@ToString
+@NoArgsConstructor
+public class ArchivedComment {
+
+    /**
+     * Identifier of the comment, kept from the comments table.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * The text of the comment.
+     */
+    @Column(nullable = false)
+    private String text;
+
+    /**
+     * The creation date and time of the comment.
+     */
+    private Instant createdAt;
+
+    /**
+     * The version of the comment when it was archived.
+     */
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * The author of the comment.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    /**
+     * The archived task to which the comment is related.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false, foreignKey = @ForeignKey(name = "fk_comments_archive_task"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    private ArchivedTask task;
+
+    /**
+     * Two archived comments are equal if they are of the same entity class and have the same ID.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) return false;
+        ArchivedComment comment = (ArchivedComment) o;
+        return getId() != null && getId().equals(comment.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClassLazy(this).hashCode();
+    }
+}
@@ -0,0 +1,118 @@
+package ru.learning.task_mgt_system.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Entity representing an archived task.
+ * Completed tasks are moved from the tasks table into this table by the archival job, together with their comments,
+ * so that the queries on active tasks only touch hot data. Archived tasks are read-only.
+ */
+@Entity(name = "tasks_archive")
+@Table(indexes = {
+        @Index(name = "idx_tasks_archive_author_id", columnList = "author_id"),
+        @Index(name = "idx_tasks_archive_assignee_id", columnList = "assignee_id")
+})
+@Immutable
+@Getter
+@ToString
+@NoArgsConstructor
+public class ArchivedTask {
+
+    /**
+     * Identifier of the task, kept from the tasks table.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * Title of the task.
+     */
+    @Column(nullable = false)
+    private String title;
+
+    /**
+     * Description of the task.
+     */
+    @Column(length = 1000)
+    private String description;
+
+    /**
+     * Status of the task.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    /**
+     * Priority of the task.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    /**
+     * Date and time when the task was created.
+     */
+    private Instant createdAt;
+
+    /**
+     * Date and time when the task was last updated.
+     */
+    private Instant updatedAt;
+
+    /**
+     * Version of the task when it was archived.
+     */
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Date and time when the task was archived.
+     */
+    @Column(nullable = false)
+    private Instant archivedAt;
+
+    /**
+     * Author of the task.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    /**
+     * Assignee of the task.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    private User assignee;
+
+    /**
+     * Number of archived comments of the task, counted by the database together with the task.
+     */
+    @Formula("(select count(*) from comments_archive c where c.task_id = id)")
+    private Long commentCount;
+
+    /**
+     * Two archived tasks are equal if they are of the same entity class and have the same ID.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) return false;
+        ArchivedTask task = (ArchivedTask) o;
+        return getId() != null && getId().equals(task.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClassLazy(this).hashCode();
+    }
+}
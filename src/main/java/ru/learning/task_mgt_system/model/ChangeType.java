@@ -0,0 +1,26 @@
+package ru.learning.task_mgt_system.model;
+
+/**
+ * Enumeration for defining the kind of change a change event reports.
+ */
+public enum ChangeType {
+    /**
+     * The entity has been created.
+     */
+    CREATED,
+
+    /**
+     * The entity has been changed.
+     */
+    UPDATED,
+
+    /**
+     * The entity has been deleted.
+     */
+    DELETED,
+
+    /**
+     * The task has been moved to the archive, together with its comments.
+     */
+    ARCHIVED
+}
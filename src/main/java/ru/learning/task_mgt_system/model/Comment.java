@@ -1,11 +1,17 @@
 package ru.learning.task_mgt_system.model;
 
 import jakarta.persistence.*;
-import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.Instant;
 
@@ -14,7 +20,10 @@ import java.time.Instant;
  * Comments are associated with tasks and users.
  */
 @Entity(name = "comments")
-@Data
+@Table(indexes = @Index(name = "idx_comments_task_id_id", columnList = "task_id, id desc"))
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -24,7 +33,7 @@ public class Comment {
      * Unique identifier for the comment.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(value = "comments_seq", reservedIds = true)
     private Long id;
 
     /**
@@ -41,6 +50,15 @@ public class Comment {
     @CreationTimestamp
     private Instant createdAt;
 
+    /**
+     * The version of the comment, incremented on every change.
+     * Used for optimistic locking, so concurrent edits cannot silently overwrite each other.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * The author of the comment.
      * Many-to-one relationship with the {@link User} entity.
@@ -52,8 +70,31 @@ public class Comment {
     /**
      * The task to which the comment is related.
      * Many-to-one relationship with the {@link Task} entity.
+     * The comments of a task are deleted by the database together with the task.
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "task_id", nullable = false)
+    @JoinColumn(name = "task_id", nullable = false, foreignKey = @ForeignKey(name = "fk_comments_task"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Task task;
-}
\ No newline at end of file
+
+    /**
+     * Two comments are equal if they are of the same entity class and have the same non-null ID.
+     * Associations are not compared, so lazy collections are never initialized, nor is an uninitialized proxy
+     * passed as the argument. Calls on a proxy itself are forwarded to the entity by Hibernate and initialize it.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) return false;
+        Comment comment = (Comment) o;
+        return getId() != null && getId().equals(comment.getId());
+    }
+
+    /**
+     * Returns a hash code that does not change when the ID is assigned on persist.
+     */
+    @Override
+    public int hashCode() {
+        return Hibernate.getClassLazy(this).hashCode();
+    }
+}
@@ -0,0 +1,95 @@
+package ru.learning.task_mgt_system.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Entity representing a change of a task or a comment, written to the outbox in the same transaction as the change.
+ * <p>
+ * Events are inserted without a position. The relay assigns positions to committed events in the order of their
+ * IDs, so the feed ordered by position never gets an event behind a position a reader has already passed.
+ * </p>
+ */
+@Entity(name = "outbox_events")
+@Table(indexes = {
+        @Index(name = "idx_outbox_events_position", columnList = "position", unique = true),
+        @Index(name = "idx_outbox_events_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    /**
+     * Identifier of the event, in the order the events have been written.
+     */
+    @Id
+    @PooledSequence("outbox_events_seq")
+    private Long id;
+
+    /**
+     * The kind of entity that has been changed.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AggregateType aggregateType;
+
+    /**
+     * Identifier of the changed entity.
+     */
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    /**
+     * The kind of change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType type;
+
+    /**
+     * The state of the entity after the change as JSON; only the changed fields for set-based changes.
+     */
+    @Column(length = 8000)
+    private String payload;
+
+    /**
+     * The date and time the event has been written.
+     */
+    @Column(updatable = false)
+    @CreationTimestamp
+    private Instant createdAt;
+
+    /**
+     * Position of the event in the feed, assigned by the relay after the event has been committed.
+     */
+    private Long position;
+
+    /**
+     * Two events are equal if they are of the same entity class and have the same ID.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) return false;
+        OutboxEvent event = (OutboxEvent) o;
+        return getId() != null && getId().equals(event.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClassLazy(this).hashCode();
+    }
+}
@@ -0,0 +1,30 @@
+package ru.learning.task_mgt_system.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks an identifier generated by {@link PooledSequenceGenerator} from the given database sequence.
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledSequence {
+
+    /**
+     * Name of the database sequence.
+     */
+    String value();
+
+    /**
+     * Whether an entity may be persisted with an identifier reserved in advance from the sequence. Otherwise
+     * persisting an entity whose identifier is already set fails, so no caller can choose a key.
+     */
+    boolean reservedIds() default false;
+}
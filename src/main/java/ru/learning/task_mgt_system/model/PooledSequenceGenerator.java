@@ -0,0 +1,88 @@
+package ru.learning.task_mgt_system.model;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.mapping.SimpleValue;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.text.MessageFormat;
+import java.util.Properties;
+
+/**
+ * Sequence-based identifier generator with a pooled optimizer and a configurable allocation size,
+ * applied to an identifier by {@link PooledSequence}.
+ * <p>
+ * Unlike identity columns, a sequence lets Hibernate know the identifiers before the rows are inserted,
+ * so inserts can be sent to the database in JDBC batches. One call to the sequence reserves a block of
+ * identifiers of the allocation size, which is read from the Hibernate setting {@value #ALLOCATION_SIZE_SETTING}
+ * (see {@link ru.learning.task_mgt_system.properties.IdGenerationProperties}). The increment of the database
+ * sequence must be equal to the allocation size.
+ * </p>
+ * <p>
+ * Entities that opt in with {@link PooledSequence#reservedIds()} keep an identifier that has been reserved in
+ * advance, see {@link ru.learning.task_mgt_system.repository.CommentRepositoryCustom#reserveId()}, when they are
+ * persisted; they are still recognized as new by their {@code null} version. Persisting any other entity with
+ * an identifier already set fails instead of inserting a key chosen by the caller.
+ * </p>
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Hibernate setting holding the allocation size.
+     */
+    public static final String ALLOCATION_SIZE_SETTING = "app.id.allocation_size";
+
+    /**
+     * Allocation size used if the setting is absent.
+     */
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private final String sequenceName;
+    private final boolean reservedIds;
+
+    public PooledSequenceGenerator(PooledSequence config, Member member, CustomIdGeneratorCreationContext context) {
+        this.sequenceName = config.value();
+        this.reservedIds = config.reservedIds();
+        if (reservedIds) {
+            // Otherwise Hibernate takes an entity with an identifier but no version for a detached one and refuses
+            // to persist it; with an undefined unsaved value, the version alone tells whether the entity is new
+            ((SimpleValue) context.getProperty().getValue()).setNullValue("undefined");
+        }
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        Object allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .get(ALLOCATION_SIZE_SETTING);
+
+        parameters.put(SEQUENCE_PARAM, sequenceName);
+        parameters.put(INCREMENT_PARAM, allocationSize == null ? String.valueOf(DEFAULT_ALLOCATION_SIZE) : allocationSize.toString());
+        parameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (object != null) {
+            EntityPersister persister = session.getEntityPersister(null, object);
+            Object assignedId = persister.getIdentifier(object, session);
+            if (assignedId != null) {
+                if (reservedIds) {
+                    return assignedId;
+                }
+                throw new IdentifierGenerationException(MessageFormat.format(
+                        "Entity {0} must not be persisted with an assigned identifier: {1}.", persister.getEntityName(), assignedId));
+            }
+        }
+        return super.generate(session, object);
+    }
+}
@@ -2,6 +2,8 @@ package ru.learning.task_mgt_system.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,7 +16,15 @@ import java.util.List;
  * Contains information about the task including title, description, status, priority, author, and assignee.
  */
 @Entity(name = "tasks")
-@Data
+@Table(indexes = {
+        @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at"),
+        // The tasks of a user are counted by these, see UserRepositoryCustom
+        @Index(name = "idx_tasks_author_id", columnList = "author_id"),
+        @Index(name = "idx_tasks_assignee_id", columnList = "assignee_id")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -24,7 +34,7 @@ public class Task {
      * Unique identifier of the task.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("tasks_seq")
     private Long id;
 
     /**
@@ -72,6 +82,16 @@ public class Task {
     @UpdateTimestamp
     private Instant updatedAt;
 
+    /**
+     * Version of the task, incremented on every change.
+     * Used for optimistic locking, so concurrent updates cannot silently overwrite each other.
+     * Rows created before the column existed start at version 0.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Author of the task.
      * Many-to-one relationship with the {@link User} entity.
@@ -91,9 +111,32 @@ public class Task {
     /**
      * List of comments associated with the task.
      * One-to-many relationship with the {@link Comment} entity.
+     * Removal is not cascaded: the database deletes the comments of a deleted task
+     * (see {@link Comment#getTask()}), so they are never loaded for that.
      */
-    @OneToMany(mappedBy = "task", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "task", fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @ToString.Exclude
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
-}
\ No newline at end of file
+
+    /**
+     * Two tasks are equal if they are of the same entity class and have the same non-null ID.
+     * Associations are not compared, so lazy collections are never initialized, nor is an uninitialized proxy
+     * passed as the argument. Calls on a proxy itself are forwarded to the entity by Hibernate and initialize it.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) return false;
+        Task task = (Task) o;
+        return getId() != null && getId().equals(task.getId());
+    }
+
+    /**
+     * Returns a hash code that does not change when the ID is assigned on persist.
+     */
+    @Override
+    public int hashCode() {
+        return Hibernate.getClassLazy(this).hashCode();
+    }
+}
@@ -2,6 +2,7 @@ package ru.learning.task_mgt_system.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,7 +13,9 @@ import java.util.List;
  * and tasks associated with the user as author and assignee.
  */
 @Entity(name = "users")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -22,7 +25,7 @@ public class User {
      * Unique identifier of the user.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("users_seq")
     private Long id;
 
     /**
@@ -56,4 +59,25 @@ public class User {
     @ToString.Exclude
     @Builder.Default
     private List<Task> assignedTasks = new ArrayList<>();
-}
\ No newline at end of file
+
+    /**
+     * Two users are equal if they are of the same entity class and have the same non-null ID.
+     * Associations are not compared, so lazy collections are never initialized, nor is an uninitialized proxy
+     * passed as the argument. Calls on a proxy itself are forwarded to the entity by Hibernate and initialize it.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) return false;
+        User user = (User) o;
+        return getId() != null && getId().equals(user.getId());
+    }
+
+    /**
+     * Returns a hash code that does not change when the ID is assigned on persist.
+     */
+    @Override
+    public int hashCode() {
+        return Hibernate.getClassLazy(this).hashCode();
+    }
+}
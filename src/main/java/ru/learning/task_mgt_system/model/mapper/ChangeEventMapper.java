@@ -0,0 +1,24 @@
+package ru.learning.task_mgt_system.model.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import ru.learning.task_mgt_system.model.OutboxEvent;
+import ru.learning.task_mgt_system.web.dto.ChangeEventResponse;
+
+/**
+ * Mapper for converting {@link OutboxEvent} entities to change feed DTOs.
+ * This mapper uses MapStruct to automatically generate implementations for the mapping methods.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ChangeEventMapper {
+
+    /**
+     * Maps an {@link OutboxEvent} entity to a {@link ChangeEventResponse} DTO.
+     *
+     * @param event the {@link OutboxEvent} entity to be mapped.
+     * @return the corresponding {@link ChangeEventResponse} DTO.
+     */
+    @Mapping(source = "createdAt", target = "occurredAt")
+    ChangeEventResponse outboxEventToResponse(OutboxEvent event);
+}
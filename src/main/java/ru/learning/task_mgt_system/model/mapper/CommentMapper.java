@@ -1,5 +1,8 @@
 package ru.learning.task_mgt_system.model.mapper;
 
+import io.r2dbc.spi.Readable;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
@@ -9,6 +12,8 @@ import ru.learning.task_mgt_system.web.dto.CommentListResponse;
 import ru.learning.task_mgt_system.web.dto.CommentRequest;
 import ru.learning.task_mgt_system.web.dto.CommentResponse;
 
+import java.time.Instant;
+
 /**
  * Mapper for converting between {@link Comment} entities and their corresponding Data Transfer Objects (DTOs).
  * This mapper uses MapStruct to automatically generate implementations for the mapping methods.
@@ -53,4 +58,64 @@ public interface CommentMapper {
         response.setPageSize(commentPage.getSize());
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts a {@link Page} of tuples holding selected comment fields to a {@link CommentListResponse} DTO.
+     * The fields that have not been selected are left empty in the responses.
+     *
+     * @param commentPage the {@link Page} of tuples, with the fields under their names in {@link CommentResponse}.
+     * @return the corresponding {@link CommentListResponse} DTO containing paginated comment data.
+     */
+    default CommentListResponse tupleListToCommentListResponse(Page<Tuple> commentPage) {
+        CommentListResponse response = new CommentListResponse();
+        response.setComments(commentPage.getContent().stream()
+                .map(this::tupleToCommentResponse)
+                .toList());
+
+        response.setTotalElements(commentPage.getTotalElements());
+        response.setTotalPages(commentPage.getTotalPages());
+        response.setCurrentPage(commentPage.getNumber());
+        response.setPageSize(commentPage.getSize());
+        return response;
+    }
+
+    /**
+     * Maps a tuple holding selected comment fields to a {@link CommentResponse} DTO.
+     *
+     * @param tuple the tuple, with the fields under their names in {@link CommentResponse}.
+     * @return the corresponding {@link CommentResponse} DTO with the fields that have not been selected left empty.
+     */
+    default CommentResponse tupleToCommentResponse(Tuple tuple) {
+        CommentResponse response = new CommentResponse();
+        for (TupleElement<?> element : tuple.getElements()) {
+            Object value = tuple.get(element);
+            switch (element.getAlias()) {
+                case "id" -> response.setId((Long) value);
+                case "taskId" -> response.setTaskId((Long) value);
+                case "authorId" -> response.setAuthorId((Long) value);
+                case "text" -> response.setText((String) value);
+                case "createdAt" -> response.setCreatedAt((Instant) value);
+                case "version" -> response.setVersion((Long) value);
+                default -> throw new IllegalArgumentException("Unknown comment field: " + element.getAlias());
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Maps a database row holding the comment fields to a {@link CommentResponse} DTO.
+     *
+     * @param row the row, with the columns under the names of the fields in {@link CommentResponse}.
+     * @return the corresponding {@link CommentResponse} DTO.
+     */
+    default CommentResponse rowToCommentResponse(Readable row) {
+        CommentResponse response = new CommentResponse();
+        response.setId(row.get("id", Long.class));
+        response.setTaskId(row.get("taskId", Long.class));
+        response.setAuthorId(row.get("authorId", Long.class));
+        response.setText(row.get("text", String.class));
+        response.setCreatedAt(row.get("createdAt", Instant.class));
+        response.setVersion(row.get("version", Long.class));
+        return response;
+    }
+}
@@ -1,16 +1,24 @@
 package ru.learning.task_mgt_system.model.mapper;
 
+import io.r2dbc.spi.Readable;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.data.domain.Page;
+import ru.learning.task_mgt_system.model.ArchivedTask;
 import ru.learning.task_mgt_system.model.Comment;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
 import ru.learning.task_mgt_system.model.Task;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
 import ru.learning.task_mgt_system.web.dto.TaskListResponse;
 import ru.learning.task_mgt_system.web.dto.TaskRequest;
 import ru.learning.task_mgt_system.web.dto.TaskResponse;
 import ru.learning.task_mgt_system.web.dto.TaskResponseWithComments;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -35,6 +43,19 @@ public interface TaskMapper {
     @Mapping(source = "assignee.id", target = "assigneeId")
     TaskResponse taskToResponse(Task task);
 
+    /**
+     * Maps a {@link Task} entity to a {@link TaskResponse} DTO without the number of comments.
+     * <p>
+     * Used for the change events of many tasks at once, so the lazy comment collections are not loaded.
+     *
+     * @param task the {@link Task} entity to be mapped.
+     * @return the corresponding {@link TaskResponse} DTO with the number of comments left empty.
+     */
+    @Mapping(source = "author.id", target = "authorId")
+    @Mapping(source = "assignee.id", target = "assigneeId")
+    @Mapping(target = "comments", ignore = true)
+    TaskResponse taskToResponseWithoutComments(Task task);
+
     /**
      * Maps a {@link TaskRequest} DTO to a {@link Task} entity.
      * <p>
@@ -57,11 +78,75 @@ public interface TaskMapper {
      * @return the corresponding {@link TaskListResponse} DTO with task data and pagination details.
      */
     default TaskListResponse taskListToTaskListResponse(Page<Task> taskPage) {
-        TaskListResponse response = new TaskListResponse();
-        response.setTasks(taskPage.getContent().stream()
-                .map(this::taskToResponse)
-                .toList());
+        return toTaskListResponse(taskPage.map(this::taskToResponse));
+    }
+
+    /**
+     * Converts a {@link Page} of tuples holding selected task fields to a {@link TaskListResponse} DTO.
+     * <p>
+     * The fields that have not been selected are left empty in the responses.
+     *
+     * @param taskPage the {@link Page} of tuples, with the fields under their names in {@link TaskResponse}.
+     * @return the corresponding {@link TaskListResponse} DTO with task data and pagination details.
+     */
+    default TaskListResponse tupleListToTaskListResponse(Page<Tuple> taskPage) {
+        return toTaskListResponse(taskPage.map(this::tupleToResponse));
+    }
+
+    /**
+     * Maps a tuple holding selected task fields to a {@link TaskResponse} DTO.
+     *
+     * @param tuple the tuple, with the fields under their names in {@link TaskResponse}.
+     * @return the corresponding {@link TaskResponse} DTO with the fields that have not been selected left empty.
+     */
+    default TaskResponse tupleToResponse(Tuple tuple) {
+        TaskResponse response = new TaskResponse();
+        for (TupleElement<?> element : tuple.getElements()) {
+            Object value = tuple.get(element);
+            switch (element.getAlias()) {
+                case "id" -> response.setId((Long) value);
+                case "title" -> response.setTitle((String) value);
+                case "description" -> response.setDescription((String) value);
+                case "status" -> response.setStatus(value == null ? null : ((Status) value).name());
+                case "priority" -> response.setPriority(value == null ? null : ((Priority) value).name());
+                case "authorId" -> response.setAuthorId((Long) value);
+                case "assigneeId" -> response.setAssigneeId((Long) value);
+                case "createdAt" -> response.setCreatedAt((Instant) value);
+                case "updatedAt" -> response.setUpdatedAt((Instant) value);
+                case "version" -> response.setVersion((Long) value);
+                case "comments" -> response.setComments((Long) value);
+                default -> throw new IllegalArgumentException("Unknown task field: " + element.getAlias());
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Maps an {@link ArchivedTask} entity to a {@link TaskResponse} DTO.
+     * <p>
+     * The number of comments is counted by the database together with the task, so no comments are loaded.
+     *
+     * @param task the {@link ArchivedTask} entity to be mapped.
+     * @return the corresponding {@link TaskResponse} DTO.
+     */
+    @Mapping(source = "author.id", target = "authorId")
+    @Mapping(source = "assignee.id", target = "assigneeId")
+    @Mapping(source = "commentCount", target = "comments")
+    TaskResponse archivedTaskToResponse(ArchivedTask task);
 
+    /**
+     * Converts a {@link Page} of {@link ArchivedTask} entities to a {@link TaskListResponse} DTO.
+     *
+     * @param taskPage the {@link Page} of {@link ArchivedTask} entities to be converted.
+     * @return the corresponding {@link TaskListResponse} DTO with task data and pagination details.
+     */
+    default TaskListResponse archivedTaskListToTaskListResponse(Page<ArchivedTask> taskPage) {
+        return toTaskListResponse(taskPage.map(this::archivedTaskToResponse));
+    }
+
+    private TaskListResponse toTaskListResponse(Page<TaskResponse> taskPage) {
+        TaskListResponse response = new TaskListResponse();
+        response.setTasks(taskPage.getContent());
         response.setTotalElements(taskPage.getTotalElements());
         response.setTotalPages(taskPage.getTotalPages());
         response.setCurrentPage(taskPage.getNumber());
@@ -83,6 +168,20 @@ public interface TaskMapper {
     @Mapping(source = "comments", target = "comments")
     TaskResponseWithComments taskToResponseWithComments(Task task);
 
+    /**
+     * Maps a {@link Task} entity to a {@link TaskResponseWithComments} DTO without its comments.
+     * <p>
+     * Used by the export, which reads the comments with a cursor of their own, so the lazy collection
+     * of the task is never initialized.
+     *
+     * @param task the {@link Task} entity to be mapped.
+     * @return the corresponding {@link TaskResponseWithComments} DTO with the comments left empty.
+     */
+    @Mapping(source = "author.id", target = "authorId")
+    @Mapping(source = "assignee.id", target = "assigneeId")
+    @Mapping(target = "comments", ignore = true)
+    TaskResponseWithComments taskToExportResponse(Task task);
+
     /**
      * Counts the number of comments in a list.
      * <p>
@@ -104,4 +203,58 @@ public interface TaskMapper {
      * @return the corresponding {@link Task} entity.
      */
     Task taskRequestResponseWithCommentsToTask(TaskResponseWithComments taskResponseWithComments);
-}
\ No newline at end of file
+
+    /**
+     * Maps a database row holding the task fields to a {@link TaskResponse} DTO.
+     *
+     * @param row the row, with the columns under the names of the fields in {@link TaskResponse}.
+     * @return the corresponding {@link TaskResponse} DTO.
+     */
+    default TaskResponse rowToResponse(Readable row) {
+        return TaskResponse.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .status(row.get("status", String.class))
+                .priority(row.get("priority", String.class))
+                .authorId(row.get("authorId", Long.class))
+                .assigneeId(row.get("assigneeId", Long.class))
+                .createdAt(row.get("createdAt", Instant.class))
+                .updatedAt(row.get("updatedAt", Instant.class))
+                .version(row.get("version", Long.class))
+                .comments(row.get("comments", Long.class))
+                .build();
+    }
+
+    /**
+     * Combines the fields of a task read from the database with its comments.
+     *
+     * @param task     the fields of the task.
+     * @param comments the comments of the task.
+     * @return the corresponding {@link TaskResponseWithComments} DTO.
+     */
+    default TaskResponseWithComments responseToResponseWithComments(TaskResponse task, List<CommentResponse> comments) {
+        return TaskResponseWithComments.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .authorId(task.getAuthorId())
+                .assigneeId(task.getAssigneeId())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
+                .comments(comments)
+                .build();
+    }
+
+    /**
+     * Maps a {@link TaskResponseWithComments} DTO to a {@link TaskResponse} DTO holding the number of its comments.
+     *
+     * @param task the task with its comments.
+     * @return the corresponding {@link TaskResponse} DTO.
+     */
+    @Mapping(target = "comments", expression = "java(task.getComments() == null ? null : (long) task.getComments().size())")
+    TaskResponse responseWithCommentsToResponse(TaskResponseWithComments task);
+}
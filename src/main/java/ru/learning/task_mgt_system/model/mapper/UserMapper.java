@@ -1,15 +1,15 @@
 package ru.learning.task_mgt_system.model.mapper;
 
+import io.r2dbc.spi.Readable;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.data.domain.Page;
-import ru.learning.task_mgt_system.model.Task;
 import ru.learning.task_mgt_system.model.User;
 import ru.learning.task_mgt_system.web.dto.UserListResponse;
 import ru.learning.task_mgt_system.web.dto.UserResponse;
 
-import java.util.List;
-
 /**
  * Mapper for converting between {@link User} entities and their corresponding Data Transfer Objects (DTOs).
  * <p>
@@ -19,30 +19,10 @@ import java.util.List;
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface UserMapper {
 
-    /**
-     * Maps a {@link User} entity to a {@link UserResponse} DTO.
-     * <p>
-     * This method converts a {@link User} entity to a {@link UserResponse} DTO, mapping fields from the entity
-     * to the DTO.
-     *
-     * @param user the {@link User} entity to be mapped.
-     * @return the corresponding {@link UserResponse} DTO.
-     */
-    UserResponse userToUserResponse(User user);
-
-    /**
-     * Converts a {@link Page} of {@link User} entities to a {@link UserListResponse} DTO.
-     * <p>
-     * This method converts a page of {@link User} entities to a {@link UserListResponse} DTO, including a list
-     * of users and pagination information.
-     *
-     * @param userPage the {@link Page} of {@link User} entities to be converted.
-     * @return the corresponding {@link UserListResponse} DTO with user data and pagination details.
-     */
-    default UserListResponse userListToUserListResponse(Page<User> userPage) {
+    default UserListResponse tupleListToUserListResponse(Page<Tuple> userPage) {
         UserListResponse response = new UserListResponse();
         response.setUsers(userPage.getContent().stream()
-                .map(this::userToUserResponse)
+                .map(this::tupleToUserResponse)
                 .toList());
 
         response.setTotalElements(userPage.getTotalElements());
@@ -52,15 +32,35 @@ public interface UserMapper {
         return response;
     }
 
+    default UserResponse tupleToUserResponse(Tuple tuple) {
+        UserResponse response = new UserResponse();
+        for (TupleElement<?> element : tuple.getElements()) {
+            Object value = tuple.get(element);
+            switch (element.getAlias()) {
+                case "id" -> response.setId((Long) value);
+                case "email" -> response.setEmail((String) value);
+                case "fullName" -> response.setFullName((String) value);
+                case "assignedTasks" -> response.setAssignedTasks((Long) value);
+                case "authoredTasks" -> response.setAuthoredTasks((Long) value);
+                default -> throw new IllegalArgumentException("Unknown user field: " + element.getAlias());
+            }
+        }
+        return response;
+    }
+
     /**
-     * Counts the number of tasks in a list.
-     * <p>
-     * This method counts the number of {@link Task} objects in a list and returns the count as a {@link Long}.
+     * Maps a database row holding the user fields to a {@link UserResponse} DTO.
      *
-     * @param tasks the list of {@link Task} objects.
-     * @return the count of tasks in the list.
+     * @param row the row, with the columns under the names of the fields in {@link UserResponse}.
+     * @return the corresponding {@link UserResponse} DTO.
      */
-    default Long countTasks(List<Task> tasks) {
-        return (long) tasks.size();
+    default UserResponse rowToUserResponse(Readable row) {
+        UserResponse response = new UserResponse();
+        response.setId(row.get("id", Long.class));
+        response.setEmail(row.get("email", String.class));
+        response.setFullName(row.get("fullName", String.class));
+        response.setAssignedTasks(row.get("assignedTasks", Long.class));
+        response.setAuthoredTasks(row.get("authoredTasks", Long.class));
+        return response;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Class for holding the settings of the archival of completed tasks.
+ * The properties will be loaded from the configuration file with the prefix "app.archive".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.archive")
+public class ArchiveProperties {
+
+    /**
+     * Whether the archival job runs on schedule.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time since their last change after which completed tasks are archived.
+     */
+    private Duration completedAge = Duration.ofDays(30);
+
+    /**
+     * Number of tasks moved per transaction, which bounds the time rows are locked.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Delay between the end of a run of the job and the start of the next one.
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * Delay between the start of the application and the first run of the job.
+     */
+    private Duration initialDelay = Duration.ofMinutes(5);
+}
@@ -0,0 +1,18 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Class for holding the settings of the bulk task endpoints.
+ * The properties will be loaded from the configuration file with the prefix "app.bulk".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.bulk")
+public class BulkProperties {
+
+    /**
+     * Maximum number of items accepted by a single bulk request.
+     */
+    private int maxItems = 1000;
+}
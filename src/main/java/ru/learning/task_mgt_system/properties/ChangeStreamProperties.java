@@ -0,0 +1,46 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Class for holding the settings of the live stream of task and comment changes.
+ * The properties will be loaded from the configuration file with the prefix "app.change-stream".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.change-stream")
+public class ChangeStreamProperties {
+
+    /**
+     * Delay between two reads of the change feed on behalf of all connections.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Interval of the heartbeats that keep idle connections open through proxies.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Time after which a connection is closed; the client reconnects and resumes with its last event ID.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Number of events buffered per connection. A connection whose client does not keep up is closed
+     * and resumes from the change feed when it reconnects.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Maximum number of open connections on this instance.
+     */
+    private int maxConnections = 10000;
+
+    /**
+     * Number of threads writing the events to the connections.
+     */
+    private int senderThreads = 8;
+}
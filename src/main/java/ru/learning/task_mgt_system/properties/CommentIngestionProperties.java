@@ -0,0 +1,41 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Class for holding the settings of the asynchronous comment ingestion.
+ * The properties will be loaded from the configuration file with the prefix "app.comment-ingestion".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.comment-ingestion")
+public class CommentIngestionProperties {
+
+    /**
+     * Maximum number of accepted comments waiting to be written. It bounds both the memory used by the buffer
+     * and the number of acknowledged comments that are lost if the process crashes.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Number of comments written with one transaction; a full batch is written immediately.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum time a comment waits in the buffer for the batch to fill up.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Time a request waits for free space in a full buffer before it is rejected with 503.
+     */
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    /**
+     * Maximum time the shutdown waits for the buffered comments to be written.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
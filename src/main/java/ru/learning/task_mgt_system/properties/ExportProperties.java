@@ -0,0 +1,19 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Class for holding the settings of the streaming task export.
+ * The properties will be loaded from the configuration file with the prefix "app.export".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    /**
+     * Number of rows fetched from the database cursor at a time.
+     * The entities read are detached after every fetch, so this bounds the memory used by an export.
+     */
+    private int fetchSize = 1000;
+}
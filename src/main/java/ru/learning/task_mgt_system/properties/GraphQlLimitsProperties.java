@@ -0,0 +1,28 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Class for holding the limits of the GraphQL API, which protect the database from expensive queries.
+ * The properties will be loaded from the configuration file with the prefix "app.graphql".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.graphql")
+public class GraphQlLimitsProperties {
+
+    /**
+     * Maximum nesting depth of a query.
+     */
+    private int maxDepth = 8;
+
+    /**
+     * Maximum complexity of a query: every field counts one, the fields of a list count once per requested item.
+     */
+    private int maxComplexity = 5000;
+
+    /**
+     * Maximum number of items of a list field, such as the tasks of a page or the latest comments of a task.
+     */
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,19 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Class for holding the settings of the entity identifier generation.
+ * The properties will be loaded from the configuration file with the prefix "app.id".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.id")
+public class IdGenerationProperties {
+
+    /**
+     * Number of identifiers reserved by one call to a sequence.
+     * Must be equal to the increment of the database sequences.
+     */
+    private int allocationSize = 50;
+}
@@ -0,0 +1,24 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Class for holding the settings of the streaming task import.
+ * The properties will be loaded from the configuration file with the prefix "app.import".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    /**
+     * Number of rows validated and inserted together with one transaction.
+     * A progress line is reported after every chunk.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Maximum length of a single row in characters; longer rows are skipped and reported.
+     */
+    private int maxRowLength = 16384;
+}
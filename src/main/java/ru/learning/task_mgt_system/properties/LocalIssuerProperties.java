@@ -0,0 +1,54 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class for holding the settings of the embedded token issuer used by the "local-issuer" profile.
+ * The properties will be loaded from the configuration file with the prefix "app.local-issuer".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.local-issuer")
+public class LocalIssuerProperties {
+
+    /**
+     * Value of the "iss" claim of issued tokens. Tokens with a different issuer are rejected.
+     */
+    private String issuer = "http://localhost:8081/local-issuer";
+
+    /**
+     * Lifetime of issued access tokens.
+     */
+    private Duration tokenTtl = Duration.ofHours(1);
+
+    /**
+     * Claims used for users that are not listed in {@link #users}.
+     */
+    private UserClaims defaultClaims = new UserClaims();
+
+    /**
+     * Map where the key is the user email and the value is the claims issued for that user.
+     */
+    private final Map<String, UserClaims> users = new HashMap<>();
+
+    /**
+     * Nested class for holding the name claims of a user.
+     * The "preferred_username" claim is always the email the token is requested for.
+     */
+    @Data
+    public static class UserClaims {
+        /**
+         * Value of the "given_name" claim.
+         */
+        private String givenName = "Load";
+
+        /**
+         * Value of the "family_name" claim.
+         */
+        private String familyName = "Tester";
+    }
+}
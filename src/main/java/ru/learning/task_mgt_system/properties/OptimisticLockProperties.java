@@ -0,0 +1,24 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Class for holding the settings of the optimistic locking of tasks.
+ * The properties will be loaded from the configuration file with the prefix "app.optimistic-lock".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.optimistic-lock")
+public class OptimisticLockProperties {
+
+    /**
+     * Whether an update that lost a race is retried on the server when the concurrent change touched
+     * other fields than the update itself, for example when only the status has been changed meanwhile.
+     */
+    private boolean retryEnabled = false;
+
+    /**
+     * Maximum number of retries of a single update.
+     */
+    private int maxRetries = 3;
+}
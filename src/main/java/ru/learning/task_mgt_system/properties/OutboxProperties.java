@@ -0,0 +1,40 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Class for holding the settings of the outbox of change events and of the change feed.
+ * The properties will be loaded from the configuration file with the prefix "app.outbox".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Delay between two runs of the relay that publishes the committed events to the feed.
+     */
+    private Duration relayInterval = Duration.ofSeconds(1);
+
+    /**
+     * Number of events published per transaction of the relay.
+     */
+    private int relayBatchSize = 1000;
+
+    /**
+     * Time published events are kept; a reader that falls further behind has to resynchronize.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Delay between two runs of the cleanup of expired events.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+
+    /**
+     * Maximum number of events returned by one read of the feed.
+     */
+    private int maxPageSize = 1000;
+}
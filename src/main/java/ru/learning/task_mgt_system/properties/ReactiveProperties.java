@@ -0,0 +1,62 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Class for holding the settings of the reactive read API and its non-blocking database connections.
+ * The properties will be loaded from the configuration file with the prefix "app.reactive".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.reactive")
+public class ReactiveProperties {
+
+    /**
+     * R2DBC URL of the database, e.g. {@code r2dbc:postgresql://localhost:5432/task_management?schema=app_schema}.
+     */
+    private String url;
+
+    /**
+     * Database username.
+     */
+    private String username;
+
+    /**
+     * Database password.
+     */
+    private String password;
+
+    /**
+     * Number of connections opened with the pool.
+     */
+    private int initialPoolSize = 1;
+
+    /**
+     * Maximum number of pooled connections; queries waiting for a connection do not hold a thread.
+     */
+    private int maxPoolSize = 10;
+
+    /**
+     * Time after which idle connections are closed.
+     */
+    private Duration maxIdleTime = Duration.ofMinutes(30);
+
+    /**
+     * Time a query may wait for a free connection before it fails.
+     */
+    private Duration maxAcquireTime = Duration.ofSeconds(5);
+
+    /**
+     * Number of threads writing the streamed lists to the clients. A writer waits while its client does not read;
+     * the reactive read API runs on virtual threads only, so this can be raised to the number of concurrent readers.
+     */
+    private int writerThreads = 32;
+
+    /**
+     * Maximum number of lists streamed at once. The streams beyond the writer threads wait in the queue of
+     * the writers, which holds this many; further list requests are rejected with 503 Service Unavailable.
+     */
+    private int maxStreams = 1000;
+}
@@ -0,0 +1,21 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Class for holding the settings of the task statistics.
+ * The properties will be loaded from the configuration file with the prefix "app.statistics".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.statistics")
+public class TaskStatisticsProperties {
+
+    /**
+     * Delay between two recounts of the tasks by the database, which correct the in-memory counters
+     * for the changes they have missed, such as the archival or the changes made by other instances.
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,51 @@
+package ru.learning.task_mgt_system.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Class for holding the settings of the HTTP client used to proxy token requests to the authorization server.
+ * The properties will be loaded from the configuration file with the prefix "app.token-client".
+ */
+@Data
+@ConfigurationProperties(prefix = "app.token-client")
+public class TokenClientProperties {
+
+    /**
+     * Maximum number of pooled connections kept by the client.
+     */
+    private int maxConnections = 50;
+
+    /**
+     * Maximum number of pooled connections per route (the token endpoint is a single route).
+     */
+    private int maxConnectionsPerRoute = 50;
+
+    /**
+     * Timeout for establishing a TCP connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Timeout for waiting on the response once the request has been sent.
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Timeout for leasing a connection from the pool.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Duration for which an idle connection is kept alive for reuse.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of token requests executed concurrently (bulkhead size).
+     * Requests beyond this limit are rejected at once.
+     */
+    private int maxConcurrentRequests = 32;
+}
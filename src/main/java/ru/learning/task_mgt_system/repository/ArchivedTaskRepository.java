@@ -0,0 +1,14 @@
+package ru.learning.task_mgt_system.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+import ru.learning.task_mgt_system.model.ArchivedTask;
+
+/**
+ * Repository interface for reading {@link ArchivedTask} entities.
+ * Provides support for pagination and specification-based querying.
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long>, JpaSpecificationExecutor<ArchivedTask> {
+}
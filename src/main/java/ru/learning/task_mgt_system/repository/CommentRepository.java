@@ -3,15 +3,21 @@ package ru.learning.task_mgt_system.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.learning.task_mgt_system.model.Comment;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for performing CRUD operations and custom queries
  * on {@link Comment} entities. Provides support for pagination.
  */
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
     /**
      * Finds comments associated with a specific task.
@@ -22,6 +28,21 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Page<Comment> findByTaskId(Long taskId, Pageable pageable);
 
+    /**
+     * Finds the latest comments of many tasks with one query: the comments of every task are numbered from
+     * the newest one, in the order of the index on task and ID, and the first {@code limit} are selected.
+     * Every comment of the tasks is read once, however many comments a task has.
+     *
+     * @param taskIds the IDs of the tasks whose comments are to be retrieved.
+     * @param limit   the maximum number of comments per task.
+     * @return the latest comments of the tasks, ordered by task and from the newest comment to the oldest.
+     */
+    @Query(value = "select id, text, created_at, version, author_id, task_id from (" +
+            "select c.*, row_number() over (partition by c.task_id order by c.id desc) as rn " +
+            "from comments c where c.task_id in (:taskIds)) latest " +
+            "where rn <= :limit order by task_id, id desc", nativeQuery = true)
+    List<Comment> findLatestByTaskIds(@Param("taskIds") Collection<Long> taskIds, @Param("limit") long limit);
+
     /**
      * Finds comments authored by a specific user.
      *
@@ -40,4 +61,32 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return a {@link Page} of comments associated with the specified task and authored by the specified user.
      */
     Page<Comment> findByTaskIdAndAuthorId(Long taskId, Long authorId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Checks whether a comment with the given ID is authored by the given user.
+     * The check is answered from the primary key index without loading the comment.
+     *
+     * @param id       the ID of the comment.
+     * @param authorId the ID of the author.
+     * @return true if the comment exists and is authored by the user, false otherwise.
+     */
+    boolean existsByIdAndAuthorId(Long id, Long authorId);
+
+    /**
+     * Finds the current version of a comment without loading it.
+     *
+     * @param id the ID of the comment.
+     * @return an {@link Optional} containing the version, or an empty {@link Optional} if the comment does not exist.
+     */
+    @Query("select e.version from comments e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Finds the ID of the task of a comment without loading the comment.
+     *
+     * @param id the ID of the comment.
+     * @return an {@link Optional} containing the task ID, or an empty {@link Optional} if the comment does not exist.
+     */
+    @Query("select e.task.id from comments e where e.id = :id")
+    Optional<Long> findTaskIdById(@Param("id") Long id);
+}
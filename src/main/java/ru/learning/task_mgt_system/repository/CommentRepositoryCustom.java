@@ -0,0 +1,49 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import ru.learning.task_mgt_system.model.Comment;
+import ru.learning.task_mgt_system.model.Task;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for {@link Comment} entities.
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * Reserves an ID for a comment that will be persisted later.
+     * <p>
+     * The ID is taken from the same pooled sequence as the IDs assigned on persist, so it is usually handed out
+     * from memory without a database call. A comment persisted with the reserved ID keeps it.
+     *
+     * @return the reserved ID.
+     */
+    Long reserveId();
+
+    /**
+     * Streams the comments of the tasks matching a specification, ordered by task ID and ID, from a database cursor.
+     * The comments are detached as the stream is consumed. Must be called within a transaction,
+     * and the stream must be closed.
+     *
+     * @param specification the specification the tasks must match.
+     * @param fetchSize     the number of rows fetched from the cursor at a time.
+     * @return the stream of the comments.
+     */
+    Stream<Comment> streamByTasks(Specification<Task> specification, int fetchSize);
+
+    /**
+     * Finds a page of the given fields of the comments matching the specification, ordered by ID, without loading
+     * the comments. The fields are named as in the comment response.
+     *
+     * @param specification the specification the comments must match.
+     * @param fields        the names of the fields to read.
+     * @param pageable      the pagination information.
+     * @return the page of tuples holding the requested fields under their names.
+     */
+    Page<Tuple> findFields(Specification<Comment> specification, Collection<String> fields, Pageable pageable);
+}
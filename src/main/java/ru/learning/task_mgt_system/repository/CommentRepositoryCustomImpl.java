@@ -0,0 +1,64 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+import ru.learning.task_mgt_system.model.Comment;
+import ru.learning.task_mgt_system.model.Task;
+import ru.learning.task_mgt_system.repository.ProjectionQueries.Column;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link CommentRepositoryCustom} that uses the identifier generator of the {@link Comment} entity
+ * and the JPA Criteria API, so that the {@link TaskSpecification} filters can select the tasks of the comments.
+ */
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private static final Map<String, Column<Comment>> COLUMNS = Map.of(
+            "id", (root, query, criteriaBuilder) -> root.get("id"),
+            "taskId", (root, query, criteriaBuilder) -> root.get("task").get("id"),
+            "authorId", (root, query, criteriaBuilder) -> root.get("author").get("id"),
+            "text", (root, query, criteriaBuilder) -> root.get("text"),
+            "createdAt", (root, query, criteriaBuilder) -> root.get("createdAt"),
+            "version", (root, query, criteriaBuilder) -> root.get("version"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Long reserveId() {
+        return IdReservation.reserve(entityManager, Comment.class, 1).get(0);
+    }
+
+    @Override
+    public Stream<Comment> streamByTasks(Specification<Task> specification, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Comment> query = criteriaBuilder.createQuery(Comment.class);
+        Root<Comment> root = query.from(Comment.class);
+        Path<Long> taskId = root.get("task").get("id");
+
+        Subquery<Long> tasks = query.subquery(Long.class);
+        Root<Task> task = tasks.from(Task.class);
+        Predicate predicate = specification.toPredicate(task, query, criteriaBuilder);
+        if (predicate != null) {
+            tasks.select(task.get("id")).where(predicate);
+            query.where(taskId.in(tasks));
+        }
+        query.select(root).orderBy(criteriaBuilder.asc(taskId), criteriaBuilder.asc(root.get("id")));
+        return CursorQueries.stream(entityManager, entityManager.createQuery(query), fetchSize);
+    }
+
+    @Override
+    public Page<Tuple> findFields(Specification<Comment> specification, Collection<String> fields, Pageable pageable) {
+        return ProjectionQueries.findPage(entityManager, Comment.class, COLUMNS, fields, specification, pageable);
+    }
+}
@@ -0,0 +1,30 @@
+package ru.learning.task_mgt_system.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.learning.task_mgt_system.model.Comment;
+
+/**
+ * Provides static methods for creating JPA {@link Specification} objects used to filter {@link Comment} entities.
+ */
+public interface CommentSpecification {
+
+    /**
+     * Creates a {@link Specification} that filters {@link Comment} entities based on the ID of their task.
+     *
+     * @param taskId The ID of the task to filter by.
+     * @return A {@link Specification} for filtering comments by task ID.
+     */
+    static Specification<Comment> byTaskId(Long taskId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("task").get("id"), taskId);
+    }
+
+    /**
+     * Creates a {@link Specification} that filters {@link Comment} entities based on the author ID.
+     *
+     * @param authorId The ID of the author to filter by.
+     * @return A {@link Specification} for filtering comments by author ID.
+     */
+    static Specification<Comment> byAuthorId(Long authorId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("author").get("id"), authorId);
+    }
+}
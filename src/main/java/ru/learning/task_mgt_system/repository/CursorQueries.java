@@ -0,0 +1,45 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Streams the results of a query from a database cursor.
+ * <p>
+ * The rows are fetched in chunks of the fetch size and the entities are loaded read-only, so no snapshots are
+ * kept for dirty checking. The persistence context is cleared after every fetch size rows, which detaches the
+ * entities already handed out together with the proxies they reference, so the memory used does not grow with
+ * the number of rows. The stream must be consumed within a transaction and closed afterwards.
+ * </p>
+ */
+final class CursorQueries {
+
+    private CursorQueries() {
+    }
+
+    /**
+     * Streams the results of a query.
+     *
+     * @param entityManager the entity manager of the current transaction.
+     * @param query         the query to run.
+     * @param fetchSize     the number of rows fetched from the cursor at a time.
+     * @param <T>           the type of the results.
+     * @return the stream of the results, detached as they are consumed.
+     */
+    static <T> Stream<T> stream(EntityManager entityManager, TypedQuery<T> query, int fetchSize) {
+        AtomicLong count = new AtomicLong();
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(result -> {
+                    // The current result is already loaded, so it can be used after being detached
+                    if (count.incrementAndGet() % fetchSize == 0) {
+                        entityManager.clear();
+                    }
+                });
+    }
+}
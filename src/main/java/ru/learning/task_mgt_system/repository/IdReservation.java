@@ -0,0 +1,44 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reserves entity IDs in advance through the identifier generator of the entity.
+ * <p>
+ * The IDs are taken from the same pooled sequence as the IDs assigned on persist, so they are usually handed
+ * out from memory and never collide with IDs assigned by Hibernate.
+ * </p>
+ */
+final class IdReservation {
+
+    private IdReservation() {
+    }
+
+    /**
+     * Reserves IDs for entities of the given class.
+     *
+     * @param entityManager the entity manager of the current transaction.
+     * @param entityClass   the class of the entities.
+     * @param count         the number of IDs to reserve.
+     * @return the reserved IDs.
+     */
+    static List<Long> reserve(EntityManager entityManager, Class<?> entityClass, int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Long) generator.generate(session, null, null, EventType.INSERT));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,61 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.learning.task_mgt_system.model.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for writing and reading {@link OutboxEvent} entities.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventRepositoryCustom {
+
+    /**
+     * Finds the committed events that have no position yet, in the order they have been written, and locks them,
+     * so two relays never publish the same event.
+     *
+     * @param limit the maximum number of events.
+     * @return the events without a position.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from outbox_events e where e.position is null order by e.id")
+    List<OutboxEvent> findUnpublished(Limit limit);
+
+    /**
+     * Finds the position of the last published event.
+     *
+     * @return the last position, or {@code 0} if no event has been published.
+     */
+    @Query("select coalesce(max(e.position), 0) from outbox_events e")
+    long findLastPosition();
+
+    /**
+     * Finds the published events after a position, in the order of their positions.
+     *
+     * @param position the position to read after.
+     * @param limit    the maximum number of events.
+     * @return the events after the position.
+     */
+    List<OutboxEvent> findByPositionGreaterThanOrderByPositionAsc(Long position, Limit limit);
+
+    /**
+     * Deletes the published events written before the given instant with a single statement.
+     *
+     * @param before the instant before which the events have been written.
+     * @return the number of deleted events.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from outbox_events e where e.position is not null and e.createdAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
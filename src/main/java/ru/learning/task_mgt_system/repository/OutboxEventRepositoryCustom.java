@@ -0,0 +1,20 @@
+package ru.learning.task_mgt_system.repository;
+
+import ru.learning.task_mgt_system.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for {@link OutboxEvent} entities that are written without Hibernate.
+ */
+public interface OutboxEventRepositoryCustom {
+
+    /**
+     * Reserves IDs for events that are inserted with JDBC batches, so they are not kept in the persistence context.
+     * The IDs are taken from the same pooled sequence as the IDs assigned on persist.
+     *
+     * @param count the number of IDs to reserve.
+     * @return the reserved IDs.
+     */
+    List<Long> reserveIds(int count);
+}
@@ -0,0 +1,23 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+import ru.learning.task_mgt_system.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link OutboxEventRepositoryCustom}.
+ */
+public class OutboxEventRepositoryCustomImpl implements OutboxEventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<Long> reserveIds(int count) {
+        return IdReservation.reserve(entityManager, OutboxEvent.class, count);
+    }
+}
@@ -0,0 +1,102 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads pages of selected columns of an entity instead of whole entities.
+ * <p>
+ * Every column is selected under its name as the alias of the tuple element, so only the requested columns are
+ * read and only the requested aggregates, such as the number of comments of a task, are computed. No entities are
+ * loaded into the persistence context.
+ * </p>
+ */
+final class ProjectionQueries {
+
+    private ProjectionQueries() {
+    }
+
+    /**
+     * Reads a page of the given columns of the entities matching a specification, ordered by ID.
+     *
+     * @param entityManager the entity manager.
+     * @param type          the entity type.
+     * @param columns       the expressions of all available columns by name.
+     * @param fields        the names of the columns to read.
+     * @param specification the specification the entities must match, or {@code null} for all entities.
+     * @param pageable      the pagination information, or {@link Pageable#unpaged()} for all matching entities.
+     * @param <T>           the entity type.
+     * @return the page of tuples holding the requested columns under their names.
+     */
+    static <T> Page<Tuple> findPage(EntityManager entityManager, Class<T> type, Map<String, Column<T>> columns,
+                                    Collection<String> fields, Specification<T> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(type);
+        List<Selection<?>> selections = fields.stream()
+                .<Selection<?>>map(field -> columns.get(field).select(root, query, criteriaBuilder).alias(field))
+                .toList();
+        query.multiselect(selections).orderBy(criteriaBuilder.asc(root.get("id")));
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<Tuple> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, type, specification));
+    }
+
+    private static <T> long count(EntityManager entityManager, Class<T> type, Specification<T> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        query.select(criteriaBuilder.count(root));
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * A column that can be selected from an entity, either an attribute or an expression such as a subquery.
+     *
+     * @param <T> the entity type.
+     */
+    @FunctionalInterface
+    interface Column<T> {
+
+        Expression<?> select(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder);
+
+        /**
+         * Creates a column counting the entities of another type that reference the entity.
+         *
+         * @param type      the type of the referencing entities.
+         * @param attribute the attribute of the referencing entities that holds the reference.
+         * @param <T>       the entity type.
+         * @return the column.
+         */
+        static <T> Column<T> count(Class<?> type, String attribute) {
+            return (root, query, criteriaBuilder) -> {
+                Subquery<Long> count = query.subquery(Long.class);
+                Root<?> referencing = count.from(type);
+                return count.select(criteriaBuilder.count(referencing))
+                        .where(criteriaBuilder.equal(referencing.get(attribute), root));
+            };
+        }
+    }
+}
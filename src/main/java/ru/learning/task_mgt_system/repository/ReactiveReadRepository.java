@@ -0,0 +1,182 @@
+package ru.learning.task_mgt_system.repository;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Repository for reading tasks, comments and users over non-blocking database connections.
+ * <p>
+ * The rows are read with plain SQL over the tables the JPA entities are mapped to and handed to a row mapper
+ * one by one, as a row is only valid while it is mapped. The columns are selected under the names of the fields
+ * of the response DTOs.
+ * <p>
+ * A page of a list is read completely before it is emitted, and then emitted item by item as the subscriber
+ * requests them. The connection is returned to the pool as soon as the page has been read, so a slow reader
+ * does not hold one of the few connections while it consumes the page at its own pace.
+ * </p>
+ */
+@Repository
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ReactiveReadRepository {
+
+    private static final String TASK_COLUMNS = "t.id, t.title, t.description, t.status, t.priority, "
+            + "t.author_id as \"authorId\", t.assignee_id as \"assigneeId\", t.created_at as \"createdAt\", "
+            + "t.updated_at as \"updatedAt\", t.version, (select count(*) from comments c where c.task_id = t.id) as comments";
+
+    private static final String COMMENT_COLUMNS = "c.id, c.task_id as \"taskId\", c.author_id as \"authorId\", c.text, "
+            + "c.created_at as \"createdAt\", c.version";
+
+    private static final String USER_COLUMNS = "u.id, u.email, u.full_name as \"fullName\", "
+            + "(select count(*) from tasks t where t.assignee_id = u.id) as \"assignedTasks\", "
+            + "(select count(*) from tasks t where t.author_id = u.id) as \"authoredTasks\"";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public ReactiveReadRepository(DatabaseClient reactiveDatabaseClient) {
+        this.reactiveDatabaseClient = reactiveDatabaseClient;
+    }
+
+    /**
+     * Streams a page of the tasks matching a filter, ordered by ID.
+     * The criteria are applied as by {@link TaskSpecification#withFilter(TaskFilter)}.
+     *
+     * @param filter   the filter criteria, or {@code null} for all tasks.
+     * @param pageable the pagination information.
+     * @param mapper   the mapper of a row.
+     * @param <T>      the type the rows are mapped to.
+     * @return the mapped tasks.
+     */
+    public <T> Flux<T> findTasks(TaskFilter filter, Pageable pageable, Function<? super Readable, T> mapper) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        if (filter != null && filter.getAuthorId() != null) {
+            conditions.add("t.author_id = :authorId");
+            parameters.put("authorId", filter.getAuthorId());
+        }
+        if (filter != null && filter.getAssigneeId() != null) {
+            conditions.add("t.assignee_id = :assigneeId");
+            parameters.put("assigneeId", filter.getAssigneeId());
+        }
+        if (filter != null && filter.getSearchQuery() != null && !filter.getSearchQuery().isBlank()) {
+            conditions.add("(lower(t.title) like :searchPattern or lower(t.description) like :searchPattern)");
+            parameters.put("searchPattern", "%" + filter.getSearchQuery().toLowerCase() + "%");
+        }
+        String where = conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+        return findAll("select " + TASK_COLUMNS + " from tasks t" + where + " order by t.id", parameters, pageable, mapper);
+    }
+
+    /**
+     * Reads a task by its ID.
+     *
+     * @param id     the ID of the task.
+     * @param mapper the mapper of the row.
+     * @param <T>    the type the row is mapped to.
+     * @return the mapped task, or an empty {@link Mono} if it does not exist.
+     */
+    public <T> Mono<T> findTaskById(Long id, Function<? super Readable, T> mapper) {
+        return reactiveDatabaseClient.sql("select " + TASK_COLUMNS + " from tasks t where t.id = :id")
+                .bind("id", id)
+                .map(mapper)
+                .one();
+    }
+
+    /**
+     * Streams a page of the comments of a task, ordered by ID.
+     *
+     * @param taskId   the ID of the task.
+     * @param pageable the pagination information, or {@link Pageable#unpaged()} for all comments.
+     * @param mapper   the mapper of a row.
+     * @param <T>      the type the rows are mapped to.
+     * @return the mapped comments.
+     */
+    public <T> Flux<T> findCommentsByTaskId(Long taskId, Pageable pageable, Function<? super Readable, T> mapper) {
+        return findAll("select " + COMMENT_COLUMNS + " from comments c where c.task_id = :taskId order by c.id",
+                Map.of("taskId", taskId), pageable, mapper);
+    }
+
+    /**
+     * Streams a page of the comments of an author, ordered by ID.
+     *
+     * @param authorId the ID of the author.
+     * @param pageable the pagination information.
+     * @param mapper   the mapper of a row.
+     * @param <T>      the type the rows are mapped to.
+     * @return the mapped comments.
+     */
+    public <T> Flux<T> findCommentsByAuthorId(Long authorId, Pageable pageable, Function<? super Readable, T> mapper) {
+        return findAll("select " + COMMENT_COLUMNS + " from comments c where c.author_id = :authorId order by c.id",
+                Map.of("authorId", authorId), pageable, mapper);
+    }
+
+    /**
+     * Reads a comment by its ID.
+     *
+     * @param id     the ID of the comment.
+     * @param mapper the mapper of the row.
+     * @param <T>    the type the row is mapped to.
+     * @return the mapped comment, or an empty {@link Mono} if it does not exist.
+     */
+    public <T> Mono<T> findCommentById(Long id, Function<? super Readable, T> mapper) {
+        return reactiveDatabaseClient.sql("select " + COMMENT_COLUMNS + " from comments c where c.id = :id")
+                .bind("id", id)
+                .map(mapper)
+                .one();
+    }
+
+    /**
+     * Streams a page of all users with the numbers of their tasks, ordered by ID.
+     *
+     * @param pageable the pagination information.
+     * @param mapper   the mapper of a row.
+     * @param <T>      the type the rows are mapped to.
+     * @return the mapped users.
+     */
+    public <T> Flux<T> findUsers(Pageable pageable, Function<? super Readable, T> mapper) {
+        return findAll("select " + USER_COLUMNS + " from users u order by u.id", Map.of(), pageable, mapper);
+    }
+
+    /**
+     * Reads a user with the numbers of their tasks by their ID.
+     *
+     * @param id     the ID of the user.
+     * @param mapper the mapper of the row.
+     * @param <T>    the type the row is mapped to.
+     * @return the mapped user, or an empty {@link Mono} if it does not exist.
+     */
+    public <T> Mono<T> findUserById(Long id, Function<? super Readable, T> mapper) {
+        return reactiveDatabaseClient.sql("select " + USER_COLUMNS + " from users u where u.id = :id")
+                .bind("id", id)
+                .map(mapper)
+                .one();
+    }
+
+    private <T> Flux<T> findAll(String sql, Map<String, Object> parameters, Pageable pageable,
+                                Function<? super Readable, T> mapper) {
+        Map<String, Object> bindings = new HashMap<>(parameters);
+        String query = sql;
+        if (pageable.isPaged()) {
+            query += " limit :limit offset :offset";
+            bindings.put("limit", pageable.getPageSize());
+            bindings.put("offset", pageable.getOffset());
+        }
+        return reactiveDatabaseClient.sql(query)
+                .bindValues(bindings)
+                .map(mapper)
+                .all()
+                .collectList()
+                .flatMapIterable(Function.identity());
+    }
+}
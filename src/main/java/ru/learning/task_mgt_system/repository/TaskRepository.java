@@ -4,17 +4,23 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.learning.task_mgt_system.model.Priority;
 import ru.learning.task_mgt_system.model.Status;
 import ru.learning.task_mgt_system.model.Task;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for performing CRUD operations and custom queries
  * on {@link Task} entities. Provides support for pagination and specification-based querying.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
 
     /**
      * Finds tasks by their status.
@@ -83,4 +89,82 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
      * @return a page of tasks with the specified status, priority, and assigned to the specified assignee.
      */
     Page<Task> findByStatusAndPriorityAndAssigneeId(Status status, Priority priority, Long assigneeId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Checks whether a task with the given ID is authored by the given user.
+     * The check is answered from the primary key index without loading the task.
+     *
+     * @param id       the ID of the task.
+     * @param authorId the ID of the author.
+     * @return true if the task exists and is authored by the user, false otherwise.
+     */
+    boolean existsByIdAndAuthorId(Long id, Long authorId);
+
+    /**
+     * Finds the current version of a task without loading it.
+     *
+     * @param id the ID of the task.
+     * @return an {@link Optional} containing the version, or an empty {@link Optional} if the task does not exist.
+     */
+    @Query("select e.version from tasks e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Finds the attributes by which task changes are filtered for the given tasks, using a single query
+     * that does not load the tasks.
+     *
+     * @param ids the IDs of the tasks.
+     * @return the attributes of the tasks that exist.
+     */
+    @Query("select e.id as id, e.author.id as authorId, e.assignee.id as assigneeId, e.status as status, " +
+            "e.priority as priority from tasks e where e.id in :ids")
+    List<TaskAttributes> findAttributesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the tasks with the given IDs together with their comments, using a single query.
+     *
+     * @param ids the IDs of the tasks.
+     * @return the tasks that exist, with their comments loaded.
+     */
+    @Query("select e from tasks e left join fetch e.comments where e.id in :ids")
+    List<Task> findWithCommentsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Counts the tasks per assignee, status and priority with a single aggregating query.
+     *
+     * @return the number of tasks of every combination that has any.
+     */
+    @Query("select e.assignee.id as assigneeId, e.status as status, e.priority as priority, count(e) as tasks " +
+            "from tasks e group by e.assignee.id, e.status, e.priority")
+    List<TaskCount> countByAssigneeAndStatusAndPriority();
+
+    /**
+     * Projection of a task to the attributes by which its changes are filtered.
+     */
+    interface TaskAttributes {
+
+        Long getId();
+
+        Long getAuthorId();
+
+        Long getAssigneeId();
+
+        Status getStatus();
+
+        Priority getPriority();
+    }
+
+    /**
+     * Projection of the number of tasks of an assignee with a status and a priority.
+     */
+    interface TaskCount {
+
+        Long getAssigneeId();
+
+        Status getStatus();
+
+        Priority getPriority();
+
+        long getTasks();
+    }
+}
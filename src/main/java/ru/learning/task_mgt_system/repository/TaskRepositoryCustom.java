@@ -0,0 +1,113 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+import ru.learning.task_mgt_system.model.Task;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for set-based queries on {@link Task} entities
+ * that are not supported by Spring Data derived queries.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Finds the IDs of the tasks matching the specification without loading the tasks.
+     *
+     * @param specification the specification the tasks must match.
+     * @return the IDs of the matching tasks.
+     */
+    List<Long> findIds(Specification<Task> specification);
+
+    /**
+     * Finds the lowest IDs of the tasks matching the specification, in ascending order, without loading the tasks.
+     *
+     * @param specification the specification the tasks must match.
+     * @param limit         the maximum number of IDs.
+     * @return the IDs of at most {@code limit} matching tasks.
+     */
+    List<Long> findIds(Specification<Task> specification, int limit);
+
+    /**
+     * Finds a page of the given fields of the tasks matching the specification, ordered by ID, without loading
+     * the tasks. The fields are named as in the task response; the number of comments is only counted
+     * if {@code comments} is requested.
+     *
+     * @param specification the specification the tasks must match.
+     * @param fields        the names of the fields to read.
+     * @param pageable      the pagination information.
+     * @return the page of tuples holding the requested fields under their names.
+     */
+    Page<Tuple> findFields(Specification<Task> specification, Collection<String> fields, Pageable pageable);
+
+    /**
+     * Changes the status, and optionally the priority, of all tasks matching the specification
+     * with a single UPDATE statement. The update timestamp is set as well.
+     *
+     * @param specification the specification the tasks must match.
+     * @param status        the new status.
+     * @param priority      the new priority, or {@code null} to keep the current one.
+     * @return the number of updated tasks.
+     */
+    int updateStatus(Specification<Task> specification, Status status, Priority priority);
+
+    /**
+     * Sets the given attributes of all tasks matching the specification with a single UPDATE statement.
+     * Only the given attributes and the update timestamp are written.
+     *
+     * @param specification the specification the tasks must match.
+     * @param values        the new values by attribute name.
+     * @return the number of updated tasks.
+     */
+    int updateFields(Specification<Task> specification, Map<String, Object> values);
+
+    /**
+     * Reserves IDs for tasks that are inserted without Hibernate, for example by a bulk load.
+     * The IDs are taken from the same pooled sequence as the IDs assigned on persist.
+     *
+     * @param count the number of IDs to reserve.
+     * @return the reserved IDs.
+     */
+    List<Long> reserveIds(int count);
+
+    /**
+     * Streams the tasks matching a specification, ordered by ID, from a database cursor.
+     * The tasks are detached as the stream is consumed, so any number of tasks can be read with constant memory;
+     * their comments are not loaded. Must be called within a transaction, and the stream must be closed.
+     *
+     * @param specification the specification the tasks must match.
+     * @param fetchSize     the number of rows fetched from the cursor at a time.
+     * @return the stream of the tasks.
+     */
+    Stream<Task> streamAll(Specification<Task> specification, int fetchSize);
+
+    /**
+     * Finds the IDs of completed tasks that have not been changed since the given instant, ordered by ID.
+     * The rows are locked until the end of the transaction; rows locked by another transaction are skipped,
+     * so several instances can archive at the same time.
+     *
+     * @param completedBefore the instant before which the tasks must have been changed last.
+     * @param limit           the maximum number of IDs.
+     * @return the IDs of the tasks.
+     */
+    List<Long> lockArchivableIds(Instant completedBefore, int limit);
+
+    /**
+     * Moves tasks together with their comments into the archive tables, with one statement per table.
+     * Must be called within a transaction.
+     *
+     * @param ids        the IDs of the tasks to move.
+     * @param archivedAt the instant recorded as the archival time.
+     * @return the number of moved tasks.
+     */
+    int moveToArchive(List<Long> ids, Instant archivedAt);
+}
@@ -0,0 +1,154 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+import ru.learning.task_mgt_system.model.Comment;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+import ru.learning.task_mgt_system.model.Task;
+import ru.learning.task_mgt_system.repository.ProjectionQueries.Column;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link TaskRepositoryCustom} based on the JPA Criteria API,
+ * so that the {@link TaskSpecification} filters can be reused for set-based statements.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final Map<String, Column<Task>> COLUMNS = Map.ofEntries(
+            Map.entry("id", (root, query, criteriaBuilder) -> root.get("id")),
+            Map.entry("title", (root, query, criteriaBuilder) -> root.get("title")),
+            Map.entry("description", (root, query, criteriaBuilder) -> root.get("description")),
+            Map.entry("status", (root, query, criteriaBuilder) -> root.get("status")),
+            Map.entry("priority", (root, query, criteriaBuilder) -> root.get("priority")),
+            Map.entry("authorId", (root, query, criteriaBuilder) -> root.get("author").get("id")),
+            Map.entry("assigneeId", (root, query, criteriaBuilder) -> root.get("assignee").get("id")),
+            Map.entry("createdAt", (root, query, criteriaBuilder) -> root.get("createdAt")),
+            Map.entry("updatedAt", (root, query, criteriaBuilder) -> root.get("updatedAt")),
+            Map.entry("version", (root, query, criteriaBuilder) -> root.get("version")),
+            Map.entry("comments", Column.count(Comment.class, "task")));
+
+    /**
+     * Lock timeout that skips the rows locked by other transactions ({@code SKIP LOCKED}).
+     */
+    private static final int SKIP_LOCKED = -2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<Task> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.get("id")).where(specification.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> specification, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.get("id"))
+                .where(specification.toPredicate(root, query, criteriaBuilder))
+                .orderBy(criteriaBuilder.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Page<Tuple> findFields(Specification<Task> specification, Collection<String> fields, Pageable pageable) {
+        return ProjectionQueries.findPage(entityManager, Task.class, COLUMNS, fields, specification, pageable);
+    }
+
+    @Override
+    public int updateStatus(Specification<Task> specification, Status status, Priority priority) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("status", status);
+        if (priority != null) {
+            values.put("priority", priority);
+        }
+        return updateFields(specification, values);
+    }
+
+    @Override
+    public int updateFields(Specification<Task> specification, Map<String, Object> values) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = criteriaBuilder.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        values.forEach(update::set);
+        // @UpdateTimestamp is not applied to bulk statements
+        update.set(root.<Instant>get("updatedAt"), Instant.now());
+        // Nor is @Version, so concurrent entity updates detect the change
+        update.set(root.<Long>get("version"), criteriaBuilder.sum(root.<Long>get("version"), 1L));
+        update.where(specification.toPredicate(root, null, criteriaBuilder));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public List<Long> reserveIds(int count) {
+        return IdReservation.reserve(entityManager, Task.class, count);
+    }
+
+    @Override
+    public Stream<Task> streamAll(Specification<Task> specification, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root)
+                .where(specification.toPredicate(root, query, criteriaBuilder))
+                .orderBy(criteriaBuilder.asc(root.get("id")));
+        return CursorQueries.stream(entityManager, entityManager.createQuery(query), fetchSize);
+    }
+
+    @Override
+    public List<Long> lockArchivableIds(Instant completedBefore, int limit) {
+        return entityManager.createQuery("select e.id from tasks e where e.status = :status " +
+                        "and e.updatedAt < :completedBefore order by e.id", Long.class)
+                .setParameter("status", Status.COMPLETED)
+                .setParameter("completedBefore", completedBefore)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(SpecHints.HINT_SPEC_LOCK_TIMEOUT, SKIP_LOCKED)
+                .getResultList();
+    }
+
+    @Override
+    public int moveToArchive(List<Long> ids, Instant archivedAt) {
+        entityManager.createNativeQuery("insert into tasks_archive (id, title, description, status, priority, " +
+                        "created_at, updated_at, version, archived_at, author_id, assignee_id) " +
+                        "select id, title, description, status, priority, created_at, updated_at, version, :archivedAt, " +
+                        "author_id, assignee_id from tasks where id in (:ids)")
+                .setParameter("archivedAt", archivedAt)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createNativeQuery("insert into comments_archive (id, text, created_at, version, author_id, task_id) " +
+                        "select id, text, created_at, version, author_id, task_id from comments where task_id in (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        // The comments are deleted by the database through the cascading foreign key
+        return entityManager.createNativeQuery("delete from tasks where id in (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
@@ -1,12 +1,17 @@
 package ru.learning.task_mgt_system.repository;
 
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
+import ru.learning.task_mgt_system.model.ArchivedTask;
 import ru.learning.task_mgt_system.model.Task;
 import ru.learning.task_mgt_system.web.dto.TaskFilter;
 
+import java.util.Collection;
+
 /**
  * Provides static methods for creating JPA {@link Specification} objects used to filter {@link Task} entities.
  * This interface offers filter specifications based on the author ID, assignee ID, and search query.
+ * The filter specifications also apply to {@link ArchivedTask} entities, which have the same attributes.
  */
 public interface TaskSpecification {
 
@@ -18,7 +23,22 @@ public interface TaskSpecification {
      * @return A {@link Specification} for filtering {@link Task} entities.
      */
     static Specification<Task> withFilter(TaskFilter taskFilter) {
-        return Specification.where(byAuthorId(taskFilter.getAuthorId()))
+        return filter(taskFilter);
+    }
+
+    /**
+     * Creates a {@link Specification} for filtering {@link ArchivedTask} entities based on the provided {@link TaskFilter}.
+     * The specification combines filtering criteria using logical AND.
+     *
+     * @param taskFilter The {@link TaskFilter} containing filter criteria.
+     * @return A {@link Specification} for filtering {@link ArchivedTask} entities.
+     */
+    static Specification<ArchivedTask> archivedWithFilter(TaskFilter taskFilter) {
+        return filter(taskFilter);
+    }
+
+    private static <T> Specification<T> filter(TaskFilter taskFilter) {
+        return Specification.<T>where(byAuthorId(taskFilter.getAuthorId()))
                 .and(byAssigneeId(taskFilter.getAssigneeId()))
                 .and(bySearchQuery(taskFilter.getSearchQuery()));
     }
@@ -28,9 +48,9 @@ public interface TaskSpecification {
      * Returns null if the author ID is not specified.
      *
      * @param authorId The ID of the author to filter by.
-     * @return A {@link Specification} for filtering {@link Task} entities by author ID.
+     * @return A {@link Specification} for filtering tasks by author ID.
      */
-    static Specification<Task> byAuthorId(Long authorId) {
+    static <T> Specification<T> byAuthorId(Long authorId) {
         return (root, query, criteriaBuilder) -> {
             if (authorId == null) {
                 return null;
@@ -44,9 +64,9 @@ public interface TaskSpecification {
      * Returns null if the assignee ID is not specified.
      *
      * @param assigneeId The ID of the assignee to filter by.
-     * @return A {@link Specification} for filtering {@link Task} entities by assignee ID.
+     * @return A {@link Specification} for filtering tasks by assignee ID.
      */
-    static Specification<Task> byAssigneeId(Long assigneeId) {
+    static <T> Specification<T> byAssigneeId(Long assigneeId) {
         return (root, query, criteriaBuilder) -> {
             if (assigneeId == null) {
                 return null;
@@ -61,9 +81,9 @@ public interface TaskSpecification {
      * Returns null if the search query is not specified or is blank.
      *
      * @param searchQuery The search query used to filter tasks.
-     * @return A {@link Specification} for filtering {@link Task} entities by search query.
+     * @return A {@link Specification} for filtering tasks by search query.
      */
-    static Specification<Task> bySearchQuery(String searchQuery) {
+    static <T> Specification<T> bySearchQuery(String searchQuery) {
         return (root, query, criteriaBuilder) -> {
             if (searchQuery == null || searchQuery.isBlank()) {
                 return null;
@@ -76,4 +96,53 @@ public interface TaskSpecification {
             );
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a {@link Specification} that filters {@link Task} entities by their IDs.
+     *
+     * @param ids The IDs of the tasks to filter by.
+     * @return A {@link Specification} for filtering {@link Task} entities by ID.
+     */
+    static Specification<Task> byIds(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Creates a {@link Specification} that filters {@link Task} entities with an ID greater than the given one.
+     *
+     * @param id The ID the task IDs must be greater than.
+     * @return A {@link Specification} for filtering {@link Task} entities by ID.
+     */
+    static Specification<Task> idAfter(Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Creates a {@link Specification} that filters {@link Task} entities by their version.
+     *
+     * @param version The version the tasks must have.
+     * @return A {@link Specification} for filtering {@link Task} entities by version.
+     */
+    static Specification<Task> hasVersion(Long version) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("version"), version);
+    }
+
+    /**
+     * Creates a {@link Specification} that filters the {@link Task} entities a user is allowed to change.
+     * Authors may change any field, assignees only the status, so assigned tasks are included only
+     * if the change is limited to the status.
+     *
+     * @param userId     The ID of the user.
+     * @param statusOnly Whether only the status is changed.
+     * @return A {@link Specification} for filtering {@link Task} entities the user may change.
+     */
+    static Specification<Task> changeableBy(Long userId, boolean statusOnly) {
+        return (root, query, criteriaBuilder) -> {
+            Predicate isAuthor = criteriaBuilder.equal(root.get("author").get("id"), userId);
+            if (!statusOnly) {
+                return isAuthor;
+            }
+            return criteriaBuilder.or(isAuthor, criteriaBuilder.equal(root.get("assignee").get("id"), userId));
+        };
+    }
+}
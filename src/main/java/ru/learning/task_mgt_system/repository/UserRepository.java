@@ -1,17 +1,22 @@
 package ru.learning.task_mgt_system.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.learning.task_mgt_system.model.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for performing CRUD operations and custom queries
  * on {@link User} entities. Provides a method to find users by email.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     /**
      * Finds a user by their email address.
@@ -20,4 +25,41 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return an {@link Optional} containing the user with the specified email, or an empty {@link Optional} if no user is found.
      */
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Finds the ID of a user by their email address without loading the user.
+     *
+     * @param email the email address of the user.
+     * @return an {@link Optional} containing the ID of the user, or an empty {@link Optional} if no user is found.
+     */
+    @Query("select u.id from users u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    /**
+     * Finds which of the given IDs belong to existing users, using a single query.
+     *
+     * @param ids the IDs to check.
+     * @return the subset of the given IDs for which a user exists.
+     */
+    @Query("select u.id from users u where u.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the IDs of the users with the given email addresses, using a single query.
+     *
+     * @param emails the email addresses to look up.
+     * @return the IDs and email addresses of the found users.
+     */
+    @Query("select u.id as id, u.email as email from users u where u.email in :emails")
+    List<UserIdentity> findIdentitiesByEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Projection of a user to its ID and email address.
+     */
+    interface UserIdentity {
+
+        Long getId();
+
+        String getEmail();
+    }
+}
@@ -0,0 +1,44 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import ru.learning.task_mgt_system.model.User;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom repository fragment for {@link User} entities.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Finds a page of the given fields of all users, ordered by ID, without loading the users.
+     * The fields are named as in the user response; the numbers of authored and assigned tasks
+     * are only counted if requested.
+     *
+     * @param fields   the names of the fields to read.
+     * @param pageable the pagination information.
+     * @return the page of tuples holding the requested fields under their names.
+     */
+    Page<Tuple> findFields(Collection<String> fields, Pageable pageable);
+
+    /**
+     * Finds a page of all fields of all users, ordered by ID, including the numbers of their tasks,
+     * using a single query that does not load the users or their tasks.
+     *
+     * @param pageable the pagination information.
+     * @return the page of tuples holding the fields of the users under their names.
+     */
+    Page<Tuple> findAllFields(Pageable pageable);
+
+    /**
+     * Finds all fields of the users with the given IDs, including the numbers of their tasks,
+     * using a single query that does not load the users.
+     *
+     * @param ids the IDs of the users.
+     * @return the tuples holding the fields of the users that exist under their names.
+     */
+    List<Tuple> findAllFieldsByIds(Collection<Long> ids);
+}
@@ -0,0 +1,48 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import ru.learning.task_mgt_system.model.Task;
+import ru.learning.task_mgt_system.model.User;
+import ru.learning.task_mgt_system.repository.ProjectionQueries.Column;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link UserRepositoryCustom} based on the JPA Criteria API.
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final Map<String, Column<User>> COLUMNS = Map.of(
+            "id", (root, query, criteriaBuilder) -> root.get("id"),
+            "email", (root, query, criteriaBuilder) -> root.get("email"),
+            "fullName", (root, query, criteriaBuilder) -> root.get("fullName"),
+            "assignedTasks", Column.count(Task.class, "assignee"),
+            "authoredTasks", Column.count(Task.class, "author"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findFields(Collection<String> fields, Pageable pageable) {
+        return ProjectionQueries.findPage(entityManager, User.class, COLUMNS, fields, null, pageable);
+    }
+
+    @Override
+    public Page<Tuple> findAllFields(Pageable pageable) {
+        return ProjectionQueries.findPage(entityManager, User.class, COLUMNS, COLUMNS.keySet(), null, pageable);
+    }
+
+    @Override
+    public List<Tuple> findAllFieldsByIds(Collection<Long> ids) {
+        Specification<User> byIds = (root, query, criteriaBuilder) -> root.get("id").in(ids);
+        return ProjectionQueries.findPage(entityManager, User.class, COLUMNS, COLUMNS.keySet(), byIds, Pageable.unpaged())
+                .getContent();
+    }
+}
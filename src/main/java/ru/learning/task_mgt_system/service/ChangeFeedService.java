@@ -0,0 +1,36 @@
+package ru.learning.task_mgt_system.service;
+
+import ru.learning.task_mgt_system.web.dto.ChangeFeedResponse;
+
+/**
+ * Service interface for the change feed of tasks and comments.
+ * <p>
+ * The feed is an ordered log of the committed changes. Readers keep the position of the last event they have
+ * processed and resume after it, so no change is lost between two reads and a reader that has been offline
+ * catches up, as long as it comes back within the retention of the events.
+ */
+public interface ChangeFeedService {
+
+    /**
+     * Reads the events after a position.
+     *
+     * @param after the position of the last event the reader has processed, {@code 0} to read from the start.
+     * @param limit the maximum number of events.
+     * @return {@link ChangeFeedResponse} DTO containing the events and the cursor to read the next page.
+     */
+    ChangeFeedResponse read(long after, int limit);
+
+    /**
+     * Finds the position of the last published event.
+     *
+     * @return the last position, or {@code 0} if no event has been published.
+     */
+    long currentPosition();
+
+    /**
+     * Publishes the committed events of the outbox to the feed by assigning their positions.
+     *
+     * @return the number of published events.
+     */
+    int publish();
+}
@@ -0,0 +1,25 @@
+package ru.learning.task_mgt_system.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.learning.task_mgt_system.web.dto.TaskChangeFilter;
+
+/**
+ * Service interface for the live stream of task and comment changes as Server-Sent Events.
+ * <p>
+ * The stream pushes the events of the change feed that match a filter. Every event carries its feed position
+ * as the event ID, so a client that reconnects with {@code Last-Event-ID} resumes without losing changes.
+ */
+public interface ChangeStreamService {
+
+    /**
+     * Opens a stream of the changes matching the filter.
+     *
+     * @param filter      the criteria the tasks of the changes must match.
+     * @param lastEventId the ID of the last event the client has received, or {@code null} to receive
+     *                    only the changes made from now on.
+     * @return the emitter the events are sent with.
+     * @throws ru.learning.task_mgt_system.exception.ServiceUnavailableException if the instance holds
+     *                                                                            the maximum number of connections.
+     */
+    SseEmitter subscribe(TaskChangeFilter filter, Long lastEventId);
+}
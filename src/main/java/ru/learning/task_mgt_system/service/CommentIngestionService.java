@@ -0,0 +1,21 @@
+package ru.learning.task_mgt_system.service;
+
+import ru.learning.task_mgt_system.web.dto.CommentAcceptedResponse;
+import ru.learning.task_mgt_system.web.dto.CommentRequest;
+
+/**
+ * Service interface for the asynchronous ingestion of comments.
+ * <p>
+ * Comments are validated and acknowledged right away and written to the database later in batches.
+ * An acknowledged comment is not durable until it has been written; see the implementation for the guarantees.
+ */
+public interface CommentIngestionService {
+
+    /**
+     * Accepts a comment for asynchronous ingestion.
+     *
+     * @param commentRequest the details of the comment to be created.
+     * @return {@link CommentAcceptedResponse} DTO containing the ID reserved for the comment.
+     */
+    CommentAcceptedResponse accept(CommentRequest commentRequest);
+}
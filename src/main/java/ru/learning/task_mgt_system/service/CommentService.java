@@ -3,6 +3,12 @@ package ru.learning.task_mgt_system.service;
 import ru.learning.task_mgt_system.web.dto.CommentListResponse;
 import ru.learning.task_mgt_system.web.dto.CommentRequest;
 import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.MultiGetResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service interface for managing comments in the task management system.
@@ -26,6 +32,14 @@ public interface CommentService {
      */
     CommentResponse getById(Long id);
 
+    /**
+     * Retrieves many comments by their IDs.
+     *
+     * @param ids the IDs of the comments to retrieve.
+     * @return {@link MultiGetResponse} DTO containing the comments in the order of the IDs, with the missing ones marked.
+     */
+    MultiGetResponse<CommentResponse> getByIds(List<Long> ids);
+
     /**
      * Retrieves a paginated list of comments associated with a specific task.
      *
@@ -36,6 +50,27 @@ public interface CommentService {
      */
     CommentListResponse getByTaskId(Long taskId, int page, int size);
 
+    /**
+     * Retrieves a paginated list of comments associated with a specific task with only the selected fields.
+     *
+     * @param taskId the ID of the task for which comments are to be retrieved.
+     * @param page   the page number to retrieve (0-based index).
+     * @param size   the number of comments per page.
+     * @param fields the fields of {@link CommentResponse} to read; the others are left empty.
+     * @return {@link CommentListResponse} DTO containing a list of comments associated with the specified task.
+     * @throws ru.learning.task_mgt_system.exception.BadRequestException if a field is unknown.
+     */
+    CommentListResponse getByTaskId(Long taskId, int page, int size, Set<String> fields);
+
+    /**
+     * Retrieves the latest comments of many tasks at once.
+     *
+     * @param taskIds the IDs of the tasks whose comments are to be retrieved.
+     * @param limit   the maximum number of comments per task.
+     * @return the comments of every task that has any, from the newest to the oldest.
+     */
+    Map<Long, List<CommentResponse>> getLatestByTaskIds(Collection<Long> taskIds, int limit);
+
     /**
      * Retrieves a paginated list of comments authored by a specific user.
      *
@@ -46,14 +81,27 @@ public interface CommentService {
      */
     CommentListResponse getByAuthorId(Long authorId, int page, int size);
 
+    /**
+     * Retrieves a paginated list of comments authored by a specific user with only the selected fields.
+     *
+     * @param authorId the ID of the author whose comments are to be retrieved.
+     * @param page     the page number to retrieve (0-based index).
+     * @param size     the number of comments per page.
+     * @param fields   the fields of {@link CommentResponse} to read; the others are left empty.
+     * @return {@link CommentListResponse} DTO containing a list of comments authored by the specified user.
+     * @throws ru.learning.task_mgt_system.exception.BadRequestException if a field is unknown.
+     */
+    CommentListResponse getByAuthorId(Long authorId, int page, int size, Set<String> fields);
+
     /**
      * Updates an existing comment based on the provided request details.
      *
-     * @param id            the ID of the comment to update.
-     * @param commentRequest the details to update the comment with.
+     * @param id              the ID of the comment to update.
+     * @param commentRequest  the details to update the comment with.
+     * @param expectedVersion the version of the comment the client has read, or {@code null} to skip the check.
      * @return {@link CommentResponse} DTO containing the details of the updated comment.
      */
-    CommentResponse update(Long id, CommentRequest commentRequest);
+    CommentResponse update(Long id, CommentRequest commentRequest, Long expectedVersion);
 
     /**
      * Deletes a comment by its ID.
@@ -0,0 +1,51 @@
+package ru.learning.task_mgt_system.service;
+
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for writing change events of tasks and comments to the outbox.
+ * <p>
+ * The events must be written in the transaction of the change they report, so an event exists
+ * if and only if the change has been committed. The events are published to the change feed by
+ * {@link ChangeFeedService}.
+ */
+public interface OutboxService {
+
+    /**
+     * Writes the event of a change of a single entity.
+     *
+     * @param aggregateType the kind of the changed entity.
+     * @param aggregateId   the ID of the changed entity.
+     * @param changeType    the kind of change.
+     * @param payload       the state of the entity after the change, serialized to JSON.
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active.
+     */
+    void record(AggregateType aggregateType, Long aggregateId, ChangeType changeType, Object payload);
+
+    /**
+     * Writes the events of changes of many entities with a single batched statement.
+     *
+     * @param aggregateType the kind of the changed entities.
+     * @param changeType    the kind of change.
+     * @param payloads      the state of every entity after the change by the ID of the entity.
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active.
+     */
+    void recordEach(AggregateType aggregateType, ChangeType changeType, Map<Long, ?> payloads);
+
+    /**
+     * Writes the events of a set-based change that applied the same change to many entities,
+     * with a single batched statement.
+     *
+     * @param aggregateType the kind of the changed entities.
+     * @param aggregateIds  the IDs of the changed entities.
+     * @param changeType    the kind of change.
+     * @param changes       the changed fields, serialized to JSON together with the ID of each entity,
+     *                      or {@code null} to write the ID only.
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active.
+     */
+    void recordAll(AggregateType aggregateType, Collection<Long> aggregateIds, ChangeType changeType, Object changes);
+}
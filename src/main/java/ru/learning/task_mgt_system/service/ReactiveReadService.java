@@ -0,0 +1,90 @@
+package ru.learning.task_mgt_system.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+import ru.learning.task_mgt_system.web.dto.TaskResponse;
+import ru.learning.task_mgt_system.web.dto.TaskResponseWithComments;
+import ru.learning.task_mgt_system.web.dto.UserResponse;
+
+/**
+ * Service interface for the reactive read API.
+ * <p>
+ * Provides the reads of tasks, comments and users with the same DTOs and criteria as the other services,
+ * served over non-blocking database connections. Lists are streams that emit their items only as fast as
+ * the caller requests them; an entity that does not exist ends the {@link Mono} with
+ * an {@link ru.learning.task_mgt_system.exception.EntityNotFoundException}.
+ */
+public interface ReactiveReadService {
+
+    /**
+     * Streams a page of all tasks, ordered by ID.
+     *
+     * @param page the page number to retrieve (0-based index).
+     * @param size the number of tasks per page.
+     * @return the tasks with the number of their comments.
+     */
+    Flux<TaskResponse> getAllTasks(int page, int size);
+
+    /**
+     * Streams a page of the tasks matching a filter, ordered by ID.
+     *
+     * @param filter the filter criteria, including the page number and size.
+     * @return the matching tasks with the number of their comments.
+     */
+    Flux<TaskResponse> filterTasks(TaskFilter filter);
+
+    /**
+     * Retrieves a task by its ID, including its comments.
+     *
+     * @param id the ID of the task.
+     * @return the task with its comments.
+     */
+    Mono<TaskResponseWithComments> getTaskById(Long id);
+
+    /**
+     * Retrieves a comment by its ID.
+     *
+     * @param id the ID of the comment.
+     * @return the comment.
+     */
+    Mono<CommentResponse> getCommentById(Long id);
+
+    /**
+     * Streams a page of the comments of a task, ordered by ID.
+     *
+     * @param taskId the ID of the task.
+     * @param page   the page number to retrieve (0-based index).
+     * @param size   the number of comments per page.
+     * @return the comments of the task.
+     */
+    Flux<CommentResponse> getCommentsByTaskId(Long taskId, int page, int size);
+
+    /**
+     * Streams a page of the comments of an author, ordered by ID.
+     *
+     * @param authorId the ID of the author.
+     * @param page     the page number to retrieve (0-based index).
+     * @param size     the number of comments per page.
+     * @return the comments of the author.
+     */
+    Flux<CommentResponse> getCommentsByAuthorId(Long authorId, int page, int size);
+
+    /**
+     * Streams a page of all users, ordered by ID.
+     *
+     * @param page the page number to retrieve (0-based index).
+     * @param size the number of users per page.
+     * @return the users with the numbers of their tasks.
+     */
+    Flux<UserResponse> getAllUsers(int page, int size);
+
+    /**
+     * Retrieves a user by their ID.
+     *
+     * @param id the ID of the user.
+     * @return the user with the numbers of their tasks.
+     */
+    Mono<UserResponse> getUserById(Long id);
+}
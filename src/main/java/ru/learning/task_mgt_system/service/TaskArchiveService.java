@@ -0,0 +1,17 @@
+package ru.learning.task_mgt_system.service;
+
+/**
+ * Service interface for the archival of completed tasks.
+ * <p>
+ * Completed tasks that have not been changed for a configurable time are moved, together with their comments,
+ * from the active tables into the archive tables, where they stay readable but can no longer be changed.
+ */
+public interface TaskArchiveService {
+
+    /**
+     * Archives all completed tasks that are old enough, chunk by chunk.
+     *
+     * @return the number of archived tasks.
+     */
+    long archiveCompleted();
+}
@@ -0,0 +1,26 @@
+package ru.learning.task_mgt_system.service;
+
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+
+import java.io.OutputStream;
+
+/**
+ * Service interface for the streaming export of tasks.
+ * <p>
+ * The tasks are read from a database cursor and written as they are read, so any number of tasks
+ * can be exported with constant memory.
+ */
+public interface TaskExportService {
+
+    /**
+     * Exports the tasks matching a filter, ordered by ID.
+     *
+     * @param filter       the filter criteria; pagination is ignored and an empty filter exports all tasks.
+     * @param format       the format of the output.
+     * @param withComments whether the comments of the tasks are exported.
+     * @param output       the output to write to, left open.
+     * @return the number of exported tasks.
+     */
+    long export(TaskFilter filter, TaskDataFormat format, boolean withComments, OutputStream output);
+}
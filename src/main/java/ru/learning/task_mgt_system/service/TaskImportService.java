@@ -0,0 +1,27 @@
+package ru.learning.task_mgt_system.service;
+
+import ru.learning.task_mgt_system.web.dto.TaskImportEvent;
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for the streaming import of tasks.
+ * <p>
+ * The input is read row by row and written in chunks, so files of any size can be imported with constant memory.
+ * Rows that cannot be imported are skipped and reported, the other rows are imported.
+ */
+public interface TaskImportService {
+
+    /**
+     * Imports the tasks of the input with the current user as their author.
+     *
+     * @param input    the rows to import, encoded in UTF-8.
+     * @param format   the format of the input.
+     * @param listener receives an error line for every skipped row, a progress line after every chunk
+     *                 and the summary at the end.
+     * @return the summary of the import.
+     */
+    TaskImportEvent importTasks(InputStream input, TaskDataFormat format, Consumer<TaskImportEvent> listener);
+}
@@ -2,6 +2,9 @@ package ru.learning.task_mgt_system.service;
 
 import ru.learning.task_mgt_system.web.dto.*;
 
+import java.util.List;
+import java.util.Set;
+
 /**
  * Service interface for managing tasks in the task management system.
  * Provides methods for creating, retrieving, updating, filtering, and deleting tasks.
@@ -24,6 +27,14 @@ public interface TaskService {
      */
     TaskResponseWithComments getById(Long id);
 
+    /**
+     * Retrieves many tasks by their IDs, including their comments.
+     *
+     * @param ids the IDs of the tasks to retrieve.
+     * @return {@link MultiGetResponse} DTO containing the tasks in the order of the IDs, with the missing ones marked.
+     */
+    MultiGetResponse<TaskResponseWithComments> getByIds(List<Long> ids);
+
     /**
      * Retrieves a paginated list of all tasks.
      *
@@ -33,6 +44,26 @@ public interface TaskService {
      */
     TaskListResponse getAll(int page, int size);
 
+    /**
+     * Retrieves a paginated list of all tasks with only the selected fields.
+     *
+     * @param page   the page number to retrieve (0-based index).
+     * @param size   the number of tasks per page.
+     * @param fields the fields of {@link TaskResponse} to read; the others are left empty.
+     * @return {@link TaskListResponse} DTO containing a list of tasks.
+     * @throws ru.learning.task_mgt_system.exception.BadRequestException if a field is unknown.
+     */
+    TaskListResponse getAll(int page, int size, Set<String> fields);
+
+    /**
+     * Retrieves a paginated list of all archived tasks.
+     *
+     * @param page the page number to retrieve (0-based index).
+     * @param size the number of tasks per page.
+     * @return {@link TaskListResponse} DTO containing a list of archived tasks.
+     */
+    TaskListResponse getAllArchived(int page, int size);
+
     /**
      * Retrieves a paginated list of tasks filtered by their status.
      *
@@ -116,14 +147,43 @@ public interface TaskService {
      */
     TaskListResponse filterBy(TaskFilter filter);
 
+    /**
+     * Retrieves a paginated list of tasks based on the specified filter criteria with only the selected fields.
+     *
+     * @param filter the filter criteria to apply.
+     * @param fields the fields of {@link TaskResponse} to read; the others are left empty.
+     * @return {@link TaskListResponse} DTO containing a list of tasks that match the filter criteria.
+     * @throws ru.learning.task_mgt_system.exception.BadRequestException if a field is unknown.
+     */
+    TaskListResponse filterBy(TaskFilter filter, Set<String> fields);
+
+    /**
+     * Filters archived tasks based on the provided filter criteria.
+     *
+     * @param filter the filter criteria for querying archived tasks.
+     * @return {@link TaskListResponse} DTO containing a list of archived tasks that match the filter criteria.
+     */
+    TaskListResponse filterArchived(TaskFilter filter);
+
     /**
      * Updates an existing task based on the provided request details.
      *
-     * @param id          the ID of the task to update.
-     * @param taskRequest the details to update the task with.
+     * @param id              the ID of the task to update.
+     * @param taskRequest     the details to update the task with.
+     * @param expectedVersion the version of the task the client has read, or {@code null} to skip the check.
      * @return {@link TaskResponse} DTO containing the details of the updated task.
      */
-    TaskResponse update(Long id, TaskRequest taskRequest);
+    TaskResponse update(Long id, TaskRequest taskRequest, Long expectedVersion);
+
+    /**
+     * Partially updates a task, changing only the fields present in the request.
+     *
+     * @param id              the ID of the task to update.
+     * @param patchRequest    the fields to change.
+     * @param expectedVersion the version of the task the client has read, or {@code null} to skip the check.
+     * @return {@link TaskResponse} DTO containing the details of the updated task.
+     */
+    TaskResponse patch(Long id, TaskPatchRequest patchRequest, Long expectedVersion);
 
     /**
      * Deletes a task by its ID.
@@ -131,4 +191,46 @@ public interface TaskService {
      * @param id the ID of the task to delete.
      */
     void delete(Long id);
-}
\ No newline at end of file
+
+    /**
+     * Deletes all tasks matching a filter that are authored by the current user.
+     *
+     * @param filter the filter criteria; pagination is ignored.
+     * @return {@link TaskDeleteResponse} DTO containing the number of deleted tasks.
+     */
+    TaskDeleteResponse deleteBy(TaskFilter filter);
+
+    /**
+     * Creates tasks in bulk. Invalid items are skipped and reported, the valid ones are persisted together.
+     *
+     * @param taskRequests the details of the tasks to be created.
+     * @return {@link BulkOperationResponse} DTO containing the outcome of every item.
+     */
+    BulkOperationResponse createAll(List<TaskRequest> taskRequests);
+
+    /**
+     * Updates tasks in bulk. Items that are invalid, not found or not allowed for the current user are skipped
+     * and reported, the others are persisted together.
+     *
+     * @param updateRequests the IDs and the new details of the tasks to update.
+     * @return {@link BulkOperationResponse} DTO containing the outcome of every item.
+     */
+    BulkOperationResponse updateAll(List<TaskBulkUpdateRequest> updateRequests);
+
+    /**
+     * Deletes tasks in bulk. Tasks that are not found or not authored by the current user are skipped and reported.
+     *
+     * @param ids the IDs of the tasks to delete.
+     * @return {@link BulkOperationResponse} DTO containing the outcome of every item.
+     */
+    BulkOperationResponse deleteAll(List<Long> ids);
+
+    /**
+     * Changes the status, and optionally the priority, of the tasks selected by IDs or by a filter
+     * with set-based updates. Only the tasks the current user is allowed to change are updated.
+     *
+     * @param transitionRequest the new status and priority together with the selection of the tasks.
+     * @return {@link TaskTransitionResponse} DTO containing the number of updated tasks.
+     */
+    TaskTransitionResponse transitionStatus(TaskTransitionRequest transitionRequest);
+}
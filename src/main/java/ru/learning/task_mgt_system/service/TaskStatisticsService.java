@@ -0,0 +1,74 @@
+package ru.learning.task_mgt_system.service;
+
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+import ru.learning.task_mgt_system.model.Task;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.web.dto.TaskResponse;
+import ru.learning.task_mgt_system.web.dto.TaskStatisticsResponse;
+
+import java.util.Collection;
+
+/**
+ * Service interface for the numbers of tasks per assignee, status and priority.
+ * <p>
+ * The numbers are held in memory and kept up to date by the task services, which report every task they
+ * create, change or delete; reading them does not query the database. They are periodically recounted by
+ * the database, which corrects the changes not reported on this instance.
+ */
+public interface TaskStatisticsService {
+
+    /**
+     * Retrieves the numbers of tasks per assignee, status and priority.
+     *
+     * @param assigneeId the ID of the assignee to count the tasks of, or {@code null} for all assignees.
+     * @return {@link TaskStatisticsResponse} DTO containing the numbers of tasks.
+     */
+    TaskStatisticsResponse getStatistics(Long assigneeId);
+
+    /**
+     * Counts a changed task once the current transaction, if any, has been committed.
+     *
+     * @param before the task before the change, or {@code null} if it has been created.
+     * @param after  the task after the change, or {@code null} if it has been deleted.
+     */
+    void record(Bucket before, Bucket after);
+
+    /**
+     * Counts changed tasks once the current transaction, if any, has been committed.
+     *
+     * @param removed the tasks before the change, including the deleted ones.
+     * @param added   the tasks after the change, including the created ones.
+     */
+    void recordAll(Collection<Bucket> removed, Collection<Bucket> added);
+
+    /**
+     * Recounts the tasks by the database and replaces the in-memory numbers.
+     */
+    void reconcile();
+
+    /**
+     * The combination of assignee, status and priority a task is counted under.
+     *
+     * @param assigneeId the ID of the assignee of the task.
+     * @param status     the status of the task.
+     * @param priority   the priority of the task.
+     */
+    record Bucket(Long assigneeId, Status status, Priority priority) {
+
+        public static Bucket of(Task task) {
+            return task == null ? null
+                    : new Bucket(task.getAssignee() == null ? null : task.getAssignee().getId(), task.getStatus(), task.getPriority());
+        }
+
+        public static Bucket of(TaskRepository.TaskAttributes task) {
+            return task == null ? null : new Bucket(task.getAssigneeId(), task.getStatus(), task.getPriority());
+        }
+
+        public static Bucket of(TaskResponse task) {
+            return task == null ? null : new Bucket(task.getAssigneeId(),
+                    task.getStatus() == null ? null : Status.valueOf(task.getStatus()),
+                    task.getPriority() == null ? null : Priority.valueOf(task.getPriority()));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ru.learning.task_mgt_system.service;
+
+import ru.learning.task_mgt_system.exception.AuthenticationException;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.web.dto.UserRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for obtaining access tokens for user credentials.
+ */
+public interface TokenService {
+
+    /**
+     * Requests an access token for the provided user credentials.
+     * The request is executed asynchronously, so the calling thread is not blocked while waiting for the token.
+     *
+     * @param userRequest the user credentials.
+     * @return a {@link CompletableFuture} completed with the raw token response, or completed exceptionally
+     * with {@link AuthenticationException} if authentication fails.
+     * @throws ServiceUnavailableException if too many token requests are already in progress.
+     */
+    CompletableFuture<String> requestToken(UserRequest userRequest);
+}
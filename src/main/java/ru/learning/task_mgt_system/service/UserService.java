@@ -2,11 +2,15 @@ package ru.learning.task_mgt_system.service;
 
 import ru.learning.task_mgt_system.exception.EntityNotFoundException;
 import ru.learning.task_mgt_system.model.User;
+import ru.learning.task_mgt_system.web.dto.MultiGetResponse;
 import ru.learning.task_mgt_system.web.dto.UserInfo;
 import ru.learning.task_mgt_system.web.dto.UserListResponse;
 import ru.learning.task_mgt_system.web.dto.UserResponse;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service interface for managing users in the task management system.
@@ -31,6 +35,17 @@ public interface UserService {
      */
     UserListResponse getAll(int page, int size);
 
+    /**
+     * Retrieves a paginated list of all users with only the selected fields.
+     *
+     * @param page   the page number to retrieve (0-based index).
+     * @param size   the number of users per page.
+     * @param fields the fields of {@link UserResponse} to read; the others are left empty.
+     * @return {@link UserListResponse} DTO containing a list of all users.
+     * @throws ru.learning.task_mgt_system.exception.BadRequestException if a field is unknown.
+     */
+    UserListResponse getAll(int page, int size, Set<String> fields);
+
     /**
      * Retrieves a user by their ID.
      *
@@ -40,6 +55,22 @@ public interface UserService {
      */
     UserResponse getById(Long id);
 
+    /**
+     * Checks that a user exists, without reading the user.
+     *
+     * @param id the ID of the user.
+     * @throws EntityNotFoundException if no user with the specified ID is found.
+     */
+    void checkExists(Long id);
+
+    /**
+     * Retrieves many users by their IDs.
+     *
+     * @param ids the IDs of the users to retrieve.
+     * @return {@link MultiGetResponse} DTO containing the users in the order of the IDs, with the missing ones marked.
+     */
+    MultiGetResponse<UserResponse> getByIds(List<Long> ids);
+
     /**
      * Retrieves a user by their email address.
      *
@@ -54,4 +85,20 @@ public interface UserService {
      * @return {@link Optional<UserInfo>} an Optional containing the user info if the user is authenticated, or an empty Optional if not.
      */
     Optional<UserInfo> getCurrentUserInfo();
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the ID of a user by their email address.
+     *
+     * @param email the email address of the user.
+     * @return {@link Optional<Long>} an Optional containing the user ID if found, or an empty Optional if not.
+     */
+    Optional<Long> getIdByEmail(String email);
+
+    /**
+     * Retrieves which of the given IDs belong to existing users.
+     *
+     * @param ids the IDs of the users to check.
+     * @return {@link Set<Long>} the subset of the given IDs for which a user exists.
+     */
+    Set<Long> getExistingIds(Collection<Long> ids);
+}
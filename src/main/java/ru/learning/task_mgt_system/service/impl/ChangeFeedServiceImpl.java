@@ -0,0 +1,132 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.exception.BadRequestException;
+import ru.learning.task_mgt_system.model.OutboxEvent;
+import ru.learning.task_mgt_system.model.mapper.ChangeEventMapper;
+import ru.learning.task_mgt_system.properties.OutboxProperties;
+import ru.learning.task_mgt_system.repository.OutboxEventRepository;
+import ru.learning.task_mgt_system.service.ChangeFeedService;
+import ru.learning.task_mgt_system.web.dto.ChangeEventResponse;
+import ru.learning.task_mgt_system.web.dto.ChangeFeedResponse;
+
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of {@link ChangeFeedService} backed by the outbox table.
+ * <p>
+ * Events get their position from the relay, not when they are written: a transaction may commit after another one
+ * that started later, so the order of the IDs is not the order in which the events become visible. The relay
+ * locks the committed events without a position in the order of their IDs and numbers them after the last
+ * published position. Positions are unique, so a relay that has numbered events concurrently with another one
+ * fails instead of publishing them out of order, and its events are published by the next run. A reader
+ * therefore never finds an event behind a position it has already passed.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeEventMapper changeEventMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties outboxProperties;
+
+    /**
+     * Reads the events after a position with a single index range scan.
+     *
+     * @param after the position of the last event the reader has processed, {@code 0} to read from the start.
+     * @param limit the maximum number of events.
+     * @return {@link ChangeFeedResponse} DTO containing the events and the cursor to read the next page.
+     * @throws BadRequestException if the position is negative or the limit is out of range.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse read(long after, int limit) {
+        if (after < 0) {
+            throw new BadRequestException("The position to read after must not be negative.");
+        }
+        if (limit < 1 || limit > outboxProperties.getMaxPageSize()) {
+            throw new BadRequestException(MessageFormat.format("The limit must be between 1 and {0}.",
+                    outboxProperties.getMaxPageSize()));
+        }
+
+        // One event more than requested tells whether another page follows
+        List<ChangeEventResponse> events = outboxEventRepository
+                .findByPositionGreaterThanOrderByPositionAsc(after, Limit.of(limit + 1)).stream()
+                .map(changeEventMapper::outboxEventToResponse)
+                .toList();
+        boolean hasMore = events.size() > limit;
+        if (hasMore) {
+            events = events.subList(0, limit);
+        }
+        long nextCursor = events.isEmpty() ? after : events.get(events.size() - 1).getPosition();
+        return new ChangeFeedResponse(events, nextCursor, hasMore);
+    }
+
+    @Override
+    public long currentPosition() {
+        return outboxEventRepository.findLastPosition();
+    }
+
+    /**
+     * Publishes one batch of committed events in a transaction of its own.
+     *
+     * @return the number of published events.
+     */
+    @Override
+    public int publish() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findUnpublished(Limit.of(outboxProperties.getRelayBatchSize()));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            long position = outboxEventRepository.findLastPosition();
+            for (OutboxEvent event : events) {
+                event.setPosition(++position);
+            }
+            outboxEventRepository.flush();
+            return events.size();
+        });
+        return published == null ? 0 : published;
+    }
+
+    /**
+     * Runs the relay on schedule until the outbox holds no committed events without a position.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval:PT1S}")
+    public void publishOnSchedule() {
+        try {
+            int published;
+            do {
+                published = publish();
+                if (published > 0) {
+                    log.debug("Published {} change events.", published);
+                }
+            } while (published == outboxProperties.getRelayBatchSize());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Another relay has published change events concurrently, retrying on the next run.");
+        }
+    }
+
+    /**
+     * Deletes the published events older than the retention on schedule.
+     */
+    @Scheduled(initialDelayString = "${app.outbox.cleanup-interval:PT1H}", fixedDelayString = "${app.outbox.cleanup-interval:PT1H}")
+    public void cleanupOnSchedule() {
+        int deleted = outboxEventRepository.deletePublishedBefore(Instant.now().minus(outboxProperties.getRetention()));
+        if (deleted > 0) {
+            log.info("Deleted {} change events older than {}.", deleted, outboxProperties.getRetention());
+        }
+    }
+}
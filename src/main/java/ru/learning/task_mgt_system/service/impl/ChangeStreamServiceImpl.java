@@ -0,0 +1,247 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+import ru.learning.task_mgt_system.properties.ChangeStreamProperties;
+import ru.learning.task_mgt_system.properties.OutboxProperties;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.service.ChangeFeedService;
+import ru.learning.task_mgt_system.service.ChangeStreamService;
+import ru.learning.task_mgt_system.service.impl.ChangeStreamSubscriber.TaskState;
+import ru.learning.task_mgt_system.web.dto.ChangeEventResponse;
+import ru.learning.task_mgt_system.web.dto.ChangeFeedResponse;
+import ru.learning.task_mgt_system.web.dto.TaskChangeFilter;
+
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link ChangeStreamService} that fans the change feed out to the open connections.
+ * <p>
+ * A single scheduled reader reads the new events of the feed on behalf of all connections, looks up the tasks
+ * they refer to with one query and offers every event to the connections whose filter it matches. An idle
+ * connection costs an emitter and an empty buffer only: no request thread is held, and writes are done by a
+ * small shared pool, see {@link ChangeStreamSubscriber}.
+ * </p>
+ * <p>
+ * Connections are registered under the same lock the reader holds while it dispatches a batch, so every event
+ * after the position read at registration reaches the buffer of the connection. A connection resuming from an
+ * older position first reads the missed events from the feed up to that position.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ChangeStreamServiceImpl implements ChangeStreamService {
+
+    private final ChangeFeedService changeFeedService;
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor changeStreamExecutor;
+    private final ChangeStreamProperties properties;
+    private final int pageSize;
+    private final Set<ChangeStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Lock dispatchLock = new ReentrantLock();  // Held over queries, so it does not pin virtual threads
+    private long position = -1;  // Guarded by dispatchLock, -1 until first read
+
+    public ChangeStreamServiceImpl(ChangeFeedService changeFeedService,
+                                   TaskRepository taskRepository,
+                                   ObjectMapper objectMapper,
+                                   ThreadPoolTaskExecutor changeStreamExecutor,
+                                   ChangeStreamProperties properties,
+                                   OutboxProperties outboxProperties) {
+        this.changeFeedService = changeFeedService;
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.changeStreamExecutor = changeStreamExecutor;
+        this.properties = properties;
+        this.pageSize = outboxProperties.getMaxPageSize();
+    }
+
+    @Override
+    public SseEmitter subscribe(TaskChangeFilter filter, Long lastEventId) {
+        if (subscribers.size() >= properties.getMaxConnections()) {
+            throw new ServiceUnavailableException(MessageFormat.format(
+                    "The change stream already serves {0} connections.", properties.getMaxConnections()));
+        }
+
+        SseEmitter emitter = newEmitter();
+        long current;
+        ChangeStreamSubscriber subscriber;
+        dispatchLock.lock();
+        try {
+            current = currentPosition();
+            long start = lastEventId == null || lastEventId > current ? current : lastEventId;
+            subscriber = new ChangeStreamSubscriber(emitter, filter, start, properties.getBufferSize(), changeStreamExecutor);
+            subscribers.add(subscriber);
+        } finally {
+            dispatchLock.unlock();
+        }
+
+        Runnable remove = () -> {
+            subscriber.close();
+            subscribers.remove(subscriber);
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        subscriber.start(() -> catchUp(subscriber, current));
+        log.debug("Opened a change stream connection at position {}, {} connections.", subscriber.position(), subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Reads the new events of the feed and offers them to the connections, on schedule.
+     * Without connections only the current position is taken over.
+     */
+    @Scheduled(fixedDelayString = "${app.change-stream.poll-interval:PT0.5S}")
+    public void dispatchOnSchedule() {
+        dispatchLock.lock();
+        try {
+            if (subscribers.isEmpty()) {
+                position = changeFeedService.currentPosition();
+                return;
+            }
+            ChangeFeedResponse page;
+            do {
+                page = changeFeedService.read(currentPosition(), pageSize);
+                dispatch(page.getEvents());
+                position = page.getNextCursor();
+            } while (page.isHasMore());
+        } catch (DataAccessException e) {
+            log.warn("Failed to read the change feed for the change stream: {}", e.getMessage());
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * Sends a heartbeat to the idle connections, on schedule.
+     */
+    @Scheduled(fixedRateString = "${app.change-stream.heartbeat-interval:PT15S}")
+    public void heartbeatOnSchedule() {
+        subscribers.forEach(ChangeStreamSubscriber::heartbeat);
+    }
+
+    /**
+     * Sends the events a resuming connection has missed, up to the position it has been registered at.
+     * Later events are in its buffer already.
+     *
+     * @param subscriber the connection.
+     * @param until      the position the connection has been registered at.
+     */
+    private void catchUp(ChangeStreamSubscriber subscriber, long until) {
+        long after = subscriber.position();
+        while (after < until && subscriber.isOpen()) {
+            ChangeFeedResponse page = changeFeedService.read(after, pageSize);
+            resolve(page.getEvents()).forEach((event, task) -> {
+                if (event.getPosition() <= until && subscriber.matches(task)) {
+                    subscriber.sendNow(event);
+                }
+            });
+            if (!page.isHasMore()) {
+                return;
+            }
+            after = page.getNextCursor();
+        }
+    }
+
+    /**
+     * Creates the emitter of a new connection.
+     *
+     * @return the emitter, timing out after the configured time.
+     */
+    SseEmitter newEmitter() {
+        return new SseEmitter(properties.getTimeout().toMillis());
+    }
+
+    private void dispatch(List<ChangeEventResponse> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        resolve(events).forEach((event, task) -> subscribers.forEach(subscriber -> {
+            if (subscriber.matches(task)) {
+                subscriber.offer(event);
+            }
+        }));
+    }
+
+    private long currentPosition() {
+        if (position < 0) {
+            position = changeFeedService.currentPosition();
+        }
+        return position;
+    }
+
+    /**
+     * Finds the state of the task every event refers to, with one query for all events. The fields of a task
+     * payload take precedence, as they describe the task right after the change; a task that no longer exists
+     * and has no such fields in the payload is unknown.
+     *
+     * @param events the events.
+     * @return the state of the task by event, in the order of the events; {@code null} for unknown tasks.
+     */
+    private Map<ChangeEventResponse, TaskState> resolve(List<ChangeEventResponse> events) {
+        Map<ChangeEventResponse, JsonNode> payloads = new LinkedHashMap<>();
+        Map<ChangeEventResponse, Long> taskIds = new HashMap<>();
+        for (ChangeEventResponse event : events) {
+            JsonNode payload = readPayload(event);
+            payloads.put(event, payload);
+            taskIds.put(event, event.getAggregateType() == AggregateType.TASK
+                    ? event.getAggregateId()
+                    : payload.path("taskId").isNumber() ? payload.path("taskId").asLong() : null);
+        }
+
+        Set<Long> ids = taskIds.values().stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, TaskRepository.TaskAttributes> current = ids.isEmpty() ? Map.of() : taskRepository.findAttributesByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(TaskRepository.TaskAttributes::getId, Function.identity()));
+
+        Map<ChangeEventResponse, TaskState> states = new LinkedHashMap<>();
+        payloads.forEach((event, payload) -> states.put(event, toState(current.get(taskIds.get(event)),
+                event.getAggregateType() == AggregateType.TASK ? payload : null)));
+        return states;
+    }
+
+    private TaskState toState(TaskRepository.TaskAttributes attributes, JsonNode payload) {
+        if (attributes == null && (payload == null || !payload.has("authorId"))) {
+            return null;
+        }
+        Long authorId = attributes == null ? null : attributes.getAuthorId();
+        Long assigneeId = attributes == null ? null : attributes.getAssigneeId();
+        Status status = attributes == null ? null : attributes.getStatus();
+        Priority priority = attributes == null ? null : attributes.getPriority();
+        if (payload != null) {
+            authorId = payload.has("authorId") ? Long.valueOf(payload.get("authorId").asLong()) : authorId;
+            assigneeId = payload.has("assigneeId") ? Long.valueOf(payload.get("assigneeId").asLong()) : assigneeId;
+            status = payload.has("status") ? Status.valueOf(payload.get("status").asText()) : status;
+            priority = payload.has("priority") ? Priority.valueOf(payload.get("priority").asText()) : priority;
+        }
+        return new TaskState(authorId, assigneeId, status, priority);
+    }
+
+    private JsonNode readPayload(ChangeEventResponse event) {
+        try {
+            return event.getPayload() == null ? objectMapper.createObjectNode() : objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping the unreadable payload of change event {}.", event.getPosition());
+            return objectMapper.createObjectNode();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+import ru.learning.task_mgt_system.web.dto.ChangeEventResponse;
+import ru.learning.task_mgt_system.web.dto.TaskChangeFilter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A connection of the live change stream with its own bounded buffer.
+ * <p>
+ * Events are offered without blocking and written to the connection by at most one task of the shared executor
+ * at a time, in the order they were offered. A client that does not read fast enough only fills its own buffer;
+ * once the buffer is full the connection is closed, so the client reconnects and catches up from the change feed
+ * instead of holding memory or threads. Events at or before the position already sent are skipped, so the
+ * catch-up and the live events may overlap.
+ * </p>
+ */
+@Slf4j
+final class ChangeStreamSubscriber {
+
+    private static final ChangeEventResponse HEARTBEAT = new ChangeEventResponse();
+
+    private final SseEmitter emitter;
+    private final TaskChangeFilter filter;
+    private final int capacity;
+    private final Executor executor;
+    private final Deque<ChangeEventResponse> buffer = new ArrayDeque<>();
+    private boolean draining = true;  // The catch-up drains first, see start()
+    private volatile boolean closed;
+    private volatile long position;
+
+    ChangeStreamSubscriber(SseEmitter emitter, TaskChangeFilter filter, long position, int capacity, Executor executor) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.position = position;
+        this.capacity = capacity;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the connection: runs the catch-up, then writes the events offered in the meantime.
+     *
+     * @param catchUp the task sending the events missed before the connection, see {@link #sendNow}.
+     */
+    void start(Runnable catchUp) {
+        submit(() -> {
+            try {
+                catchUp.run();
+            } catch (RuntimeException e) {
+                log.warn("Failed to catch up a change stream connection from position {}.", position, e);
+                close();
+                emitter.completeWithError(e);
+                return;
+            }
+            drain();
+        });
+    }
+
+    /**
+     * Checks whether the changes of a task match the filter of the connection.
+     *
+     * @param task the state of the task, or {@code null} if it is not known any more.
+     * @return true if the changes are sent to the connection; changes of unknown tasks always are.
+     */
+    boolean matches(TaskState task) {
+        if (task == null) {
+            return true;
+        }
+        return (filter.getAuthorId() == null || filter.getAuthorId().equals(task.authorId()))
+                && (filter.getAssigneeId() == null || filter.getAssigneeId().equals(task.assigneeId()))
+                && (filter.getStatus() == null || filter.getStatus() == task.status())
+                && (filter.getPriority() == null || filter.getPriority() == task.priority());
+    }
+
+    /**
+     * Buffers an event for the connection without blocking.
+     * The connection is closed if its buffer is full.
+     *
+     * @param event the event.
+     */
+    void offer(ChangeEventResponse event) {
+        enqueue(event, false);
+    }
+
+    /**
+     * Buffers a heartbeat, unless events are already waiting to be sent.
+     */
+    void heartbeat() {
+        enqueue(HEARTBEAT, true);
+    }
+
+    /**
+     * Sends an event right away. Only called by the catch-up, which runs before the buffered events are drained.
+     *
+     * @param event the event.
+     */
+    void sendNow(ChangeEventResponse event) {
+        send(event);
+    }
+
+    /**
+     * Returns the position of the last event sent to the connection.
+     *
+     * @return the last position sent.
+     */
+    long position() {
+        return position;
+    }
+
+    boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * Marks the connection as closed and drops its buffer. Called when the emitter has completed.
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+            buffer.clear();
+        }
+    }
+
+    private void enqueue(ChangeEventResponse event, boolean onlyIfIdle) {
+        boolean overflow = false;
+        boolean schedule = false;
+        synchronized (this) {
+            if (closed || onlyIfIdle && !buffer.isEmpty()) {
+                return;
+            }
+            if (buffer.size() >= capacity) {
+                overflow = true;
+                closed = true;
+                buffer.clear();
+            } else {
+                buffer.add(event);
+                schedule = !draining;
+                draining = true;
+            }
+        }
+        if (overflow) {
+            log.info("Closing a change stream connection whose client does not keep up, at position {}.", position);
+            emitter.complete();
+        } else if (schedule) {
+            submit(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            ChangeEventResponse event;
+            synchronized (this) {
+                event = closed ? null : buffer.poll();
+                if (event == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            send(event);
+        }
+    }
+
+    private void send(ChangeEventResponse event) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (event == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else if (event.getPosition() > position) {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getPosition()))
+                        .name(event.getAggregateType() + "_" + event.getType())
+                        .data(event, MediaType.APPLICATION_JSON));
+                position = event.getPosition();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone away, the emitter callbacks remove the connection
+            close();
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Closing a change stream connection, the senders are overloaded.");
+            close();
+            emitter.complete();
+        }
+    }
+
+    /**
+     * The attributes of a task by which its changes are filtered.
+     */
+    record TaskState(Long authorId, Long assigneeId, Status status, Priority priority) {
+    }
+}
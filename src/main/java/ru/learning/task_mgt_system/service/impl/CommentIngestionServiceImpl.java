@@ -0,0 +1,308 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
+import ru.learning.task_mgt_system.model.Comment;
+import ru.learning.task_mgt_system.properties.CommentIngestionProperties;
+import ru.learning.task_mgt_system.repository.CommentRepository;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.repository.UserRepository;
+import ru.learning.task_mgt_system.service.CommentIngestionService;
+import ru.learning.task_mgt_system.service.OutboxService;
+import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.web.dto.CommentAcceptedResponse;
+import ru.learning.task_mgt_system.web.dto.CommentRequest;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.UserInfo;
+
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link CommentIngestionService} with a bounded write-behind buffer.
+ * <p>
+ * A comment is accepted after cheap checks only: the request has been validated by the controller, the task
+ * is checked by its primary key and the author is resolved to an ID. The comment gets an ID reserved from the
+ * comment sequence and is put into a bounded in-memory queue. A single writer thread takes the comments in
+ * the order they were accepted and persists them in batches, as soon as a batch is full or the oldest comment
+ * has waited for the flush interval. If the queue stays full for the offer timeout, the request is rejected
+ * with {@link ServiceUnavailableException}, so producers are slowed down instead of the buffer growing.
+ * </p>
+ * <p>
+ * Guarantees:
+ * <ul>
+ *     <li>An acknowledged comment is only held in memory until its batch is written. It is lost if the process
+ *     crashes before that; at most the capacity of the queue is at risk.</li>
+ *     <li>On a graceful shutdown new comments are rejected and the buffered ones are written before the
+ *     database connections are closed, waiting at most the shutdown timeout.</li>
+ *     <li>A comment that the database rejects when written, for example because its task has been deleted in
+ *     the meantime, is logged and dropped; the other comments of the batch are still written.</li>
+ *     <li>Comments are written exactly once and in the order they were accepted, under the acknowledged ID.
+ *     Until then they are not returned by the read endpoints.</li>
+ * </ul>
+ * Clients that need the comment to be stored before the response use the synchronous
+ * {@link ru.learning.task_mgt_system.service.CommentService#create} instead.
+ * </p>
+ */
+@Service
+@Slf4j
+public class CommentIngestionServiceImpl implements CommentIngestionService, SmartLifecycle {
+
+    /**
+     * Longest time the writer blocks on the queue before it checks whether the ingestion is being stopped.
+     */
+    private static final long POLL_MILLIS = 100;
+
+    private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final CommentIngestionProperties properties;
+    private final OutboxService outboxService;
+    private final BlockingQueue<PendingComment> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public CommentIngestionServiceImpl(CommentRepository commentRepository,
+                                       TaskRepository taskRepository,
+                                       UserRepository userRepository,
+                                       UserService userService,
+                                       TransactionTemplate transactionTemplate,
+                                       CacheManager cacheManager,
+                                       CommentIngestionProperties properties,
+                                       OutboxService outboxService) {
+        this.commentRepository = commentRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.outboxService = outboxService;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * Validates a comment cheaply, reserves its ID and puts it into the write-behind queue.
+     *
+     * @param commentRequest the details of the comment to be created.
+     * @return {@link CommentAcceptedResponse} DTO containing the ID reserved for the comment.
+     * @throws EntityNotFoundException     if the task does not exist or the user information is missing.
+     * @throws ServiceUnavailableException if the queue is full or the ingestion is shutting down.
+     */
+    @Override
+    public CommentAcceptedResponse accept(CommentRequest commentRequest) {
+        if (!running) {
+            throw new ServiceUnavailableException("Comment ingestion is not available, retry later.");
+        }
+        Long taskId = commentRequest.getTaskId();
+        if (!taskRepository.existsById(taskId)) {
+            log.error("Task with ID {} not found.", taskId);
+            throw new EntityNotFoundException(MessageFormat.format("Task with ID {0} not found.", taskId));
+        }
+        Long authorId = getAuthorId();
+
+        PendingComment comment = new PendingComment(commentRepository.reserveId(), taskId, authorId,
+                commentRequest.getText(), Instant.now());
+        try {
+            if (!queue.offer(comment, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Comment ingestion queue is full, rejecting a comment for task ID {}.", taskId);
+                throw new ServiceUnavailableException("Too many comments are waiting to be written, retry later.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Comment ingestion has been interrupted, retry later.");
+        }
+        return new CommentAcceptedResponse(comment.id(), taskId, comment.acceptedAt());
+    }
+
+    /**
+     * Resolves the ID of the current user, registering the user on the first comment.
+     *
+     * @return the ID of the current user.
+     */
+    private Long getAuthorId() {
+        UserInfo currentUserInfo = userService.getCurrentUserInfo()
+                .orElseThrow(() -> new EntityNotFoundException("User information is missing."));
+        return userService.getIdByEmail(currentUserInfo.email())
+                .orElseGet(() -> userService.createOrRetrieveUser().getId());
+    }
+
+    /**
+     * Takes the accepted comments from the queue and writes them in batches until the ingestion is stopped
+     * and the queue is empty.
+     */
+    private void drain() {
+        long flushInterval = properties.getFlushInterval().toMillis();
+        List<PendingComment> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushInterval;
+                // Wait for the batch to fill up, but not past the deadline and not during the shutdown
+                while (running && batch.size() < properties.getBatchSize()) {
+                    queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= properties.getBatchSize() || remaining <= 0) {
+                        break;
+                    }
+                    PendingComment next = queue.poll(Math.min(remaining, POLL_MILLIS), TimeUnit.MILLISECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                queue.drainTo(batch, properties.getBatchSize() - batch.size());
+            } catch (InterruptedException e) {
+                // Interrupted on a timed out shutdown, write what has been taken and leave
+                Thread.currentThread().interrupt();
+                write(batch);
+                return;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes a batch of comments with a single transaction. If the batch fails, the comments are written one by
+     * one, so only the rejected ones are dropped.
+     *
+     * @param batch the comments to write.
+     */
+    private void write(List<PendingComment> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(batch));
+            log.info("Wrote a batch of {} comments.", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} comments failed, writing them one by one.", batch.size(), e);
+            for (PendingComment comment : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> save(List.of(comment)));
+                } catch (RuntimeException ex) {
+                    log.error("Dropping comment with ID {} for task ID {} accepted at {}: {}",
+                            comment.id(), comment.taskId(), comment.acceptedAt(), ex.getMessage());
+                }
+            }
+        }
+
+        // The cached tasks embed their comments
+        Cache tasksById = cacheManager.getCache("databaseEntityById");
+        if (tasksById != null) {
+            batch.stream().map(PendingComment::taskId).distinct().forEach(tasksById::evict);
+        }
+    }
+
+    /**
+     * Persists accepted comments and reports their creation to the outbox in the current transaction.
+     *
+     * @param comments the accepted comments.
+     */
+    private void save(List<PendingComment> comments) {
+        List<Comment> entities = comments.stream().map(this::toComment).toList();
+        commentRepository.saveAll(entities);
+
+        Map<Long, CommentResponse> payloads = new LinkedHashMap<>();
+        for (int i = 0; i < comments.size(); i++) {
+            PendingComment comment = comments.get(i);
+            payloads.put(comment.id(), CommentResponse.builder()
+                    .id(comment.id())
+                    .taskId(comment.taskId())
+                    .authorId(comment.authorId())
+                    .text(comment.text())
+                    .createdAt(entities.get(i).getCreatedAt())
+                    .version(entities.get(i).getVersion())
+                    .build());
+        }
+        outboxService.recordEach(AggregateType.COMMENT, ChangeType.CREATED, payloads);
+    }
+
+    /**
+     * Creates the entity of an accepted comment, referencing the task and the author without loading them.
+     *
+     * @param comment the accepted comment.
+     * @return the comment entity with the reserved ID.
+     */
+    private Comment toComment(PendingComment comment) {
+        return Comment.builder()
+                .id(comment.id())
+                .text(comment.text())
+                .task(taskRepository.getReferenceById(comment.taskId()))
+                .author(userRepository.getReferenceById(comment.authorId()))
+                .build();
+    }
+
+    /**
+     * Starts the writer thread and begins to accept comments.
+     */
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "comment-ingestion");
+        writer.start();
+    }
+
+    /**
+     * Stops accepting comments and waits until the buffered ones have been written.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(properties.getShutdownTimeout().toMillis());
+            if (writer.isAlive()) {
+                log.error("Comment ingestion did not finish within {}, {} comments are lost.",
+                        properties.getShutdownTimeout(), queue.size());
+                writer.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, so no request is accepted once the queue is being drained.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * A comment that has been accepted but not written yet.
+     */
+    private record PendingComment(Long id, Long taskId, Long authorId, String text, Instant acceptedAt) {
+    }
+}
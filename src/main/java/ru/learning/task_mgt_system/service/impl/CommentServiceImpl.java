@@ -2,29 +2,50 @@ package ru.learning.task_mgt_system.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.exception.BadRequestException;
 import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.exception.VersionConflictException;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
 import ru.learning.task_mgt_system.model.Comment;
 import ru.learning.task_mgt_system.model.Task;
 import ru.learning.task_mgt_system.model.User;
 import ru.learning.task_mgt_system.model.mapper.CommentMapper;
 import ru.learning.task_mgt_system.model.mapper.TaskMapper;
+import ru.learning.task_mgt_system.properties.BulkProperties;
 import ru.learning.task_mgt_system.repository.CommentRepository;
+import ru.learning.task_mgt_system.repository.CommentSpecification;
 import ru.learning.task_mgt_system.repository.TaskRepository;
 import ru.learning.task_mgt_system.service.CommentService;
+import ru.learning.task_mgt_system.service.OutboxService;
 import ru.learning.task_mgt_system.service.TaskService;
 import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.validation.EntityType;
+import ru.learning.task_mgt_system.validation.OwnershipContextHolder;
 import ru.learning.task_mgt_system.web.dto.CommentListResponse;
 import ru.learning.task_mgt_system.web.dto.CommentRequest;
 import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.MultiGetResponse;
 
 import java.text.MessageFormat;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link CommentService} interface. Provides methods to manage comments including
  * creation, retrieval, updating, and deletion.
+ * Every change is reported to the outbox in the transaction that makes it, see {@link OutboxService}.
+ * The cached tasks embed their comments, so every change evicts the tasks it touches once it is committed.
  */
 @Service
 @RequiredArgsConstructor
@@ -36,6 +57,10 @@ public class CommentServiceImpl implements CommentService {
     private final UserService userService;
     private final CommentMapper commentMapper;
     private final TaskMapper taskMapper;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkProperties bulkProperties;
+    private final CacheManager cacheManager;
 
     /**
      * Creates a new comment based on the provided request details.
@@ -43,6 +68,7 @@ public class CommentServiceImpl implements CommentService {
      * @param commentRequest the details of the comment to be created.
      * @return {@link CommentResponse} DTO containing the details of the created comment.
      */
+    @Transactional
     @Override
     public CommentResponse create(CommentRequest commentRequest) {
         User author = userService.createOrRetrieveUser();
@@ -53,9 +79,12 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentMapper.commentRequestToComment(commentRequest);
         comment.setAuthor(author);
         Comment savedComment = commentRepository.save(comment);
+        CommentResponse response = commentMapper.commentToCommentResponse(savedComment);
+        outboxService.record(AggregateType.COMMENT, savedComment.getId(), ChangeType.CREATED, response);
+        evictTasks(commentRequest.getTaskId());
 
         log.info("Successfully created comment with ID {} for task ID {}.", savedComment.getId(), commentRequest.getTaskId());
-        return commentMapper.commentToCommentResponse(savedComment);
+        return response;
     }
 
     /**
@@ -74,6 +103,23 @@ public class CommentServiceImpl implements CommentService {
                 }));
     }
 
+    /**
+     * Retrieves many comments by their IDs, using a single query.
+     *
+     * @param ids the IDs of the comments to retrieve.
+     * @return {@link MultiGetResponse} DTO containing the comments in the order of the IDs, with the missing ones marked.
+     * @throws BadRequestException if the request contains more IDs than allowed.
+     */
+    @Override
+    public MultiGetResponse<CommentResponse> getByIds(List<Long> ids) {
+        return MultiGet.of(ids, bulkProperties.getMaxItems(), distinctIds -> {
+            Map<Long, CommentResponse> found = commentRepository.findAllById(distinctIds).stream()
+                    .collect(Collectors.toMap(Comment::getId, commentMapper::commentToCommentResponse));
+            log.info("Fetched {} of {} comments.", found.size(), distinctIds.size());
+            return found;
+        });
+    }
+
     /**
      * Retrieves a paginated list of comments associated with a specific task.
      *
@@ -89,6 +135,39 @@ public class CommentServiceImpl implements CommentService {
         return commentMapper.commentListToCommentListResponse(commentRepository.findByTaskId(taskId, pageable));
     }
 
+    /**
+     * Retrieves a paginated list of comments associated with a specific task, reading only the selected fields.
+     *
+     * @param taskId the ID of the task for which comments are to be retrieved.
+     * @param page   the page number to retrieve (0-based index).
+     * @param size   the number of comments per page.
+     * @param fields the fields of {@link CommentResponse} to read.
+     * @return {@link CommentListResponse} DTO containing a list of comments with the selected fields.
+     */
+    @Override
+    public CommentListResponse getByTaskId(Long taskId, int page, int size, Set<String> fields) {
+        Set<String> selected = SparseFields.of(CommentResponse.class, fields);
+        log.info("Fetching fields {} of comments for task ID {}. Page: {}, Size: {}.", selected, taskId, page, size);
+        return commentMapper.tupleListToCommentListResponse(commentRepository.findFields(
+                CommentSpecification.byTaskId(taskId), selected, PageRequest.of(page, size)));
+    }
+
+    /**
+     * Retrieves the latest comments of many tasks with a single query.
+     *
+     * @param taskIds the IDs of the tasks whose comments are to be retrieved.
+     * @param limit   the maximum number of comments per task.
+     * @return the comments of every task that has any, from the newest to the oldest.
+     */
+    @Override
+    public Map<Long, List<CommentResponse>> getLatestByTaskIds(Collection<Long> taskIds, int limit) {
+        Map<Long, List<CommentResponse>> latest = commentRepository.findLatestByTaskIds(taskIds, limit).stream()
+                .map(commentMapper::commentToCommentResponse)
+                .collect(Collectors.groupingBy(CommentResponse::getTaskId));
+        log.info("Fetched the latest {} comments of {} tasks.", limit, taskIds.size());
+        return latest;
+    }
+
     /**
      * Retrieves a paginated list of comments authored by a specific user.
      *
@@ -104,47 +183,128 @@ public class CommentServiceImpl implements CommentService {
         return commentMapper.commentListToCommentListResponse(commentRepository.findByAuthorId(authorId, pageable));
     }
 
+    /**
+     * Retrieves a paginated list of comments authored by a specific user, reading only the selected fields.
+     *
+     * @param authorId the ID of the author whose comments are to be retrieved.
+     * @param page     the page number to retrieve (0-based index).
+     * @param size     the number of comments per page.
+     * @param fields   the fields of {@link CommentResponse} to read.
+     * @return {@link CommentListResponse} DTO containing a list of comments with the selected fields.
+     */
+    @Override
+    public CommentListResponse getByAuthorId(Long authorId, int page, int size, Set<String> fields) {
+        Set<String> selected = SparseFields.of(CommentResponse.class, fields);
+        log.info("Fetching fields {} of comments for author ID {}. Page: {}, Size: {}.", selected, authorId, page, size);
+        return commentMapper.tupleListToCommentListResponse(commentRepository.findFields(
+                CommentSpecification.byAuthorId(authorId), selected, PageRequest.of(page, size)));
+    }
+
     /**
      * Updates an existing comment based on the provided request details.
+     * The comment is written with a version check, so a concurrent edit is reported instead of being overwritten.
+     * The write and its change event share a transaction of their own, which is rolled back if the check fails.
      *
-     * @param id             the ID of the comment to update.
-     * @param commentRequest the details to update the comment with.
+     * @param id              the ID of the comment to update.
+     * @param commentRequest  the details to update the comment with.
+     * @param expectedVersion the version of the comment the client has read, or {@code null} to skip the check.
      * @return {@link CommentResponse} DTO containing the details of the updated comment.
-     * @throws EntityNotFoundException if the comment or the associated task is not found.
+     * @throws EntityNotFoundException  if the comment or the associated task is not found.
+     * @throws VersionConflictException if the comment has been changed since the client read it.
      */
     @Override
-    public CommentResponse update(Long id, CommentRequest commentRequest) {
-        Comment existingComment = commentRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("Comment not found with id: {}", id);
-                    return new EntityNotFoundException(MessageFormat.format("Comment not found with id: {0}.", id));
-                });
+    public CommentResponse update(Long id, CommentRequest commentRequest, Long expectedVersion) {
+        // Reuse the comment already loaded by the ownership check, if any
+        Comment existingComment = OwnershipContextHolder.getEntity(EntityType.COMMENT, id, Comment.class)
+                .orElseGet(() -> commentRepository.findById(id)
+                        .orElseThrow(() -> {
+                            log.error("Comment not found with id: {}", id);
+                            return new EntityNotFoundException(MessageFormat.format("Comment not found with id: {0}.", id));
+                        }));
+        if (expectedVersion != null && !expectedVersion.equals(existingComment.getVersion())) {
+            throw conflict(id, existingComment.getVersion());
+        }
 
         // Verify that the associated task exists
         taskService.getById(commentRequest.getTaskId());
 
         // Setting new values
+        Long previousTaskId = existingComment.getTask() == null ? null : existingComment.getTask().getId();
         existingComment.setText(commentRequest.getText());
         existingComment.setTask(taskMapper.taskRequestResponseWithCommentsToTask(taskService.getById(commentRequest.getTaskId())));
 
-        Comment updatedComment = commentRepository.save(existingComment);
+        CommentResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                CommentResponse updated = commentMapper.commentToCommentResponse(commentRepository.saveAndFlush(existingComment));
+                outboxService.record(AggregateType.COMMENT, id, ChangeType.UPDATED, updated);
+                return updated;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            // The text is the only field, so a concurrent edit always conflicts
+            throw conflict(id, commentRepository.findVersionById(id).orElse(null));
+        }
+        evictTasks(previousTaskId, commentRequest.getTaskId());
         log.info("Successfully updated comment with ID {}.", id);
-        return commentMapper.commentToCommentResponse(updatedComment);
+        return response;
     }
 
     /**
      * Deletes a comment by its ID.
+     * The ID of its task is read first, so the change event tells which task has lost the comment.
      *
      * @param id the ID of the comment to delete.
      * @throws EntityNotFoundException if the comment with the specified ID is not found.
      */
+    @Transactional
     @Override
     public void delete(Long id) {
-        if (!commentRepository.existsById(id)) {
-            log.error("Comment not found with id: {}", id);
-            throw new EntityNotFoundException(MessageFormat.format("Comment not found with id: {0}.", id));
-        }
+        Long taskId = commentRepository.findTaskIdById(id)
+                .orElseThrow(() -> {
+                    log.error("Comment not found with id: {}", id);
+                    return new EntityNotFoundException(MessageFormat.format("Comment not found with id: {0}.", id));
+                });
         commentRepository.deleteById(id);
+        outboxService.record(AggregateType.COMMENT, id, ChangeType.DELETED,
+                CommentResponse.builder().id(id).taskId(taskId).build());
+        evictTasks(taskId);
         log.info("Successfully deleted comment with ID {}.", id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates the exception reporting a concurrent change of a comment.
+     *
+     * @param id             the ID of the comment.
+     * @param currentVersion the current version of the comment.
+     * @return the exception to throw.
+     */
+    private VersionConflictException conflict(Long id, Long currentVersion) {
+        log.warn("Comment with ID {} has been changed concurrently, current version is {}.", id, currentVersion);
+        return new VersionConflictException(MessageFormat.format(
+                "Comment with ID {0} has been changed by another request, current version is {1}.", id, currentVersion),
+                currentVersion);
+    }
+
+    /**
+     * Evicts the cached tasks, after the commit if a transaction is active.
+     *
+     * @param taskIds the IDs of the tasks whose comments have changed, may contain {@code null}.
+     */
+    private void evictTasks(Long... taskIds) {
+        Cache tasksById = cacheManager.getCache("databaseEntityById");
+        if (tasksById == null) {
+            return;
+        }
+        Runnable evict = () -> Arrays.stream(taskIds).filter(Objects::nonNull).distinct().forEach(tasksById::evict);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+}
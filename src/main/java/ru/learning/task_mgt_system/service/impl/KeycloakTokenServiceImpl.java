@@ -0,0 +1,153 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import ru.learning.task_mgt_system.exception.AuthenticationException;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.properties.TokenClientProperties;
+import ru.learning.task_mgt_system.service.TokenService;
+import ru.learning.task_mgt_system.web.dto.UserRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Implementation of the {@link TokenService} interface that proxies token requests to Keycloak.
+ * <p>
+ * Requests are executed on a dedicated executor through a pooled HTTP client with connect and read timeouts.
+ * A semaphore acts as a bulkhead: when the configured number of requests is already in flight, new requests
+ * are rejected at once, without waiting on the servlet thread, instead of piling up behind a slow authorization server.
+ */
+@Service
+@Profile("!local-issuer")
+@Slf4j
+public class KeycloakTokenServiceImpl implements TokenService {
+
+    private final RestTemplate restTemplate;
+    private final ThreadPoolTaskExecutor tokenExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentRequests;
+
+    @Value("${app.client-id}")
+    private String clientId;
+
+    @Value("${app.resource-url}")
+    private String resourceServerUrl;
+
+    @Value("${app.grant-type}")
+    private String grantType;
+
+    @Value("${app.secret}")
+    private String secret;
+
+    public KeycloakTokenServiceImpl(RestTemplate restTemplate,
+                                    ThreadPoolTaskExecutor tokenExecutor,
+                                    MeterRegistry meterRegistry,
+                                    TokenClientProperties properties) {
+        this.restTemplate = restTemplate;
+        this.tokenExecutor = tokenExecutor;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentRequests());
+        this.maxConcurrentRequests = properties.getMaxConcurrentRequests();
+
+        Gauge.builder("auth.token.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Number of free slots for concurrent token requests")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Requests an access token for the provided user credentials.
+     *
+     * @param userRequest the user credentials.
+     * @return a {@link CompletableFuture} completed with the raw token response.
+     * @throws ServiceUnavailableException if the bulkhead is full.
+     */
+    @Override
+    public CompletableFuture<String> requestToken(UserRequest userRequest) {
+        acquirePermit();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return CompletableFuture.supplyAsync(() -> exchange(userRequest), tokenExecutor)
+                    .whenComplete((token, ex) -> {
+                        bulkhead.release();
+                        sample.stop(meterRegistry.timer("auth.token.requests", "outcome", ex == null ? "success" : "failure"));
+                    });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            meterRegistry.counter("auth.token.rejected").increment();
+            log.warn("Token request for email {} was rejected by the executor.", userRequest.getEmail());
+            throw new ServiceUnavailableException("Too many authentication requests. Please retry later.");
+        }
+    }
+
+    /**
+     * Takes a free slot without waiting, so a full bulkhead never blocks the calling thread.
+     *
+     * @throws ServiceUnavailableException if no slot is free.
+     */
+    private void acquirePermit() {
+        if (!bulkhead.tryAcquire()) {
+            meterRegistry.counter("auth.token.rejected").increment();
+            log.warn("Token request rejected: the limit of {} concurrent token requests is reached.", maxConcurrentRequests);
+            throw new ServiceUnavailableException("Too many authentication requests. Please retry later.");
+        }
+    }
+
+    /**
+     * Sends the password grant request to the authorization server.
+     *
+     * @param userRequest the user credentials.
+     * @return the raw token response.
+     * @throws AuthenticationException if the authorization server rejects the credentials.
+     * @throws ServiceUnavailableException if the authorization server cannot be reached in time.
+     */
+    private String exchange(UserRequest userRequest) {
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        // Build the request body using MultiValueMap
+        var body = new LinkedMultiValueMap<String, String>();
+        body.add("client_id", clientId);
+        body.add("client_secret", secret);
+        body.add("username", userRequest.getEmail());
+        body.add("password", userRequest.getPassword());
+        body.add("grant_type", grantType);
+
+        var requestEntity = new HttpEntity<>(body, headers);
+
+        try {
+            // Send the request to the authentication server
+            var response = restTemplate.exchange(
+                    resourceServerUrl,
+                    HttpMethod.POST,
+                    requestEntity,
+                    String.class
+            );
+
+            // Check response status and return token or throw exception
+            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+                log.info("Successfully received token");
+                return response.getBody();
+            }
+            throw new AuthenticationException("Authentication failed with status: " + response.getStatusCode());
+        } catch (ResourceAccessException e) {
+            log.error("Authorization server is not reachable: {}", e.getMessage());
+            throw new ServiceUnavailableException("Authorization server is not available. Please retry later.");
+        } catch (Exception e) {
+            log.error("Error during authentication with email: " + userRequest.getEmail(), e);
+            throw new AuthenticationException("Error during authentication with email: " + userRequest.getEmail());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+import ru.learning.task_mgt_system.exception.AuthenticationException;
+import ru.learning.task_mgt_system.properties.LocalIssuerProperties;
+import ru.learning.task_mgt_system.service.TokenService;
+import ru.learning.task_mgt_system.web.dto.UserRequest;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the {@link TokenService} interface for the "local-issuer" profile.
+ * <p>
+ * Issues signed tokens in-process with the same name claims Keycloak puts into its tokens
+ * ("preferred_username", "given_name" and "family_name"), so user resolution works exactly as in production.
+ * Passwords are not checked: the profile is intended for load and benchmark runs only.
+ */
+@Service
+@Profile("local-issuer")
+@RequiredArgsConstructor
+@Slf4j
+public class LocalTokenServiceImpl implements TokenService {
+
+    private final JwtEncoder jwtEncoder;
+    private final LocalIssuerProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Issues an access token for the provided user credentials.
+     *
+     * @param userRequest the user credentials.
+     * @return a completed {@link CompletableFuture} with a token response in the Keycloak format.
+     */
+    @Override
+    public CompletableFuture<String> requestToken(UserRequest userRequest) {
+        String email = userRequest.getEmail();
+        LocalIssuerProperties.UserClaims userClaims = properties.getUsers()
+                .getOrDefault(email, properties.getDefaultClaims());
+
+        Instant issuedAt = Instant.now();
+        Instant expiresAt = issuedAt.plus(properties.getTokenTtl());
+
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(properties.getIssuer())
+                .subject(email)
+                .issuedAt(issuedAt)
+                .expiresAt(expiresAt)
+                .claim("preferred_username", email)
+                .claim("given_name", userClaims.getGivenName())
+                .claim("family_name", userClaims.getFamilyName())
+                .build();
+
+        String accessToken = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        log.info("Issued local token for email: {}", email);
+
+        try {
+            return CompletableFuture.completedFuture(objectMapper.writeValueAsString(Map.of(
+                    "access_token", accessToken,
+                    "token_type", "Bearer",
+                    "expires_in", properties.getTokenTtl().toSeconds()
+            )));
+        } catch (JsonProcessingException e) {
+            log.error("Error during serialization of the token for email: " + email, e);
+            throw new AuthenticationException("Error during authentication with email: " + email, e);
+        }
+    }
+}
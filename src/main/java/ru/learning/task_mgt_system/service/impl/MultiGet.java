@@ -0,0 +1,61 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import ru.learning.task_mgt_system.exception.BadRequestException;
+import ru.learning.task_mgt_system.web.dto.MultiGetItem;
+import ru.learning.task_mgt_system.web.dto.MultiGetResponse;
+
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Assembly of the responses to multi-get requests.
+ * <p>
+ * Every distinct ID is looked up once, however often it is requested; the response repeats the results
+ * in the order of the request and marks the IDs that have not been found.
+ * </p>
+ */
+final class MultiGet {
+
+    private MultiGet() {
+    }
+
+    /**
+     * Looks up the entities with the requested IDs.
+     *
+     * @param ids      the requested IDs.
+     * @param maxItems the maximum number of IDs of a single request.
+     * @param loader   looks up the entities with the given distinct IDs and returns the found ones by their IDs.
+     * @param <T>      the type of the entity DTO.
+     * @return {@link MultiGetResponse} DTO containing an item for every requested ID.
+     * @throws BadRequestException if the request contains more IDs than allowed or an ID is missing.
+     */
+    static <T> MultiGetResponse<T> of(List<Long> ids, int maxItems, Function<Collection<Long>, Map<Long, T>> loader) {
+        if (ids.size() > maxItems) {
+            throw new BadRequestException(MessageFormat.format("A multi-get request may contain at most {0} IDs.", maxItems));
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("IDs of a multi-get request must not be empty.");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, T> found = distinctIds.isEmpty() ? Map.of() : loader.apply(distinctIds);
+
+        MultiGetResponse<T> response = new MultiGetResponse<>();
+        for (Long id : ids) {
+            T value = found.get(id);
+            response.getItems().add(new MultiGetItem<>(id, value != null, value));
+            if (value != null) {
+                response.setFound(response.getFound() + 1);
+            } else {
+                response.setMissing(response.getMissing() + 1);
+            }
+        }
+        return response;
+    }
+}
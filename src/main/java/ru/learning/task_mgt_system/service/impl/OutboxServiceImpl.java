@@ -0,0 +1,104 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
+import ru.learning.task_mgt_system.repository.OutboxEventRepository;
+import ru.learning.task_mgt_system.service.OutboxService;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link OutboxService} that writes the events as rows of the outbox table.
+ * <p>
+ * The rows are inserted with a JDBC batch on the connection of the calling transaction, using IDs reserved from
+ * the event sequence, so the events are not kept in the persistence context, which may live as long as the
+ * request. Payloads are written without {@code null} fields.
+ * </p>
+ */
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final String INSERT_EVENT = "insert into outbox_events (id, aggregate_type, aggregate_id, type, " +
+            "payload, created_at) values (?, ?, ?, ?, ?, ?)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository, JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(AggregateType aggregateType, Long aggregateId, ChangeType changeType, Object payload) {
+        insert(aggregateType, changeType, Map.of(aggregateId, toJson(payload)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordEach(AggregateType aggregateType, ChangeType changeType, Map<Long, ?> payloads) {
+        Map<Long, String> events = new LinkedHashMap<>();
+        payloads.forEach((id, payload) -> events.put(id, toJson(payload)));
+        insert(aggregateType, changeType, events);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(AggregateType aggregateType, Collection<Long> aggregateIds, ChangeType changeType, Object changes) {
+        ObjectNode changedFields = changes == null ? null : objectMapper.valueToTree(changes);
+        Map<Long, String> events = new LinkedHashMap<>();
+        for (Long id : aggregateIds) {
+            ObjectNode payload = objectMapper.createObjectNode().put("id", id);
+            if (changedFields != null) {
+                payload.setAll(changedFields);
+            }
+            events.put(id, toJson(payload));
+        }
+        insert(aggregateType, changeType, events);
+    }
+
+    /**
+     * Inserts the events with one batched statement.
+     *
+     * @param aggregateType the kind of the changed entities.
+     * @param changeType    the kind of change.
+     * @param payloads      the JSON payloads by the ID of the changed entity.
+     */
+    private void insert(AggregateType aggregateType, ChangeType changeType, Map<Long, String> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        List<Long> ids = outboxEventRepository.reserveIds(payloads.size());
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(payloads.size());
+        payloads.forEach((aggregateId, payload) -> rows.add(new Object[]{ids.get(rows.size()), aggregateType.name(),
+                aggregateId, changeType.name(), payload, now}));
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize the payload of a change event.", e);
+        }
+    }
+}
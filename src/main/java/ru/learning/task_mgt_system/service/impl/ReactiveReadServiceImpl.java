@@ -0,0 +1,135 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.model.mapper.CommentMapper;
+import ru.learning.task_mgt_system.model.mapper.TaskMapper;
+import ru.learning.task_mgt_system.model.mapper.UserMapper;
+import ru.learning.task_mgt_system.properties.ReactiveProperties;
+import ru.learning.task_mgt_system.repository.ReactiveReadRepository;
+import ru.learning.task_mgt_system.service.ReactiveReadService;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+import ru.learning.task_mgt_system.web.dto.TaskResponse;
+import ru.learning.task_mgt_system.web.dto.TaskResponseWithComments;
+import ru.learning.task_mgt_system.web.dto.UserResponse;
+
+import java.text.MessageFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of the {@link ReactiveReadService} interface on top of {@link ReactiveReadRepository}.
+ * No method blocks: the queries run on the event loop of the database driver, and the caller subscribes.
+ * <p>
+ * At most {@code app.reactive.max-streams} lists are streamed at once, so every admitted stream finds a writer
+ * or a place in the bounded queue of the writers. The limit is checked when Spring MVC subscribes to a list,
+ * before the response is committed, so a rejected request gets 503 Service Unavailable instead of a broken stream.
+ * </p>
+ * <p>
+ * Only created on virtual threads, together with the controller and the repository of the reactive read API.
+ * </p>
+ */
+@Service
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+    private final TaskMapper taskMapper;
+    private final CommentMapper commentMapper;
+    private final UserMapper userMapper;
+    private final ReactiveProperties properties;
+    private final AtomicInteger streams = new AtomicInteger();
+
+    @Override
+    public Flux<TaskResponse> getAllTasks(int page, int size) {
+        log.info("Streaming all tasks. Page: {}, Size: {}.", page, size);
+        return admit(reactiveReadRepository.findTasks(null, PageRequest.of(page, size), taskMapper::rowToResponse));
+    }
+
+    @Override
+    public Flux<TaskResponse> filterTasks(TaskFilter filter) {
+        log.info("Streaming tasks with filter: {}.", filter);
+        return admit(reactiveReadRepository.findTasks(filter, PageRequest.of(filter.getPage(), filter.getSize()),
+                taskMapper::rowToResponse));
+    }
+
+    @Override
+    public Mono<TaskResponseWithComments> getTaskById(Long id) {
+        Mono<TaskResponse> task = reactiveReadRepository.findTaskById(id, taskMapper::rowToResponse)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("Task with ID {} not found.", id);
+                    return new EntityNotFoundException(MessageFormat.format("Task with ID {0} not found.", id));
+                }));
+        return task.flatMap(response -> reactiveReadRepository
+                .findCommentsByTaskId(id, Pageable.unpaged(), commentMapper::rowToCommentResponse)
+                .collectList()
+                .map(comments -> taskMapper.responseToResponseWithComments(response, comments)));
+    }
+
+    @Override
+    public Mono<CommentResponse> getCommentById(Long id) {
+        return reactiveReadRepository.findCommentById(id, commentMapper::rowToCommentResponse)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("Comment not found with id: {}", id);
+                    return new EntityNotFoundException(MessageFormat.format("Comment not found with id: {0}.", id));
+                }));
+    }
+
+    @Override
+    public Flux<CommentResponse> getCommentsByTaskId(Long taskId, int page, int size) {
+        log.info("Streaming comments for task ID {}. Page: {}, Size: {}.", taskId, page, size);
+        return admit(reactiveReadRepository.findCommentsByTaskId(taskId, PageRequest.of(page, size), commentMapper::rowToCommentResponse));
+    }
+
+    @Override
+    public Flux<CommentResponse> getCommentsByAuthorId(Long authorId, int page, int size) {
+        log.info("Streaming comments for author ID {}. Page: {}, Size: {}.", authorId, page, size);
+        return admit(reactiveReadRepository.findCommentsByAuthorId(authorId, PageRequest.of(page, size), commentMapper::rowToCommentResponse));
+    }
+
+    @Override
+    public Flux<UserResponse> getAllUsers(int page, int size) {
+        log.info("Streaming all users with pagination: page={}, size={}", page, size);
+        return admit(reactiveReadRepository.findUsers(PageRequest.of(page, size), userMapper::rowToUserResponse));
+    }
+
+    @Override
+    public Mono<UserResponse> getUserById(Long id) {
+        return reactiveReadRepository.findUserById(id, userMapper::rowToUserResponse)
+                .switchIfEmpty(Mono.error(() -> {
+                    String message = MessageFormat.format("User not found with id: {0}.", id);
+                    log.error(message);
+                    return new EntityNotFoundException(message);
+                }));
+    }
+
+    /**
+     * Counts a streamed list from its subscription until it completes, fails or is cancelled, so a list that is
+     * never subscribed to does not hold a place.
+     *
+     * @param items the items of the list.
+     * @param <T>   the type of the items.
+     * @return the items, or a {@link ServiceUnavailableException} if the maximum number of lists is already streamed.
+     */
+    private <T> Flux<T> admit(Flux<T> items) {
+        return Flux.defer(() -> {
+            if (streams.incrementAndGet() > properties.getMaxStreams()) {
+                streams.decrementAndGet();
+                return Flux.error(new ServiceUnavailableException(MessageFormat.format(
+                        "The reactive read API already streams {0} lists.", properties.getMaxStreams())));
+            }
+            return items.doFinally(signal -> streams.decrementAndGet());
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import ru.learning.task_mgt_system.exception.BadRequestException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Validation of the fields a client selects from a list response.
+ * <p>
+ * The selectable fields are the properties of the response DTO, so a field added to the DTO
+ * can be selected as soon as the repository can read it.
+ * </p>
+ */
+final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    /**
+     * Checks that the selected fields are properties of the response DTO.
+     *
+     * @param responseType the type of the response DTO.
+     * @param fields       the selected fields.
+     * @return the selected fields without duplicates, in the order given.
+     * @throws BadRequestException if no field is selected or a field is not a property of the DTO.
+     */
+    static Set<String> of(Class<?> responseType, Collection<String> fields) {
+        Set<String> available = Arrays.stream(responseType.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(LinkedHashSet::new, Set::add, Set::addAll);
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields) {
+            String name = field.trim();
+            if (!available.contains(name)) {
+                throw new BadRequestException(MessageFormat.format("Unknown field: {0}. Available fields: {1}.",
+                        name, String.join(", ", available)));
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new BadRequestException(MessageFormat.format("No field selected. Available fields: {0}.",
+                    String.join(", ", available)));
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,102 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
+import ru.learning.task_mgt_system.properties.ArchiveProperties;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.service.OutboxService;
+import ru.learning.task_mgt_system.service.TaskArchiveService;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of {@link TaskArchiveService} that moves the tasks with set-based statements.
+ * <p>
+ * Every chunk is moved in its own short transaction: the IDs of the oldest completed tasks are selected and
+ * locked, skipping rows locked by other transactions, then the tasks and their comments are copied into the
+ * archive tables and the tasks are deleted, which deletes their comments through the cascading foreign key.
+ * The archival of every task is reported to the outbox in the same transaction.
+ * A task that is being changed while it is archived keeps its lock, so it is either archived afterwards or left
+ * for the next run. The job runs on schedule on every instance; the locks keep the instances from moving the
+ * same tasks.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ArchiveProperties archiveProperties;
+    private final OutboxService outboxService;
+
+    /**
+     * Runs the archival on schedule, unless it is disabled.
+     */
+    @Scheduled(initialDelayString = "${app.archive.initial-delay:PT5M}", fixedDelayString = "${app.archive.interval:PT1H}")
+    public void archiveOnSchedule() {
+        if (archiveProperties.isEnabled()) {
+            archiveCompleted();
+        }
+    }
+
+    /**
+     * Archives all completed tasks that have not been changed for the configured time, chunk by chunk.
+     *
+     * @return the number of archived tasks.
+     */
+    @Override
+    public long archiveCompleted() {
+        Instant completedBefore = Instant.now().minus(archiveProperties.getCompletedAge());
+        int chunkSize = archiveProperties.getChunkSize();
+        long archived = 0;
+
+        List<Long> ids;
+        do {
+            ids = transactionTemplate.execute(status -> {
+                List<Long> chunk = taskRepository.lockArchivableIds(completedBefore, chunkSize);
+                if (!chunk.isEmpty()) {
+                    taskRepository.moveToArchive(chunk, Instant.now());
+                    outboxService.recordAll(AggregateType.TASK, chunk, ChangeType.ARCHIVED, null);
+                }
+                return chunk;
+            });
+            evict(ids);
+            archived += ids.size();
+        } while (ids.size() == chunkSize);
+
+        if (archived > 0) {
+            log.info("Archived {} tasks completed before {}.", archived, completedBefore);
+        }
+        return archived;
+    }
+
+    /**
+     * Evicts the archived tasks from the caches.
+     *
+     * @param ids the IDs of the archived tasks.
+     */
+    private void evict(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Cache tasks = cacheManager.getCache("databaseEntities");
+        if (tasks != null) {
+            tasks.clear();
+        }
+        Cache tasksById = cacheManager.getCache("databaseEntityById");
+        if (tasksById != null) {
+            ids.forEach(tasksById::evict);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.learning.task_mgt_system.model.Comment;
+import ru.learning.task_mgt_system.model.Task;
+import ru.learning.task_mgt_system.model.mapper.CommentMapper;
+import ru.learning.task_mgt_system.model.mapper.TaskMapper;
+import ru.learning.task_mgt_system.properties.ExportProperties;
+import ru.learning.task_mgt_system.repository.CommentRepository;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.repository.TaskSpecification;
+import ru.learning.task_mgt_system.service.TaskExportService;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+import ru.learning.task_mgt_system.web.dto.TaskResponseWithComments;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link TaskExportService} based on database cursors.
+ * <p>
+ * The tasks are read with one cursor and, if requested, their comments with a second cursor ordered by task,
+ * which are merged as they are read instead of loading the comments of every task separately. Both cursors run
+ * in one repeatable read transaction, so they see the same snapshot of the data.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TaskMapper taskMapper;
+    private final CommentMapper commentMapper;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties exportProperties;
+
+    /**
+     * Exports the tasks matching a filter, ordered by ID.
+     *
+     * @param filter       the filter criteria; pagination is ignored and an empty filter exports all tasks.
+     * @param format       the format of the output.
+     * @param withComments whether the comments of the tasks are exported.
+     * @param output       the output to write to, left open.
+     * @return the number of exported tasks.
+     * @throws UncheckedIOException if the output cannot be written, for example because the client went away.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long export(TaskFilter filter, TaskDataFormat format, boolean withComments, OutputStream output) {
+        Specification<Task> specification = TaskSpecification.withFilter(filter);
+        int fetchSize = exportProperties.getFetchSize();
+        long count = 0;
+
+        try (Stream<Task> tasks = taskRepository.streamAll(specification, fetchSize);
+             Stream<Comment> comments = withComments
+                     ? commentRepository.streamByTasks(specification, fetchSize)
+                     : Stream.empty()) {
+            TaskExportWriter writer = TaskExportWriter.of(format, output, objectMapper, withComments);
+            Iterator<Comment> commentIterator = comments.iterator();
+            Comment comment = next(commentIterator);
+
+            for (Iterator<Task> taskIterator = tasks.iterator(); taskIterator.hasNext(); ) {
+                Task task = taskIterator.next();
+                TaskResponseWithComments response = taskMapper.taskToExportResponse(task);
+                if (withComments) {
+                    List<CommentResponse> taskComments = new ArrayList<>();
+                    while (comment != null && comment.getTask().getId() <= task.getId()) {
+                        if (comment.getTask().getId().equals(task.getId())) {
+                            taskComments.add(commentMapper.commentToCommentResponse(comment));
+                        }
+                        comment = next(commentIterator);
+                    }
+                    response.setComments(taskComments);
+                }
+                writer.write(response);
+                count++;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            log.warn("Task export aborted after {} tasks: {}", count, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Exported {} tasks with filter {}.", count, filter);
+        return count;
+    }
+
+    private static Comment next(Iterator<Comment> comments) {
+        return comments.hasNext() ? comments.next() : null;
+    }
+}
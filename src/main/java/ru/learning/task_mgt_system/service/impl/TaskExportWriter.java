@@ -0,0 +1,148 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+import ru.learning.task_mgt_system.web.dto.TaskResponseWithComments;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes exported tasks one by one to a stream.
+ * <p>
+ * The output is buffered and passed on whenever the buffer is full, so an export is sent progressively
+ * while it is read from the database and nothing but the current task is held in memory.
+ * </p>
+ */
+abstract class TaskExportWriter {
+
+    protected final Writer writer;
+    protected final boolean withComments;
+
+    private TaskExportWriter(OutputStream output, boolean withComments) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.withComments = withComments;
+    }
+
+    /**
+     * Creates a writer for the given format.
+     *
+     * @param format       the format of the output.
+     * @param output       the output to write to.
+     * @param objectMapper the mapper used to write JSON rows.
+     * @param withComments whether the comments of the tasks are written.
+     * @return the writer.
+     * @throws IOException if the output cannot be written.
+     */
+    static TaskExportWriter of(TaskDataFormat format, OutputStream output, ObjectMapper objectMapper,
+                               boolean withComments) throws IOException {
+        return format == TaskDataFormat.CSV
+                ? new Csv(output, withComments)
+                : new Ndjson(output, objectMapper, withComments);
+    }
+
+    /**
+     * Writes a task, together with its comments if they are exported.
+     *
+     * @param task the task to write.
+     * @throws IOException if the output cannot be written.
+     */
+    abstract void write(TaskResponseWithComments task) throws IOException;
+
+    /**
+     * Writes the buffered output through to the stream, which is left open.
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Writer for newline delimited JSON, one task per line. Null fields are left out to keep the lines short.
+     */
+    private static final class Ndjson extends TaskExportWriter {
+
+        private final ObjectMapper objectMapper;
+
+        private Ndjson(OutputStream output, ObjectMapper objectMapper, boolean withComments) {
+            super(output, withComments);
+            this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        }
+
+        @Override
+        void write(TaskResponseWithComments task) throws IOException {
+            writer.write(objectMapper.writeValueAsString(task));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Writer for comma separated values as described by RFC 4180, with a header row.
+     * With comments, there is a row for every comment repeating the fields of its task,
+     * and a row with empty comment fields for a task without comments.
+     */
+    private static final class Csv extends TaskExportWriter {
+
+        private static final String TASK_COLUMNS =
+                "id,title,description,status,priority,authorId,assigneeId,createdAt,updatedAt,version";
+        private static final String COMMENT_COLUMNS = ",commentId,commentAuthorId,commentText,commentCreatedAt";
+
+        private Csv(OutputStream output, boolean withComments) throws IOException {
+            super(output, withComments);
+            writer.write(withComments ? TASK_COLUMNS + COMMENT_COLUMNS : TASK_COLUMNS);
+            writer.write("\r\n");
+        }
+
+        @Override
+        void write(TaskResponseWithComments task) throws IOException {
+            if (!withComments) {
+                writeTask(task);
+                writer.write("\r\n");
+                return;
+            }
+            if (task.getComments().isEmpty()) {
+                writeTask(task);
+                writer.write(",,,,\r\n");
+                return;
+            }
+            for (CommentResponse comment : task.getComments()) {
+                writeTask(task);
+                writeFields(comment.getId(), comment.getAuthorId(), comment.getText(), comment.getCreatedAt());
+                writer.write("\r\n");
+            }
+        }
+
+        private void writeTask(TaskResponseWithComments task) throws IOException {
+            writer.write(Objects.toString(task.getId()));
+            writeFields(task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+                    task.getAuthorId(), task.getAssigneeId(), task.getCreatedAt(), task.getUpdatedAt(),
+                    task.getVersion());
+        }
+
+        private void writeFields(Object... values) throws IOException {
+            for (Object value : values) {
+                writer.write(',');
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+        }
+
+        /**
+         * Writes a field, quoting it if it contains a separator, a quote or a line break.
+         */
+        private void writeField(String value) throws IOException {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.learning.task_mgt_system.exception.BadRequestException;
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+import ru.learning.task_mgt_system.web.dto.TaskImportRecord;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.*;
+
+/**
+ * Reads the rows of a task import one by one from a stream.
+ * <p>
+ * Only the current row is held in memory, and a row is cut off after the configured maximum length, so the memory
+ * used does not depend on the size of the input. A row that cannot be parsed is returned with an error instead of
+ * a record, so the import can report it and go on with the next row.
+ * </p>
+ */
+abstract class TaskImportReader {
+
+    protected final PushbackReader reader;
+    protected final int maxRowLength;
+    private long rowNumber;
+
+    private TaskImportReader(InputStream input, int maxRowLength) {
+        this.reader = new PushbackReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), 1);
+        this.maxRowLength = maxRowLength;
+    }
+
+    /**
+     * Creates a reader for the given format.
+     *
+     * @param format       the format of the input.
+     * @param input        the input to read.
+     * @param objectMapper the mapper used to parse JSON rows.
+     * @param maxRowLength the maximum length of a row in characters.
+     * @return the reader.
+     * @throws IOException         if the input cannot be read.
+     * @throws BadRequestException if the CSV header is missing or does not name the required columns.
+     */
+    static TaskImportReader of(TaskDataFormat format, InputStream input, ObjectMapper objectMapper,
+                               int maxRowLength) throws IOException {
+        return format == TaskDataFormat.CSV
+                ? new Csv(input, maxRowLength)
+                : new Ndjson(input, objectMapper, maxRowLength);
+    }
+
+    /**
+     * Reads the next row.
+     *
+     * @return the next row, or {@code null} at the end of the input.
+     * @throws IOException if the input cannot be read.
+     */
+    ImportRow next() throws IOException {
+        return readRow();
+    }
+
+    protected abstract ImportRow readRow() throws IOException;
+
+    protected ImportRow record(TaskImportRecord record) {
+        return new ImportRow(++rowNumber, record, null);
+    }
+
+    protected ImportRow error(String message) {
+        return new ImportRow(++rowNumber, null, message);
+    }
+
+    protected String tooLong() {
+        return MessageFormat.format("Row exceeds the maximum length of {0} characters.", maxRowLength);
+    }
+
+    /**
+     * A row of the import: either the parsed record or the reason why it could not be parsed.
+     *
+     * @param number the number of the row, starting at 1 with the first data row.
+     * @param record the parsed record, or {@code null} if the row is invalid.
+     * @param error  the reason why the row could not be parsed, or {@code null}.
+     */
+    record ImportRow(long number, TaskImportRecord record, String error) {
+    }
+
+    /**
+     * Reader for newline delimited JSON. Blank lines are skipped.
+     */
+    private static final class Ndjson extends TaskImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        private Ndjson(InputStream input, ObjectMapper objectMapper, int maxRowLength) {
+            super(input, maxRowLength);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected ImportRow readRow() throws IOException {
+            while (true) {
+                StringBuilder line = new StringBuilder();
+                boolean truncated = false;
+                int c = reader.read();
+                if (c == -1) {
+                    return null;
+                }
+                while (c != -1 && c != '\n') {
+                    if (line.length() < maxRowLength) {
+                        line.append((char) c);
+                    } else {
+                        truncated = true;
+                    }
+                    c = reader.read();
+                }
+                if (truncated) {
+                    return error(tooLong());
+                }
+                String json = line.toString().strip();
+                if (json.isEmpty()) {
+                    continue;
+                }
+                try {
+                    return record(objectMapper.readValue(json, TaskImportRecord.class));
+                } catch (JsonProcessingException e) {
+                    return error("Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reader for comma separated values as described by RFC 4180. The first row is the header; the columns are
+     * matched to the fields of {@link TaskImportRecord} by name, ignoring case, and unknown columns are ignored.
+     * Blank rows are skipped.
+     */
+    private static final class Csv extends TaskImportReader {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private Csv(InputStream input, int maxRowLength) throws IOException {
+            super(input, maxRowLength);
+            List<String> header = readFields();
+            if (header == null) {
+                throw new BadRequestException("The CSV input is empty, a header row is required.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("title") || !columns.containsKey("status") || !columns.containsKey("priority")
+                    || (!columns.containsKey("assigneeid") && !columns.containsKey("assigneeemail"))) {
+                throw new BadRequestException(
+                        "The CSV header must name the columns title, status, priority and assigneeId or assigneeEmail.");
+            }
+        }
+
+        @Override
+        protected ImportRow readRow() throws IOException {
+            List<String> fields;
+            do {
+                fields = readFields();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            if (fields == TOO_LONG) {
+                return error(tooLong());
+            }
+            String assigneeId = field(fields, "assigneeid");
+            TaskImportRecord record = TaskImportRecord.builder()
+                    .title(field(fields, "title"))
+                    .description(field(fields, "description"))
+                    .status(field(fields, "status"))
+                    .priority(field(fields, "priority"))
+                    .assigneeEmail(field(fields, "assigneeemail"))
+                    .build();
+            if (assigneeId != null) {
+                try {
+                    record.setAssigneeId(Long.valueOf(assigneeId.strip()));
+                } catch (NumberFormatException e) {
+                    return error(MessageFormat.format("Invalid assigneeId: {0}.", assigneeId));
+                }
+            }
+            return record(record);
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        private static final List<String> TOO_LONG = List.of();
+
+        /**
+         * Reads the fields of the next row, which may span several lines inside quotes.
+         *
+         * @return the fields, {@link #TOO_LONG} if the row exceeds the maximum length,
+         * or {@code null} at the end of the input.
+         */
+        private List<String> readFields() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            int length = 0;
+            boolean quoted = false;
+            while (c != -1) {
+                if (++length > maxRowLength) {
+                    skipRow(c, quoted);
+                    return TOO_LONG;
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.unread(next);
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        /**
+         * Skips the rest of a row that exceeds the maximum length.
+         */
+        private void skipRow(int c, boolean quoted) throws IOException {
+            while (c != -1) {
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == '\n' && !quoted) {
+                    return;
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
+import ru.learning.task_mgt_system.model.Task;
+import ru.learning.task_mgt_system.model.mapper.TaskMapper;
+import ru.learning.task_mgt_system.properties.ImportProperties;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.repository.UserRepository;
+import ru.learning.task_mgt_system.service.OutboxService;
+import ru.learning.task_mgt_system.service.TaskImportService;
+import ru.learning.task_mgt_system.service.TaskStatisticsService;
+import ru.learning.task_mgt_system.service.TaskStatisticsService.Bucket;
+import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.web.dto.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link TaskImportService} that writes the tasks with JDBC batches.
+ * <p>
+ * The rows are read one by one and collected into chunks of the configured size. For every chunk the assignees
+ * are resolved with two queries, by ID and by email address, each row is validated with the rules of
+ * {@link TaskRequest} and mapped with {@link TaskMapper}, and the valid rows are inserted with one batched
+ * statement in their own transaction, using IDs reserved from the task sequence in one call. Entities are not
+ * attached to a persistence context, so neither the memory used nor the cost of a row grows with the input.
+ * </p>
+ * <p>
+ * A chunk that has been written stays written if a later chunk or the input fails; the report tells how many
+ * tasks have been imported up to that point.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final String INSERT_TASK = "insert into tasks (id, title, description, status, priority, " +
+            "author_id, assignee_id, created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportProperties importProperties;
+    private final OutboxService outboxService;
+    private final TaskStatisticsService taskStatisticsService;
+
+    /**
+     * Imports the tasks of the input chunk by chunk.
+     *
+     * @param input    the rows to import, encoded in UTF-8.
+     * @param format   the format of the input.
+     * @param listener receives an error line for every skipped row, a progress line after every chunk
+     *                 and the summary at the end.
+     * @return the summary of the import.
+     * @throws ru.learning.task_mgt_system.exception.BadRequestException if the CSV header is missing or incomplete.
+     * @throws UncheckedIOException                                      if the input cannot be read.
+     */
+    @CacheEvict(value = "databaseEntities", allEntries = true)
+    @Override
+    public TaskImportEvent importTasks(InputStream input, TaskDataFormat format, Consumer<TaskImportEvent> listener) {
+        Counters counters = new Counters();
+        try {
+            TaskImportReader reader = TaskImportReader.of(format, input, objectMapper,
+                    importProperties.getMaxRowLength());
+            Long authorId = userService.createOrRetrieveUser().getId();
+
+            List<TaskImportReader.ImportRow> chunk = new ArrayList<>(importProperties.getChunkSize());
+            TaskImportReader.ImportRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == importProperties.getChunkSize()) {
+                    importChunk(chunk, authorId, counters, listener);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, authorId, counters, listener);
+            }
+        } catch (IOException e) {
+            log.error("Task import aborted after {} rows, {} tasks imported.", counters.processed, counters.imported, e);
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Imported {} of {} tasks.", counters.imported, counters.processed);
+        TaskImportEvent summary = counters.event(TaskImportEventType.SUMMARY);
+        listener.accept(summary);
+        return summary;
+    }
+
+    /**
+     * Resolves, validates and inserts one chunk of rows and reports its outcome.
+     *
+     * @param chunk    the rows of the chunk.
+     * @param authorId the ID of the author of the imported tasks.
+     * @param counters the counters of the import.
+     * @param listener the receiver of the report.
+     */
+    private void importChunk(List<TaskImportReader.ImportRow> chunk, Long authorId, Counters counters,
+                             Consumer<TaskImportEvent> listener) {
+        List<TaskImportRecord> records = chunk.stream()
+                .map(TaskImportReader.ImportRow::record)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<Long> existingIds = userService.getExistingIds(records.stream()
+                .map(TaskImportRecord::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Map<String, Long> idsByEmail = findIdsByEmail(records.stream()
+                .filter(record -> record.getAssigneeId() == null && record.getAssigneeEmail() != null)
+                .map(TaskImportRecord::getAssigneeEmail)
+                .collect(Collectors.toSet()));
+
+        List<TaskImportReader.ImportRow> validRows = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        for (TaskImportReader.ImportRow row : chunk) {
+            String error = row.error();
+            if (error == null) {
+                TaskRequest taskRequest = toTaskRequest(row.record(), idsByEmail);
+                error = validate(row.record(), taskRequest, existingIds);
+                if (error == null) {
+                    Task task = taskMapper.taskRequestToTask(taskRequest);
+                    task.setDescription(Optional.ofNullable(taskRequest.getDescription()).orElse(""));
+                    validRows.add(row);
+                    tasks.add(task);
+                }
+            }
+            if (error != null) {
+                counters.failed++;
+                listener.accept(TaskImportEvent.builder()
+                        .type(TaskImportEventType.ERROR).row(row.number()).message(error).build());
+            }
+        }
+
+        if (!tasks.isEmpty()) {
+            try {
+                insert(tasks, authorId);
+                counters.imported += tasks.size();
+            } catch (DataAccessException e) {
+                log.error("Failed to write a chunk of {} imported tasks.", tasks.size(), e);
+                counters.failed += tasks.size();
+                String message = "The chunk of this row could not be written: " + e.getMostSpecificCause().getMessage();
+                validRows.forEach(row -> listener.accept(TaskImportEvent.builder()
+                        .type(TaskImportEventType.ERROR).row(row.number()).message(message).build()));
+            }
+        }
+
+        counters.processed += chunk.size();
+        listener.accept(counters.event(TaskImportEventType.PROGRESS));
+    }
+
+    /**
+     * Resolves the IDs of the users with the given email addresses.
+     *
+     * @param emails the email addresses.
+     * @return the IDs of the existing users by their email address.
+     */
+    private Map<String, Long> findIdsByEmail(Set<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findIdentitiesByEmails(emails).stream()
+                .collect(Collectors.toMap(UserRepository.UserIdentity::getEmail, UserRepository.UserIdentity::getId));
+    }
+
+    /**
+     * Creates the task request of a row, resolving the assignee by email address if no ID is given.
+     *
+     * @param record     the row.
+     * @param idsByEmail the IDs of the users by their email address.
+     * @return the task request.
+     */
+    private TaskRequest toTaskRequest(TaskImportRecord record, Map<String, Long> idsByEmail) {
+        Long assigneeId = record.getAssigneeId() != null
+                ? record.getAssigneeId()
+                : idsByEmail.get(record.getAssigneeEmail());
+        return new TaskRequest(record.getTitle(), record.getDescription(), record.getStatus(),
+                record.getPriority(), assigneeId);
+    }
+
+    /**
+     * Validates a row with the rules of {@link TaskRequest} and checks that the assignee exists.
+     *
+     * @param record      the row.
+     * @param taskRequest the task request of the row.
+     * @param existingIds the IDs of the assignees that exist.
+     * @return the reason why the row cannot be imported, or {@code null} if it is valid.
+     */
+    private String validate(TaskImportRecord record, TaskRequest taskRequest, Set<Long> existingIds) {
+        if (record.getAssigneeId() == null && record.getAssigneeEmail() != null && taskRequest.getAssigneeId() == null) {
+            return MessageFormat.format("User not found with email: {0}.", record.getAssigneeEmail());
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(taskRequest);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (record.getAssigneeId() != null && !existingIds.contains(record.getAssigneeId())) {
+            return MessageFormat.format("User not found with id: {0}.", record.getAssigneeId());
+        }
+        return null;
+    }
+
+    /**
+     * Inserts the tasks of a chunk with one batched statement in a transaction of its own,
+     * together with their change events.
+     *
+     * @param tasks    the tasks to insert.
+     * @param authorId the ID of the author of the tasks.
+     */
+    private void insert(List<Task> tasks, Long authorId) {
+        List<Long> ids = taskRepository.reserveIds(tasks.size());
+        Instant now = Instant.now();
+        Timestamp timestamp = Timestamp.from(now);
+        List<Object[]> rows = new ArrayList<>(tasks.size());
+        Map<Long, TaskResponse> payloads = new LinkedHashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            rows.add(new Object[]{ids.get(i), task.getTitle(), task.getDescription(), task.getStatus().name(),
+                    task.getPriority().name(), authorId, task.getAssignee().getId(), timestamp, timestamp});
+            payloads.put(ids.get(i), TaskResponse.builder()
+                    .id(ids.get(i))
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .status(task.getStatus().name())
+                    .priority(task.getPriority().name())
+                    .authorId(authorId)
+                    .assigneeId(task.getAssignee().getId())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(0L)
+                    .comments(0L)
+                    .build());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_TASK, rows);
+            outboxService.recordEach(AggregateType.TASK, ChangeType.CREATED, payloads);
+            taskStatisticsService.recordAll(List.of(), tasks.stream().map(Bucket::of).toList());
+        });
+    }
+
+    /**
+     * Running totals of an import.
+     */
+    private static final class Counters {
+
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private TaskImportEvent event(TaskImportEventType type) {
+            return TaskImportEvent.builder()
+                    .type(type).processed(processed).imported(imported).failed(failed).build();
+        }
+    }
+}
@@ -1,31 +1,57 @@
 package ru.learning.task_mgt_system.service.impl;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.exception.BadRequestException;
 import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.exception.VersionConflictException;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
 import ru.learning.task_mgt_system.model.Priority;
 import ru.learning.task_mgt_system.model.Status;
 import ru.learning.task_mgt_system.model.Task;
 import ru.learning.task_mgt_system.model.User;
 import ru.learning.task_mgt_system.model.mapper.TaskMapper;
+import ru.learning.task_mgt_system.properties.BulkProperties;
+import ru.learning.task_mgt_system.properties.OptimisticLockProperties;
+import ru.learning.task_mgt_system.repository.ArchivedTaskRepository;
 import ru.learning.task_mgt_system.repository.TaskRepository;
 import ru.learning.task_mgt_system.repository.TaskSpecification;
+import ru.learning.task_mgt_system.service.OutboxService;
 import ru.learning.task_mgt_system.service.TaskService;
+import ru.learning.task_mgt_system.service.TaskStatisticsService;
+import ru.learning.task_mgt_system.service.TaskStatisticsService.Bucket;
 import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.validation.EntityType;
+import ru.learning.task_mgt_system.validation.OwnershipContextHolder;
+import ru.learning.task_mgt_system.validation.TaskOwnershipRules;
 import ru.learning.task_mgt_system.web.dto.*;
 
 import java.text.MessageFormat;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link TaskService} for managing tasks in the task management system.
- * This class provides methods for creating, retrieving, updating, deleting, and filtering tasks.
+ * This class provides methods for creating, retrieving, updating, deleting, and filtering tasks,
+ * including bulk creation, update and deletion.
+ * Every change is reported to the outbox in the transaction that makes it, see {@link OutboxService},
+ * and counted by the task statistics once committed, see {@link TaskStatisticsService}.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,8 +59,16 @@ import java.util.Optional;
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final UserService userService;
     private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final BulkProperties bulkProperties;
+    private final CacheManager cacheManager;
+    private final OptimisticLockProperties optimisticLockProperties;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskStatisticsService taskStatisticsService;
 
     /**
      * Creates a new task with the details provided in the {@link TaskRequest} DTO.
@@ -44,12 +78,13 @@ public class TaskServiceImpl implements TaskService {
      * @return {@link TaskResponse} DTO containing the details of the created task.
      */
     @CacheEvict(value = "databaseEntities", allEntries = true)
+    @Transactional
     @Override
     public TaskResponse create(TaskRequest taskRequest) {
 
         User author = userService.createOrRetrieveUser();
 
-        userService.getById(taskRequest.getAssigneeId());
+        userService.checkExists(taskRequest.getAssigneeId());
 
         String description = Optional.ofNullable(taskRequest.getDescription()).orElse("");
 
@@ -58,8 +93,11 @@ public class TaskServiceImpl implements TaskService {
         task.setDescription(description);
 
         Task savedTask = taskRepository.save(task);
+        TaskResponse response = taskMapper.taskToResponse(savedTask);
+        outboxService.record(AggregateType.TASK, savedTask.getId(), ChangeType.CREATED, response);
+        taskStatisticsService.record(null, Bucket.of(savedTask));
         log.info("Successfully created task with ID {}.", savedTask.getId());
-        return taskMapper.taskToResponse(savedTask);
+        return response;
     }
 
     /**
@@ -80,6 +118,48 @@ public class TaskServiceImpl implements TaskService {
         return taskMapper.taskToResponseWithComments(task);
     }
 
+    /**
+     * Retrieves many tasks by their IDs, including their comments.
+     * <p>
+     * The tasks are looked up in the cache of single tasks first; the remaining ones are loaded together with
+     * their comments by a single query and put into the cache, so later single and multi-get requests find them.
+     *
+     * @param ids the IDs of the tasks to retrieve.
+     * @return {@link MultiGetResponse} DTO containing the tasks in the order of the IDs, with the missing ones marked.
+     * @throws BadRequestException if the request contains more IDs than allowed.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public MultiGetResponse<TaskResponseWithComments> getByIds(List<Long> ids) {
+        return MultiGet.of(ids, bulkProperties.getMaxItems(), distinctIds -> {
+            Cache tasksById = cacheManager.getCache("databaseEntityById");
+            Map<Long, TaskResponseWithComments> found = new HashMap<>();
+            List<Long> uncached = new ArrayList<>();
+            for (Long id : distinctIds) {
+                TaskResponseWithComments cached = tasksById == null ? null : tasksById.get(id, TaskResponseWithComments.class);
+                if (cached != null) {
+                    found.put(id, cached);
+                } else {
+                    uncached.add(id);
+                }
+            }
+
+            if (!uncached.isEmpty()) {
+                for (Task task : taskRepository.findWithCommentsByIds(uncached)) {
+                    TaskResponseWithComments response = taskMapper.taskToResponseWithComments(task);
+                    found.put(task.getId(), response);
+                    if (tasksById != null) {
+                        tasksById.put(task.getId(), response);
+                    }
+                }
+            }
+
+            log.info("Fetched {} of {} tasks, {} from the cache.", found.size(), distinctIds.size(),
+                    distinctIds.size() - uncached.size());
+            return found;
+        });
+    }
+
     /**
      * Retrieves all tasks with pagination.
      *
@@ -95,6 +175,38 @@ public class TaskServiceImpl implements TaskService {
         return taskMapper.taskListToTaskListResponse(taskRepository.findAll(pageable));
     }
 
+    /**
+     * Retrieves all tasks with pagination, reading only the selected fields.
+     * The tasks are not loaded; the comments are only counted if their number is selected.
+     *
+     * @param page   the page number to retrieve (0-based index).
+     * @param size   the number of tasks per page.
+     * @param fields the fields of {@link TaskResponse} to read.
+     * @return {@link TaskListResponse} DTO containing a list of all tasks with the selected fields.
+     * @throws BadRequestException if a field is unknown.
+     */
+    @Cacheable("databaseEntities")
+    @Override
+    public TaskListResponse getAll(int page, int size, Set<String> fields) {
+        Set<String> selected = SparseFields.of(TaskResponse.class, fields);
+        log.info("Fetching fields {} of all tasks. Page: {}, Size: {}.", selected, page, size);
+        return taskMapper.tupleListToTaskListResponse(taskRepository.findFields(null, selected, PageRequest.of(page, size)));
+    }
+
+    /**
+     * Retrieves all archived tasks with pagination.
+     * Archived tasks are read from the archive table, which the queries on active tasks never touch.
+     *
+     * @param page the page number to retrieve (0-based index).
+     * @param size the number of tasks per page.
+     * @return {@link TaskListResponse} DTO containing a list of archived tasks.
+     */
+    @Override
+    public TaskListResponse getAllArchived(int page, int size) {
+        log.info("Fetching all archived tasks. Page: {}, Size: {}.", page, size);
+        return taskMapper.archivedTaskListToTaskListResponse(archivedTaskRepository.findAll(PageRequest.of(page, size)));
+    }
+
     /**
      * Retrieves tasks filtered by status with pagination.
      *
@@ -138,7 +250,7 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskListResponse getByAuthorId(Long authorId, int page, int size) {
-        userService.getById(authorId);
+        userService.checkExists(authorId);
         Pageable pageable = PageRequest.of(page, size);
         log.info("Fetching tasks by author ID {}. Page: {}, Size: {}.", authorId, page, size);
         return taskMapper.taskListToTaskListResponse(taskRepository.findByAuthorId(authorId, pageable));
@@ -155,7 +267,7 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskListResponse getByAssigneeId(Long assigneeId, int page, int size) {
-        userService.getById(assigneeId);
+        userService.checkExists(assigneeId);
         Pageable pageable = PageRequest.of(page, size);
         log.info("Fetching tasks by assignee ID {}. Page: {}, Size: {}.", assigneeId, page, size);
         return taskMapper.taskListToTaskListResponse(taskRepository.findByAssigneeId(assigneeId, pageable));
@@ -192,7 +304,7 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskListResponse getByStatusAndPriorityAndAuthorId(String status, String priority, Long authorId, int page, int size) {
-        userService.getById(authorId);
+        userService.checkExists(authorId);
         Status st = parseEnum(Status.class, status);
         Priority pr = parseEnum(Priority.class, priority);
         Pageable pageable = PageRequest.of(page, size);
@@ -213,7 +325,7 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskListResponse getByStatusAndPriorityAndAssigneeId(String status, String priority, Long assigneeId, int page, int size) {
-        userService.getById(assigneeId);
+        userService.checkExists(assigneeId);
         Status st = parseEnum(Status.class, status);
         Priority pr = parseEnum(Priority.class, priority);
         Pageable pageable = PageRequest.of(page, size);
@@ -234,57 +346,741 @@ public class TaskServiceImpl implements TaskService {
                 filter.getPage(), filter.getSize())));
     }
 
+    /**
+     * Filters tasks based on a {@link TaskFilter} with pagination, reading only the selected fields.
+     *
+     * @param filter the filter criteria for querying tasks.
+     * @param fields the fields of {@link TaskResponse} to read.
+     * @return {@link TaskListResponse} DTO containing a list of tasks with the selected fields.
+     * @throws BadRequestException if a field is unknown.
+     */
+    @Override
+    public TaskListResponse filterBy(TaskFilter filter, Set<String> fields) {
+        Set<String> selected = SparseFields.of(TaskResponse.class, fields);
+        log.info("Filtering fields {} of tasks with filter {}. Page: {}, Size: {}.", selected, filter, filter.getPage(), filter.getSize());
+        return taskMapper.tupleListToTaskListResponse(taskRepository.findFields(TaskSpecification.withFilter(filter), selected,
+                PageRequest.of(filter.getPage(), filter.getSize())));
+    }
+
+    /**
+     * Filters archived tasks based on a {@link TaskFilter} with pagination.
+     *
+     * @param filter the filter criteria for querying archived tasks.
+     * @return {@link TaskListResponse} DTO containing a list of archived tasks that match the filter criteria.
+     */
+    @Override
+    public TaskListResponse filterArchived(TaskFilter filter) {
+        log.info("Filtering archived tasks with filter {}. Page: {}, Size: {}.", filter, filter.getPage(), filter.getSize());
+        return taskMapper.archivedTaskListToTaskListResponse(archivedTaskRepository.findAll(
+                TaskSpecification.archivedWithFilter(filter), PageRequest.of(filter.getPage(), filter.getSize())));
+    }
+
     /**
      * Updates an existing task with the details provided in the {@link TaskRequest} DTO.
+     * <p>
+     * The task is written with a version check. If another request changed the task in the meantime and the
+     * retry is enabled, the update is applied again on top of the current state, as long as the other change
+     * touched different fields; otherwise the conflict is reported together with the current version.
      *
-     * @param id the ID of the task to update.
-     * @param taskRequest the DTO containing the updated details of the task.
+     * @param id              the ID of the task to update.
+     * @param taskRequest     the DTO containing the updated details of the task.
+     * @param expectedVersion the version of the task the client has read, or {@code null} to skip the check.
      * @return {@link TaskResponse} DTO containing the details of the updated task.
-     * @throws EntityNotFoundException if no task with the specified ID is found.
+     * @throws EntityNotFoundException  if no task with the specified ID is found.
+     * @throws VersionConflictException if the task has been changed since the client read it.
      */
     @Caching(evict = {
             @CacheEvict(value = "databaseEntities", allEntries = true),
-            @CacheEvict(value = "databaseEntityById", allEntries = true)
+            @CacheEvict(value = "databaseEntityById", key = "#id")
     })
     @Override
-    public TaskResponse update(Long id, TaskRequest taskRequest) {
+    public TaskResponse update(Long id, TaskRequest taskRequest, Long expectedVersion) {
 
-        Task existingTask = taskRepository.findById(id)
-                .orElseThrow(() -> {
+        // Reuse the task already loaded by the ownership check, if any
+        Task existingTask = OwnershipContextHolder.getEntity(EntityType.TASK, id, Task.class)
+                .orElseGet(() -> findTask(id));
+        checkVersion(id, existingTask.getVersion(), expectedVersion);
+
+        TaskFields original = TaskFields.of(existingTask);
+        Bucket before = Bucket.of(existingTask);
+        applyUpdate(existingTask, taskRequest);
+
+        TaskResponse response;
+        try {
+            response = saveAndRecord(existingTask, before);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null || !optimisticLockProperties.isRetryEnabled()) {
+                throw conflict(id, taskRepository.findVersionById(id).orElse(null));
+            }
+            response = retryUpdate(id, original, TaskFields.of(existingTask));
+        }
+        log.info("Successfully updated task with ID {}.", id);
+        return response;
+    }
+
+    /**
+     * Partially updates a task with the fields provided in the {@link TaskPatchRequest} DTO.
+     * <p>
+     * Only the provided columns are written, with a single conditional UPDATE statement that also checks
+     * the permissions: authors may change any field, assignees only the status. If the client sends the version
+     * it has read, the statement also checks the version. The task is not loaded before the update; it is read
+     * afterwards to build the response.
+     *
+     * @param id              the ID of the task to update.
+     * @param patchRequest    the DTO containing the fields to change.
+     * @param expectedVersion the version of the task the client has read, or {@code null} to skip the check.
+     * @return {@link TaskResponse} DTO containing the details of the updated task.
+     * @throws BadRequestException      if no field is provided.
+     * @throws EntityNotFoundException  if no task with the specified ID is found.
+     * @throws VersionConflictException if the task has been changed since the client read it.
+     * @throws SecurityException        if the current user is not allowed to make the change.
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "databaseEntities", allEntries = true),
+            @CacheEvict(value = "databaseEntityById", key = "#id")
+    })
+    @Transactional
+    @Override
+    public TaskResponse patch(Long id, TaskPatchRequest patchRequest, Long expectedVersion) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (patchRequest.getTitle() != null) {
+            changes.put("title", patchRequest.getTitle());
+        }
+        if (patchRequest.getDescription() != null) {
+            changes.put("description", patchRequest.getDescription());
+        }
+        if (patchRequest.getStatus() != null) {
+            changes.put("status", parseEnum(Status.class, patchRequest.getStatus()));
+        }
+        if (patchRequest.getPriority() != null) {
+            changes.put("priority", parseEnum(Priority.class, patchRequest.getPriority()));
+        }
+        if (changes.isEmpty()) {
+            throw new BadRequestException("At least one field to change must be specified.");
+        }
+
+        boolean statusOnly = changes.size() == 1 && changes.containsKey("status");
+        Long currentUserId = getCurrentUserId();
+        // The counted attributes are read before the update only if it changes them
+        Bucket before = changes.containsKey("status") || changes.containsKey("priority")
+                ? taskRepository.findAttributesByIds(List.of(id)).stream().findFirst().map(Bucket::of).orElse(null)
+                : null;
+        Specification<Task> target = TaskSpecification.byIds(List.of(id))
+                .and(TaskSpecification.changeableBy(currentUserId, statusOnly));
+        if (expectedVersion != null) {
+            target = target.and(TaskSpecification.hasVersion(expectedVersion));
+        }
+        int updated = currentUserId == null ? 0 : taskRepository.updateFields(target, changes);
+
+        if (updated == 0) {
+            if (expectedVersion != null) {
+                // Either the version or the permissions did not match, the current version tells which
+                Long currentVersion = taskRepository.findVersionById(id).orElseThrow(() -> {
                     log.error("Task not found with id: {}", id);
                     return new EntityNotFoundException(MessageFormat.format("Task not found with id: {0}", id));
                 });
+                checkVersion(id, currentVersion, expectedVersion);
+            } else if (!taskRepository.existsById(id)) {
+                log.error("Task not found with id: {}", id);
+                throw new EntityNotFoundException(MessageFormat.format("Task not found with id: {0}", id));
+            }
+            throw new SecurityException(statusOnly
+                    ? "You do not have permission to edit or delete this task."
+                    : "Only the author of the task is allowed to change fields other than the status.");
+        }
 
-        existingTask.setTitle(taskRequest.getTitle());
-        existingTask.setDescription(Optional.ofNullable(taskRequest.getDescription()).orElse(""));
-        existingTask.setStatus(parseEnum(Status.class, taskRequest.getStatus()));
-        existingTask.setPriority(parseEnum(Priority.class, taskRequest.getPriority()));
-
-        Task updatedTask = taskRepository.save(existingTask);
-        log.info("Successfully updated task with ID {}.", id);
-        return taskMapper.taskToResponse(updatedTask);
+        TaskResponse response = taskMapper.taskToResponse(taskRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("Task not found with id: {0}", id))));
+        outboxService.record(AggregateType.TASK, id, ChangeType.UPDATED, response);
+        if (before != null) {
+            taskStatisticsService.record(before, Bucket.of(response));
+        }
+        log.info("Successfully patched fields {} of task with ID {}.", changes.keySet(), id);
+        return response;
     }
 
     /**
      * Deletes a task by its ID.
+     * <p>
+     * The task is deleted with a single statement without being loaded; its comments are deleted
+     * by the database through the cascading foreign key. Only the attributes it is counted under
+     * in the statistics are read first.
      *
      * @param id the ID of the task to delete.
      * @throws EntityNotFoundException if no task with the specified ID is found.
      */
     @Caching(evict = {
             @CacheEvict(value = "databaseEntities", allEntries = true),
-            @CacheEvict(value = "databaseEntityById", allEntries = true)
+            @CacheEvict(value = "databaseEntityById", key = "#id")
     })
+    @Transactional
     @Override
     public void delete(Long id) {
-        if (!taskRepository.existsById(id)) {
+        List<TaskRepository.TaskAttributes> deleted = taskRepository.findAttributesByIds(List.of(id));
+        if (taskRepository.delete(TaskSpecification.byIds(List.of(id))) == 0) {
             log.error("Task not found with id: {}", id);
             throw new EntityNotFoundException(MessageFormat.format("Task not found with id: {0}.", id));
         }
-        taskRepository.deleteById(id);
+        outboxService.recordAll(AggregateType.TASK, List.of(id), ChangeType.DELETED, null);
+        taskStatisticsService.recordAll(deleted.stream().map(Bucket::of).toList(), List.of());
         log.info("Successfully deleted task with ID {}.", id);
     }
 
+    /**
+     * Deletes all tasks matching a filter that are authored by the current user.
+     * <p>
+     * The matching tasks are deleted in chunks of at most the bulk limit, in the order of their IDs: the IDs of
+     * a chunk are selected first, so that their deletion can be reported to the outbox, and the chunk is then
+     * deleted with a single statement without loading the tasks. Memory and the bind parameters of a statement
+     * are therefore bounded whatever the number of matching tasks. The comments are deleted by the database
+     * through the cascading foreign key.
+     *
+     * @param filter the filter criteria; pagination is ignored.
+     * @return {@link TaskDeleteResponse} DTO containing the number of deleted tasks.
+     * @throws BadRequestException if the filter has no criteria.
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "databaseEntities", allEntries = true),
+            @CacheEvict(value = "databaseEntityById", allEntries = true)
+    })
+    @Transactional
+    @Override
+    public TaskDeleteResponse deleteBy(TaskFilter filter) {
+        checkCriteria(filter);
+        Long currentUserId = getCurrentUserId();
+        if (currentUserId == null) {
+            // A user that is not registered does not author any task
+            return new TaskDeleteResponse(0);
+        }
+
+        Specification<Task> target = TaskSpecification.withFilter(filter)
+                .and(TaskSpecification.byAuthorId(currentUserId));
+        int chunkSize = bulkProperties.getMaxItems();
+        long deleted = 0;
+        List<Long> ids = List.of();
+        do {
+            // Keyset pagination: rows that do not match any more at deletion are not selected again
+            Long lastId = ids.isEmpty() ? 0L : ids.get(ids.size() - 1);
+            ids = taskRepository.findIds(target.and(TaskSpecification.idAfter(lastId)), chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<TaskRepository.TaskAttributes> counted = taskRepository.findAttributesByIds(ids);
+            deleted += taskRepository.delete(TaskSpecification.byIds(ids).and(target));
+            outboxService.recordAll(AggregateType.TASK, ids, ChangeType.DELETED, null);
+            taskStatisticsService.recordAll(counted.stream().map(Bucket::of).toList(), List.of());
+        } while (ids.size() == chunkSize);
+
+        log.info("Deleted {} tasks with filter {}.", deleted, filter);
+        return new TaskDeleteResponse(deleted);
+    }
+
+    /**
+     * Creates tasks in bulk.
+     * <p>
+     * Every item is validated first, then the assignees of the valid items are checked with a single query.
+     * The author is resolved once for the whole request and the tasks are persisted together, so the inserts
+     * are sent to the database in JDBC batches.
+     *
+     * @param taskRequests the details of the tasks to be created.
+     * @return {@link BulkOperationResponse} DTO containing the outcome of every item.
+     * @throws BadRequestException if the request contains more items than allowed.
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "databaseEntities", allEntries = true),
+            @CacheEvict(value = "databaseEntityById", allEntries = true)
+    })
+    @Transactional
+    @Override
+    public BulkOperationResponse createAll(List<TaskRequest> taskRequests) {
+        checkBulkSize(taskRequests);
+        BulkItemResult[] results = new BulkItemResult[taskRequests.size()];
+
+        Map<Integer, TaskRequest> validRequests = new LinkedHashMap<>();
+        for (int i = 0; i < taskRequests.size(); i++) {
+            String violations = validate(taskRequests.get(i));
+            if (violations != null) {
+                results[i] = failure(i, null, BulkItemStatus.INVALID, violations);
+            } else {
+                validRequests.put(i, taskRequests.get(i));
+            }
+        }
+
+        Set<Long> existingAssignees = userService.getExistingIds(validRequests.values().stream()
+                .map(TaskRequest::getAssigneeId)
+                .collect(Collectors.toSet()));
+
+        Map<Integer, Task> tasks = new LinkedHashMap<>();
+        User author = validRequests.isEmpty() ? null : userService.createOrRetrieveUser();
+        validRequests.forEach((index, taskRequest) -> {
+            if (!existingAssignees.contains(taskRequest.getAssigneeId())) {
+                results[index] = failure(index, null, BulkItemStatus.NOT_FOUND,
+                        MessageFormat.format("User not found with id: {0}.", taskRequest.getAssigneeId()));
+                return;
+            }
+            Task task = taskMapper.taskRequestToTask(taskRequest);
+            task.setAuthor(author);
+            task.setDescription(Optional.ofNullable(taskRequest.getDescription()).orElse(""));
+            tasks.put(index, task);
+        });
+
+        taskRepository.saveAll(tasks.values());
+        tasks.forEach((index, task) -> results[index] = success(index, task.getId(), BulkItemStatus.CREATED));
+        outboxService.recordEach(AggregateType.TASK, ChangeType.CREATED, toPayloads(tasks.values()));
+        taskStatisticsService.recordAll(List.of(), tasks.values().stream().map(Bucket::of).toList());
+
+        log.info("Bulk created {} of {} tasks.", tasks.size(), taskRequests.size());
+        return toBulkResponse(results);
+    }
+
+    /**
+     * Updates tasks in bulk.
+     * <p>
+     * All tasks are loaded with a single query and checked with the same ownership rules as a single update:
+     * authors may change anything, assignees only the status. Items carrying a version that is no longer current
+     * are skipped. The changed tasks are flushed together, so the updates are sent to the database in JDBC batches.
+     *
+     * @param updateRequests the IDs and the new details of the tasks to update.
+     * @return {@link BulkOperationResponse} DTO containing the outcome of every item.
+     * @throws BadRequestException if the request contains more items than allowed.
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "databaseEntities", allEntries = true),
+            @CacheEvict(value = "databaseEntityById", allEntries = true)
+    })
+    @Transactional
+    @Override
+    public BulkOperationResponse updateAll(List<TaskBulkUpdateRequest> updateRequests) {
+        checkBulkSize(updateRequests);
+        BulkItemResult[] results = new BulkItemResult[updateRequests.size()];
+
+        Map<Integer, TaskBulkUpdateRequest> validRequests = new LinkedHashMap<>();
+        for (int i = 0; i < updateRequests.size(); i++) {
+            String violations = validate(updateRequests.get(i));
+            if (violations != null) {
+                results[i] = failure(i, updateRequests.get(i) == null ? null : updateRequests.get(i).getId(),
+                        BulkItemStatus.INVALID, violations);
+            } else {
+                validRequests.put(i, updateRequests.get(i));
+            }
+        }
+
+        Map<Long, Task> tasksById = findAllById(validRequests.values().stream()
+                .map(TaskBulkUpdateRequest::getId)
+                .collect(Collectors.toSet()));
+        Long currentUserId = getCurrentUserId();
+
+        // A task updated by several items is saved, reported and counted once
+        Map<Long, Task> updatedTasks = new LinkedHashMap<>();
+        List<Bucket> before = new ArrayList<>();
+        validRequests.forEach((index, updateRequest) -> {
+            Long id = updateRequest.getId();
+            Task task = tasksById.get(id);
+            if (task == null) {
+                results[index] = failure(index, id, BulkItemStatus.NOT_FOUND, MessageFormat.format("Task not found with id: {0}", id));
+                return;
+            }
+            String violation = TaskOwnershipRules.checkUpdate(task, updateRequest.getTask(), currentUserId);
+            if (violation != null) {
+                results[index] = failure(index, id, BulkItemStatus.FORBIDDEN, violation);
+                return;
+            }
+            if (updateRequest.getVersion() != null && !updateRequest.getVersion().equals(task.getVersion())) {
+                results[index] = failure(index, id, BulkItemStatus.CONFLICT, MessageFormat.format(
+                        "Task with ID {0} has been changed by another request, current version is {1}.", id, task.getVersion()));
+                return;
+            }
+            if (!updatedTasks.containsKey(id)) {
+                before.add(Bucket.of(task));
+            }
+            applyUpdate(task, updateRequest.getTask());
+            updatedTasks.put(id, task);
+            results[index] = success(index, id, BulkItemStatus.UPDATED);
+        });
+
+        taskRepository.saveAll(updatedTasks.values());
+        // Flush first, so the events carry the new versions
+        taskRepository.flush();
+        outboxService.recordEach(AggregateType.TASK, ChangeType.UPDATED, toPayloads(updatedTasks.values()));
+        taskStatisticsService.recordAll(before, updatedTasks.values().stream().map(Bucket::of).toList());
+
+        log.info("Bulk updated {} of {} tasks.", updatedTasks.size(), updateRequests.size());
+        return toBulkResponse(results);
+    }
+
+    /**
+     * Deletes tasks in bulk.
+     * <p>
+     * All tasks are loaded with a single query, only the tasks authored by the current user are deleted.
+     * They are deleted with a single statement, their comments by the database through the cascading foreign key.
+     *
+     * @param ids the IDs of the tasks to delete.
+     * @return {@link BulkOperationResponse} DTO containing the outcome of every item.
+     * @throws BadRequestException if the request contains more items than allowed.
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "databaseEntities", allEntries = true),
+            @CacheEvict(value = "databaseEntityById", allEntries = true)
+    })
+    @Transactional
+    @Override
+    public BulkOperationResponse deleteAll(List<Long> ids) {
+        checkBulkSize(ids);
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+
+        Map<Long, Task> tasksById = findAllById(ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Long currentUserId = getCurrentUserId();
+
+        // A task listed several times is reported as deleted each time, but deleted and counted once
+        Map<Long, Task> deletedTasks = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            Task task = id == null ? null : tasksById.get(id);
+            if (task == null) {
+                results[i] = failure(i, id, BulkItemStatus.NOT_FOUND, MessageFormat.format("Task not found with id: {0}.", id));
+            } else if (!TaskOwnershipRules.canDelete(task, currentUserId)) {
+                results[i] = failure(i, id, BulkItemStatus.FORBIDDEN, "You do not have permission to delete this task.");
+            } else {
+                deletedTasks.putIfAbsent(id, task);
+                results[i] = success(i, id, BulkItemStatus.DELETED);
+            }
+        }
+
+        List<Long> deletedIds = List.copyOf(deletedTasks.keySet());
+        taskRepository.deleteAllByIdInBatch(deletedIds);
+        outboxService.recordAll(AggregateType.TASK, deletedIds, ChangeType.DELETED, null);
+        taskStatisticsService.recordAll(deletedTasks.values().stream().map(Bucket::of).toList(), List.of());
+
+        log.info("Bulk deleted {} of {} tasks.", deletedTasks.size(), ids.size());
+        return toBulkResponse(results);
+    }
+
+    /**
+     * Changes the status, and optionally the priority, of many tasks at once.
+     * <p>
+     * The tasks are selected by IDs or by a filter and restricted to the ones the current user may change:
+     * authors may change both fields, assignees only the status. The change is written with an UPDATE statement,
+     * without loading the tasks. The IDs of the tasks that may be changed are selected first, so that only their
+     * cache entries are evicted and their change is reported to the outbox. The tasks matching a filter are
+     * changed in chunks of at most the bulk limit, in the order of their IDs, so a filter may select any number
+     * of tasks while memory and the bind parameters of a statement stay bounded.
+     *
+     * @param transitionRequest the new status and priority together with the selection of the tasks.
+     * @return {@link TaskTransitionResponse} DTO containing the number of updated tasks.
+     * @throws BadRequestException if neither or both of IDs and filter are specified, the filter has no criteria,
+     *                             or more IDs than allowed are specified.
+     */
+    @CacheEvict(value = "databaseEntities", allEntries = true)
+    @Transactional
+    @Override
+    public TaskTransitionResponse transitionStatus(TaskTransitionRequest transitionRequest) {
+        List<Long> ids = transitionRequest.getIds();
+        TaskFilter filter = transitionRequest.getFilter();
+        if ((ids == null) == (filter == null)) {
+            throw new BadRequestException("Exactly one of ids or filter must be specified.");
+        }
+
+        Status status = parseEnum(Status.class, transitionRequest.getStatus());
+        Priority priority = transitionRequest.getPriority() == null ? null : parseEnum(Priority.class, transitionRequest.getPriority());
+
+        if (filter != null) {
+            checkCriteria(filter);
+        } else {
+            checkBulkSize(ids);
+        }
+        Long currentUserId = getCurrentUserId();
+        if (currentUserId == null) {
+            // A user that is not registered neither authors nor is assigned any task
+            return new TaskTransitionResponse(0);
+        }
+        Specification<Task> changeable = TaskSpecification.changeableBy(currentUserId, priority == null);
+
+        long updated = 0;
+        if (filter != null) {
+            Specification<Task> target = TaskSpecification.withFilter(filter).and(changeable);
+            int chunkSize = bulkProperties.getMaxItems();
+            List<Long> chunk = List.of();
+            do {
+                // Keyset pagination: tasks that no longer match the filter after their change are not selected again
+                Long lastId = chunk.isEmpty() ? 0L : chunk.get(chunk.size() - 1);
+                chunk = taskRepository.findIds(target.and(TaskSpecification.idAfter(lastId)), chunkSize);
+                updated += transitionChunk(chunk, changeable, status, priority);
+            } while (chunk.size() == chunkSize);
+        } else if (!ids.isEmpty()) {
+            updated = transitionChunk(taskRepository.findIds(TaskSpecification.byIds(ids).and(changeable)),
+                    changeable, status, priority);
+        }
+
+        log.info("Changed status of {} tasks to {}.", updated, status);
+        return new TaskTransitionResponse(updated);
+    }
+
+    /**
+     * Changes the status, and optionally the priority, of the given tasks with a single UPDATE statement,
+     * then counts them, reports them to the outbox and evicts their cache entries.
+     *
+     * @param ids        the IDs of the tasks, already restricted to the ones the current user may change.
+     * @param changeable the specification of the tasks the current user may change.
+     * @param status     the new status.
+     * @param priority   the new priority, or {@code null} to keep it.
+     * @return the number of updated tasks.
+     */
+    private int transitionChunk(List<Long> ids, Specification<Task> changeable, Status status, Priority priority) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Bucket> before = taskRepository.findAttributesByIds(ids).stream().map(Bucket::of).toList();
+        int updated = taskRepository.updateStatus(TaskSpecification.byIds(ids).and(changeable), status, priority);
+        taskStatisticsService.recordAll(before, before.stream()
+                .map(bucket -> new Bucket(bucket.assigneeId(), status, priority == null ? bucket.priority() : priority))
+                .toList());
+        outboxService.recordAll(AggregateType.TASK, ids, ChangeType.UPDATED,
+                TaskResponse.builder().status(status.name()).priority(priority == null ? null : priority.name()).build());
+
+        Cache tasksById = cacheManager.getCache("databaseEntityById");
+        if (tasksById != null) {
+            ids.forEach(tasksById::evict);
+        }
+        return updated;
+    }
+
+    /**
+     * Copies the updatable fields of the request to the task.
+     *
+     * @param task        the task to update.
+     * @param taskRequest the DTO containing the updated details of the task.
+     */
+    private void applyUpdate(Task task, TaskRequest taskRequest) {
+        task.setTitle(taskRequest.getTitle());
+        task.setDescription(Optional.ofNullable(taskRequest.getDescription()).orElse(""));
+        task.setStatus(parseEnum(Status.class, taskRequest.getStatus()));
+        task.setPriority(parseEnum(Priority.class, taskRequest.getPriority()));
+    }
+
+    /**
+     * Applies an update that lost a race against a concurrent change to the current state of the task.
+     * <p>
+     * A field conflicts if both the update and the concurrent change have set it to different values. Without
+     * a conflict only the fields changed by the update are written, so the concurrent change is preserved.
+     *
+     * @param id        the ID of the task.
+     * @param original  the fields of the task as read before the update.
+     * @param requested the fields of the task as set by the update.
+     * @return {@link TaskResponse} DTO containing the details of the updated task.
+     * @throws VersionConflictException if a field conflicts or the retries are exhausted.
+     */
+    private TaskResponse retryUpdate(Long id, TaskFields original, TaskFields requested) {
+        Long currentVersion = null;
+        for (int attempt = 1; attempt <= optimisticLockProperties.getMaxRetries(); attempt++) {
+            Task current = findTask(id);
+            currentVersion = current.getVersion();
+            TaskFields merged = TaskFields.merge(original, requested, TaskFields.of(current));
+            if (merged == null) {
+                throw conflict(id, currentVersion);
+            }
+            Bucket before = Bucket.of(current);
+            merged.applyTo(current);
+            try {
+                TaskResponse response = saveAndRecord(current, before);
+                log.info("Updated task with ID {} after {} retries.", id, attempt);
+                return response;
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Retry {} of the update of task with ID {} lost a race.", attempt, id);
+            }
+        }
+        throw conflict(id, currentVersion);
+    }
+
+    /**
+     * Writes a changed task with a version check and reports the change to the outbox and the statistics,
+     * in a transaction of its own. The transaction is rolled back if the version check fails, so a lost race
+     * leaves no event behind and is not counted.
+     *
+     * @param task   the changed task.
+     * @param before the task as counted before the change.
+     * @return {@link TaskResponse} DTO containing the details of the updated task.
+     * @throws OptimisticLockingFailureException if the task has been changed concurrently.
+     */
+    private TaskResponse saveAndRecord(Task task, Bucket before) {
+        return transactionTemplate.execute(status -> {
+            Task savedTask = taskRepository.saveAndFlush(task);
+            TaskResponse response = taskMapper.taskToResponse(savedTask);
+            outboxService.record(AggregateType.TASK, task.getId(), ChangeType.UPDATED, response);
+            taskStatisticsService.record(before, Bucket.of(savedTask));
+            return response;
+        });
+    }
+
+    /**
+     * Checks the version of a task against the version the client has read.
+     *
+     * @param id              the ID of the task.
+     * @param currentVersion  the current version of the task.
+     * @param expectedVersion the version the client has read, or {@code null} to skip the check.
+     * @throws VersionConflictException if the versions differ.
+     */
+    private void checkVersion(Long id, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw conflict(id, currentVersion);
+        }
+    }
+
+    /**
+     * Creates the exception reporting a concurrent change of a task.
+     *
+     * @param id             the ID of the task.
+     * @param currentVersion the current version of the task.
+     * @return the exception to throw.
+     */
+    private VersionConflictException conflict(Long id, Long currentVersion) {
+        log.warn("Task with ID {} has been changed concurrently, current version is {}.", id, currentVersion);
+        return new VersionConflictException(MessageFormat.format(
+                "Task with ID {0} has been changed by another request, current version is {1}.", id, currentVersion),
+                currentVersion);
+    }
+
+    /**
+     * Loads a task by its ID.
+     *
+     * @param id the ID of the task.
+     * @return the task.
+     * @throws EntityNotFoundException if no task with the specified ID is found.
+     */
+    private Task findTask(Long id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("Task not found with id: {}", id);
+                    return new EntityNotFoundException(MessageFormat.format("Task not found with id: {0}", id));
+                });
+    }
+
+    /**
+     * Loads the tasks with the given IDs with a single query.
+     *
+     * @param ids the IDs of the tasks.
+     * @return the found tasks by their IDs.
+     */
+    private Map<Long, Task> findAllById(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    /**
+     * Maps tasks to the payloads of their change events, without loading their comments.
+     *
+     * @param tasks the tasks.
+     * @return the payloads by the IDs of the tasks, in the order of the tasks.
+     */
+    private Map<Long, TaskResponse> toPayloads(Collection<Task> tasks) {
+        Map<Long, TaskResponse> payloads = new LinkedHashMap<>();
+        tasks.forEach(task -> payloads.put(task.getId(), taskMapper.taskToResponseWithoutComments(task)));
+        return payloads;
+    }
+
+    /**
+     * Resolves the ID of the current user.
+     *
+     * @return the ID of the current user, or {@code null} if the user is not registered.
+     */
+    private Long getCurrentUserId() {
+        return userService.getCurrentUserInfo()
+                .flatMap(userInfo -> userService.getIdByEmail(userInfo.email()))
+                .orElse(null);
+    }
+
+    /**
+     * Checks that a filter selecting tasks for a change has at least one criterion,
+     * so that a missing criterion does not select all tasks.
+     *
+     * @param filter the filter criteria.
+     * @throws BadRequestException if the filter has no criteria.
+     */
+    private void checkCriteria(TaskFilter filter) {
+        if (filter.getAuthorId() == null && filter.getAssigneeId() == null
+                && (filter.getSearchQuery() == null || filter.getSearchQuery().isBlank())) {
+            throw new BadRequestException("At least one of authorId, assigneeId, or searchQuery must be specified.");
+        }
+    }
+
+    /**
+     * Checks that a bulk request does not exceed the configured number of items.
+     *
+     * @param items the items of the request.
+     * @throws BadRequestException if the request contains more items than allowed.
+     */
+    private void checkBulkSize(List<?> items) {
+        if (items.size() > bulkProperties.getMaxItems()) {
+            log.error("Bulk request with {} items exceeds the limit of {}.", items.size(), bulkProperties.getMaxItems());
+            throw new BadRequestException(MessageFormat.format("A bulk request may contain at most {0} items.",
+                    bulkProperties.getMaxItems()));
+        }
+    }
+
+    /**
+     * Validates a single item of a bulk request.
+     *
+     * @param item the item to validate.
+     * @return the violation messages joined together, or {@code null} if the item is valid.
+     */
+    private String validate(Object item) {
+        if (item == null) {
+            return "Item is missing.";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Creates the result of an applied item.
+     *
+     * @param index  the position of the item in the request.
+     * @param id     the ID of the task.
+     * @param status the outcome of the item.
+     * @return the result of the item.
+     */
+    private BulkItemResult success(int index, Long id, BulkItemStatus status) {
+        return BulkItemResult.builder().index(index).id(id).status(status).build();
+    }
+
+    /**
+     * Creates the result of a skipped item.
+     *
+     * @param index   the position of the item in the request.
+     * @param id      the ID of the task, if known.
+     * @param status  the outcome of the item.
+     * @param message the reason why the item has been skipped.
+     * @return the result of the item.
+     */
+    private BulkItemResult failure(int index, Long id, BulkItemStatus status, String message) {
+        return BulkItemResult.builder().index(index).id(id).status(status).message(message).build();
+    }
+
+    /**
+     * Collects the item results into the response and counts the succeeded and failed items.
+     *
+     * @param results the results of the items, in the order of the request.
+     * @return {@link BulkOperationResponse} DTO containing the results.
+     */
+    private BulkOperationResponse toBulkResponse(BulkItemResult[] results) {
+        BulkOperationResponse response = new BulkOperationResponse();
+        response.setResults(List.of(results));
+        int failed = (int) Arrays.stream(results).filter(result -> result.getMessage() != null).count();
+        response.setSucceeded(results.length - failed);
+        response.setFailed(failed);
+        return response;
+    }
+
     /**
      * Parses a string value to an enum of the specified type.
      *
@@ -302,4 +1098,49 @@ public class TaskServiceImpl implements TaskService {
             throw new EntityNotFoundException(MessageFormat.format("Invalid value for {0}: {1}.", enumType.getSimpleName(), value));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The fields of a task that are written by an update.
+     */
+    private record TaskFields(String title, String description, Status status, Priority priority) {
+
+        static TaskFields of(Task task) {
+            return new TaskFields(task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority());
+        }
+
+        /**
+         * Merges an update with a concurrent change made to the same original state.
+         *
+         * @return the merged fields, or {@code null} if both have set a field to different values.
+         */
+        static TaskFields merge(TaskFields original, TaskFields requested, TaskFields current) {
+            if (conflicts(original.title(), requested.title(), current.title())
+                    || conflicts(original.description(), requested.description(), current.description())
+                    || conflicts(original.status(), requested.status(), current.status())
+                    || conflicts(original.priority(), requested.priority(), current.priority())) {
+                return null;
+            }
+            return new TaskFields(
+                    pick(original.title(), requested.title(), current.title()),
+                    pick(original.description(), requested.description(), current.description()),
+                    pick(original.status(), requested.status(), current.status()),
+                    pick(original.priority(), requested.priority(), current.priority()));
+        }
+
+        private static boolean conflicts(Object original, Object requested, Object current) {
+            return !Objects.equals(requested, original) && !Objects.equals(current, original)
+                    && !Objects.equals(requested, current);
+        }
+
+        private static <T> T pick(T original, T requested, T current) {
+            return Objects.equals(requested, original) ? current : requested;
+        }
+
+        void applyTo(Task task) {
+            task.setTitle(title);
+            task.setDescription(description);
+            task.setStatus(status);
+            task.setPriority(priority);
+        }
+    }
+}
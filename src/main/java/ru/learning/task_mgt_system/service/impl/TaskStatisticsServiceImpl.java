@@ -0,0 +1,141 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.service.TaskStatisticsService;
+import ru.learning.task_mgt_system.web.dto.TaskCountResponse;
+import ru.learning.task_mgt_system.web.dto.TaskStatisticsResponse;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link TaskStatisticsService} with in-memory counters.
+ * <p>
+ * Every combination of assignee, status and priority has a {@link LongAdder}, which spreads concurrent updates
+ * over cells instead of contending on a single value, in a concurrent map that is only locked to add a missing
+ * combination. A change is counted after its transaction has been committed, so rolled back changes are not.
+ * </p>
+ * <p>
+ * The recount replaces the whole map at once. A change committed while the recount runs may be missed by both
+ * the recount and the new map; such a difference, like the changes made by other instances or without the task
+ * services, lasts until the next recount.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatisticsServiceImpl implements TaskStatisticsService {
+
+    private static final Comparator<Bucket> ORDER = Comparator
+            .comparing(Bucket::assigneeId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+            .thenComparing(Bucket::status, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Bucket::priority, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final TaskRepository taskRepository;
+    private volatile ConcurrentMap<Bucket, LongAdder> counters = new ConcurrentHashMap<>();
+    private volatile Instant reconciledAt;
+
+    @Override
+    public TaskStatisticsResponse getStatistics(Long assigneeId) {
+        List<TaskCountResponse> counts = new ArrayList<>();
+        long total = 0;
+        List<Map.Entry<Bucket, LongAdder>> entries = new ArrayList<>(counters.entrySet());
+        entries.sort(Map.Entry.comparingByKey(ORDER));
+        for (Map.Entry<Bucket, LongAdder> entry : entries) {
+            Bucket bucket = entry.getKey();
+            long tasks = entry.getValue().sum();
+            if (tasks <= 0 || assigneeId != null && !assigneeId.equals(bucket.assigneeId())) {
+                continue;
+            }
+            counts.add(new TaskCountResponse(bucket.assigneeId(), bucket.status() == null ? null : bucket.status().name(),
+                    bucket.priority() == null ? null : bucket.priority().name(), tasks));
+            total += tasks;
+        }
+        return new TaskStatisticsResponse(counts, total, reconciledAt);
+    }
+
+    @Override
+    public void record(Bucket before, Bucket after) {
+        recordAll(before == null ? List.of() : List.of(before), after == null ? List.of() : List.of(after));
+    }
+
+    @Override
+    public void recordAll(Collection<Bucket> removed, Collection<Bucket> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(removed, added);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(removed, added);
+            }
+        });
+    }
+
+    /**
+     * Recounts the tasks on schedule, the first time right after the start.
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile-interval:PT5M}")
+    public void reconcileOnSchedule() {
+        try {
+            reconcile();
+        } catch (DataAccessException e) {
+            log.warn("Failed to recount the task statistics: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void reconcile() {
+        Instant startedAt = Instant.now();
+        ConcurrentMap<Bucket, LongAdder> recounted = new ConcurrentHashMap<>();
+        for (TaskRepository.TaskCount count : taskRepository.countByAssigneeAndStatusAndPriority()) {
+            LongAdder tasks = new LongAdder();
+            tasks.add(count.getTasks());
+            recounted.put(new Bucket(count.getAssigneeId(), count.getStatus(), count.getPriority()), tasks);
+        }
+
+        ConcurrentMap<Bucket, LongAdder> previous = counters;
+        counters = recounted;
+        reconciledAt = startedAt;
+
+        long corrected = 0;
+        Set<Bucket> buckets = new HashSet<>(previous.keySet());
+        buckets.addAll(recounted.keySet());
+        for (Bucket bucket : buckets) {
+            corrected += Math.abs(sum(recounted, bucket) - sum(previous, bucket));
+        }
+        if (corrected > 0) {
+            log.info("Recounted the task statistics, {} counts have been corrected.", corrected);
+        }
+    }
+
+    private void apply(Collection<Bucket> removed, Collection<Bucket> added) {
+        ConcurrentMap<Bucket, LongAdder> current = counters;
+        removed.stream().filter(Objects::nonNull).forEach(bucket -> counter(current, bucket).decrement());
+        added.stream().filter(Objects::nonNull).forEach(bucket -> counter(current, bucket).increment());
+    }
+
+    private static LongAdder counter(ConcurrentMap<Bucket, LongAdder> counters, Bucket bucket) {
+        LongAdder counter = counters.get(bucket);  // Lock-free for the combinations that already exist
+        return counter != null ? counter : counters.computeIfAbsent(bucket, key -> new LongAdder());
+    }
+
+    private static long sum(Map<Bucket, LongAdder> counters, Bucket bucket) {
+        LongAdder counter = counters.get(bucket);
+        return counter == null ? 0 : counter.sum();
+    }
+}
@@ -8,17 +8,26 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import ru.learning.task_mgt_system.exception.BadRequestException;
 import ru.learning.task_mgt_system.exception.EntityNotFoundException;
 import ru.learning.task_mgt_system.model.User;
 import ru.learning.task_mgt_system.model.mapper.UserMapper;
+import ru.learning.task_mgt_system.properties.BulkProperties;
 import ru.learning.task_mgt_system.repository.UserRepository;
 import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.web.dto.MultiGetResponse;
 import ru.learning.task_mgt_system.web.dto.UserInfo;
 import ru.learning.task_mgt_system.web.dto.UserListResponse;
 import ru.learning.task_mgt_system.web.dto.UserResponse;
 
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link UserService} interface for managing users.
@@ -31,6 +40,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final BulkProperties bulkProperties;
 
     /**
      * Creates a new user or retrieves an existing user based on the current authentication context.
@@ -70,6 +80,7 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Retrieves a user by their ID.
+     * All fields of the user are read by a single query that counts their tasks, so no tasks are loaded.
      *
      * @param id the ID of the user to retrieve.
      * @return {@link UserResponse} DTO containing the details of the user.
@@ -78,16 +89,47 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserResponse getById(Long id) {
         log.info("Fetching user with id: {}", id);
-        return userMapper.userToUserResponse(userRepository.findById(id)
-                .orElseThrow(() -> {
-                    String message = MessageFormat.format("User not found with id: {0}.", id);
-                    log.error(message);
-                    return new EntityNotFoundException(message);
-                }));
+        return userRepository.findAllFieldsByIds(List.of(id)).stream()
+                .findFirst()
+                .map(userMapper::tupleToUserResponse)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Checks that a user exists with a query that reads nothing but the existence.
+     *
+     * @param id the ID of the user.
+     * @throws EntityNotFoundException if no user with the specified ID is found.
+     */
+    @Override
+    public void checkExists(Long id) {
+        if (!userRepository.existsById(id)) {
+            throw notFound(id);
+        }
+    }
+
+    /**
+     * Retrieves many users by their IDs.
+     * All fields of the users are read by a single query that counts their tasks, so no tasks are loaded.
+     *
+     * @param ids the IDs of the users to retrieve.
+     * @return {@link MultiGetResponse} DTO containing the users in the order of the IDs, with the missing ones marked.
+     * @throws BadRequestException if the request contains more IDs than allowed.
+     */
+    @Override
+    public MultiGetResponse<UserResponse> getByIds(List<Long> ids) {
+        return MultiGet.of(ids, bulkProperties.getMaxItems(), distinctIds -> {
+            Map<Long, UserResponse> found = userRepository.findAllFieldsByIds(distinctIds).stream()
+                    .map(userMapper::tupleToUserResponse)
+                    .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
+            log.info("Fetched {} of {} users.", found.size(), distinctIds.size());
+            return found;
+        });
     }
 
     /**
      * Retrieves a paginated list of all users.
+     * The page is read by a single query that counts the tasks of the users, so no tasks are loaded.
      *
      * @param page the page number to retrieve (0-based index).
      * @param size the number of users per page.
@@ -97,7 +139,23 @@ public class UserServiceImpl implements UserService {
     public UserListResponse getAll(int page, int size) {
         log.info("Fetching all users with pagination: page={}, size={}", page, size);
         Pageable pageable = PageRequest.of(page, size);
-        return userMapper.userListToUserListResponse(userRepository.findAll(pageable));
+        return userMapper.tupleListToUserListResponse(userRepository.findAllFields(pageable));
+    }
+
+    /**
+     * Retrieves a paginated list of all users, reading only the selected fields.
+     * The users are not loaded; their tasks are only counted if the numbers are selected.
+     *
+     * @param page   the page number to retrieve (0-based index).
+     * @param size   the number of users per page.
+     * @param fields the fields of {@link UserResponse} to read.
+     * @return {@link UserListResponse} DTO containing a list of all users with the selected fields.
+     */
+    @Override
+    public UserListResponse getAll(int page, int size, Set<String> fields) {
+        Set<String> selected = SparseFields.of(UserResponse.class, fields);
+        log.info("Fetching fields {} of all users with pagination: page={}, size={}", selected, page, size);
+        return userMapper.tupleListToUserListResponse(userRepository.findFields(selected, PageRequest.of(page, size)));
     }
 
     /**
@@ -111,6 +169,31 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * Retrieves the ID of a user by their email address.
+     *
+     * @param email the email address of the user.
+     * @return {@link Optional<Long>} an Optional containing the user ID if found, or an empty Optional if not.
+     */
+    @Override
+    public Optional<Long> getIdByEmail(String email) {
+        return userRepository.findIdByEmail(email);
+    }
+
+    /**
+     * Retrieves which of the given IDs belong to existing users with a single query.
+     *
+     * @param ids the IDs of the users to check.
+     * @return {@link Set<Long>} the subset of the given IDs for which a user exists.
+     */
+    @Override
+    public Set<Long> getExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.findExistingIds(ids);
+    }
+
     /**
      * Retrieves information about the current authenticated user.
      *
@@ -130,4 +213,10 @@ public class UserServiceImpl implements UserService {
         log.warn("No authentication found or user info is missing.");
         return Optional.empty();
     }
+
+    private EntityNotFoundException notFound(Long id) {
+        String message = MessageFormat.format("User not found with id: {0}.", id);
+        log.error(message);
+        return new EntityNotFoundException(message);
+    }
 }
\ No newline at end of file
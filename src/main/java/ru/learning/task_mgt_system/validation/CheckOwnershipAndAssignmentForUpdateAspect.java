@@ -1,8 +1,9 @@
 package ru.learning.task_mgt_system.validation;
 
 import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.springframework.stereotype.Component;
 import ru.learning.task_mgt_system.exception.EntityNotFoundException;
 import ru.learning.task_mgt_system.model.Comment;
@@ -10,7 +11,6 @@ import ru.learning.task_mgt_system.model.Task;
 import ru.learning.task_mgt_system.repository.CommentRepository;
 import ru.learning.task_mgt_system.repository.TaskRepository;
 import ru.learning.task_mgt_system.service.UserService;
-import ru.learning.task_mgt_system.web.dto.TaskRequest;
 import ru.learning.task_mgt_system.web.dto.UserInfo;
 
 import java.text.MessageFormat;
@@ -20,6 +20,8 @@ import java.text.MessageFormat;
  * <p>
  * This aspect intercepts methods annotated with {@link CheckOwnershipAndAssignmentForUpdate} and performs checks
  * to ensure that the current user has the necessary permissions to update the specified entity.
+ * The entity is loaded once and handed over to the service through {@link OwnershipContextHolder},
+ * while the current user is resolved to an ID only, so no user row or collection is loaded.
  * </p>
  */
 @Aspect
@@ -34,47 +36,59 @@ public class CheckOwnershipAndAssignmentForUpdateAspect {
     /**
      * Intercepts methods annotated with {@link CheckOwnershipAndAssignmentForUpdate} to check ownership and assignment.
      *
+     * @param joinPoint                            the intercepted method invocation
      * @param checkOwnershipAndAssignmentForUpdate annotation instance containing entity type information
      * @param id                                   the ID of the entity being updated
-     * @param taskRequest                          the request data for the task update
+     * @param request                              the request data for the update
+     * @return the result of the intercepted method
+     * @throws Throwable if the intercepted method throws an exception
      */
-    @Before("@annotation(checkOwnershipAndAssignmentForUpdate) && args(id, taskRequest,..)")
-    public void checkOwnershipAndAssignmentForUpdate(CheckOwnershipAndAssignmentForUpdate checkOwnershipAndAssignmentForUpdate, Long id, TaskRequest taskRequest) {
-        UserInfo currentUserInfo = userService.getCurrentUserInfo()
-                .orElseThrow(() -> new EntityNotFoundException("User information is not available"));
+    @Around("@annotation(checkOwnershipAndAssignmentForUpdate) && args(id, request,..)")
+    public Object checkOwnershipAndAssignmentForUpdate(ProceedingJoinPoint joinPoint,
+                                                       CheckOwnershipAndAssignmentForUpdate checkOwnershipAndAssignmentForUpdate,
+                                                       Long id, Object request) throws Throwable {
+        Long currentUserId = getCurrentUserId();
 
         if (checkOwnershipAndAssignmentForUpdate.entityType() == EntityType.TASK) {
             Task task = taskRepository.findById(id)
                     .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("Task with ID {0} not found.", id)));
 
-            // Check if the current user is the author of the task
-            boolean isAuthor = task.getAuthor().equals(userService.getByEmail(currentUserInfo.email()).get());
-
-            // Check if the current user is the assignee of the task
-            boolean isAssignee = task.getAssignee().equals(userService.getByEmail(currentUserInfo.email()).get());
-
-            if (!isAuthor && !isAssignee) {
-                throw new SecurityException("You do not have permission to edit or delete this task.");
+            String violation = TaskOwnershipRules.checkUpdate(task, request, currentUserId);
+            if (violation != null) {
+                throw new SecurityException(violation);
             }
 
-            if (isAssignee) {
-                // Check if the assignee is trying to change fields other than status
-                if (!taskRequest.getAssigneeId().equals(task.getAssignee().getId()) ||
-                        !taskRequest.getTitle().equals(task.getTitle()) ||
-                        !taskRequest.getDescription().equals(task.getDescription()) ||
-                        !taskRequest.getPriority().equals(task.getPriority().name())) {
-                    throw new SecurityException("The assignee is allowed to change only the task status.");
-                }
-            }
-            // Authors are allowed to make any changes, including deleting the task
+            OwnershipContextHolder.set(EntityType.TASK, id, task);
 
         } else if (checkOwnershipAndAssignmentForUpdate.entityType() == EntityType.COMMENT) {
             Comment comment = commentRepository.findById(id)
                     .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("Comment with ID {0} not found.", id)));
 
-            if (!comment.getAuthor().equals(userService.getByEmail(currentUserInfo.email()).get())) {
+            if (!currentUserId.equals(comment.getAuthor().getId())) {
                 throw new SecurityException("You do not have permission to edit or delete this comment.");
             }
+
+            OwnershipContextHolder.set(EntityType.COMMENT, id, comment);
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            OwnershipContextHolder.clear();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolves the ID of the current user.
+     *
+     * @return the ID of the current user.
+     * @throws SecurityException if the current user is not registered, so they cannot own any entity.
+     */
+    private Long getCurrentUserId() {
+        UserInfo currentUserInfo = userService.getCurrentUserInfo()
+                .orElseThrow(() -> new EntityNotFoundException("User information is not available"));
+
+        return userService.getIdByEmail(currentUserInfo.email())
+                .orElseThrow(() -> new SecurityException("You do not have permission to edit this entity."));
+    }
+}
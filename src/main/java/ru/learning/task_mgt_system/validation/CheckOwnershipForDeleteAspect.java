@@ -1,12 +1,11 @@
 package ru.learning.task_mgt_system.validation;
 
 import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.springframework.stereotype.Component;
 import ru.learning.task_mgt_system.exception.EntityNotFoundException;
-import ru.learning.task_mgt_system.model.Comment;
-import ru.learning.task_mgt_system.model.Task;
 import ru.learning.task_mgt_system.repository.CommentRepository;
 import ru.learning.task_mgt_system.repository.TaskRepository;
 import ru.learning.task_mgt_system.service.UserService;
@@ -17,6 +16,8 @@ import java.text.MessageFormat;
 /**
  * Aspect for checking ownership rights when deleting entities.
  * Ensures that the current user has the necessary permissions to delete tasks and comments.
+ * Ownership is checked with a single existence query on the entity and author IDs; the result is
+ * passed to the service through {@link OwnershipContextHolder}, so it does not check the existence again.
  */
 @Aspect
 @Component
@@ -31,28 +32,52 @@ public class CheckOwnershipForDeleteAspect {
      * Intercepts methods annotated with {@link CheckOwnershipForDelete}
      * and verifies whether the current user has the rights to delete the specified entity.
      *
+     * @param joinPoint               the intercepted method invocation
      * @param checkOwnershipForDelete the annotation indicating the type of entity
      * @param id                      the unique identifier of the entity
+     * @return the result of the intercepted method
+     * @throws Throwable if the intercepted method throws an exception
      */
-    @Before("@annotation(checkOwnershipForDelete) && args(id,..)")
-    public void checkOwnershipForDelete(CheckOwnershipForDelete checkOwnershipForDelete, Long id) {
-        UserInfo currentUserInfo = userService.getCurrentUserInfo()
-                .orElseThrow(() -> new EntityNotFoundException("User information is not available"));
+    @Around("@annotation(checkOwnershipForDelete) && args(id,..)")
+    public Object checkOwnershipForDelete(ProceedingJoinPoint joinPoint, CheckOwnershipForDelete checkOwnershipForDelete, Long id) throws Throwable {
+        Long currentUserId = getCurrentUserId();
 
         if (checkOwnershipForDelete.entityType() == EntityType.TASK) {
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("Task with ID {0} not found.", id)));
-
-            if (!task.getAuthor().equals(userService.getByEmail(currentUserInfo.email()).get())) {
+            if (!taskRepository.existsByIdAndAuthorId(id, currentUserId)) {
+                // The cheaper check failed, find out whether the task is missing or owned by someone else
+                if (!taskRepository.existsById(id)) {
+                    throw new EntityNotFoundException(MessageFormat.format("Task with ID {0} not found.", id));
+                }
                 throw new SecurityException("You do not have permission to delete this task.");
             }
         } else if (checkOwnershipForDelete.entityType() == EntityType.COMMENT) {
-            Comment comment = commentRepository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("Comment with ID {0} not found.", id)));
-
-            if (!comment.getAuthor().equals(userService.getByEmail(currentUserInfo.email()).get())) {
+            if (!commentRepository.existsByIdAndAuthorId(id, currentUserId)) {
+                if (!commentRepository.existsById(id)) {
+                    throw new EntityNotFoundException(MessageFormat.format("Comment with ID {0} not found.", id));
+                }
                 throw new SecurityException("You do not have permission to delete this comment.");
             }
         }
+
+        OwnershipContextHolder.set(checkOwnershipForDelete.entityType(), id, null);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            OwnershipContextHolder.clear();
+        }
+    }
+
+    /**
+     * Resolves the ID of the current user.
+     *
+     * @return the ID of the current user.
+     * @throws SecurityException if the current user is not registered, so they cannot own any entity.
+     */
+    private Long getCurrentUserId() {
+        UserInfo currentUserInfo = userService.getCurrentUserInfo()
+                .orElseThrow(() -> new EntityNotFoundException("User information is not available"));
+
+        return userService.getIdByEmail(currentUserInfo.email())
+                .orElseThrow(() -> new SecurityException("You do not have permission to delete this entity."));
     }
-}
\ No newline at end of file
+}
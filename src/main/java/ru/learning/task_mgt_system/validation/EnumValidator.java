@@ -12,6 +12,7 @@ public class EnumValidator implements ConstraintValidator<ValidEnum, String> {
 
     private Enum<?>[] enumValues;  // Array of enum constants for validation
     private String enumName;       // Name of the enum for error messages
+    private boolean nullable;      // Whether null values are accepted
 
     /**
      * Initializes the validator with the enum class from the constraint annotation.
@@ -22,6 +23,7 @@ public class EnumValidator implements ConstraintValidator<ValidEnum, String> {
     public void initialize(ValidEnum constraintAnnotation) {
         this.enumValues = constraintAnnotation.enumClass().getEnumConstants();
         this.enumName = constraintAnnotation.enumClass().getSimpleName();
+        this.nullable = constraintAnnotation.nullable();
     }
 
     /**
@@ -33,7 +35,7 @@ public class EnumValidator implements ConstraintValidator<ValidEnum, String> {
      */
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        if (value == null) return false;  // Null values are considered invalid
+        if (value == null) return nullable;  // Null values are invalid unless the field is optional
 
         for (Enum<?> enumValue : enumValues) {
             if (enumValue.name().equals(value)) return true;  // Check if the value matches any enum constant
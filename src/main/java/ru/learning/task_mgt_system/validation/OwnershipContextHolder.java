@@ -0,0 +1,76 @@
+package ru.learning.task_mgt_system.validation;
+
+import java.util.Optional;
+
+/**
+ * Holder of the entity verified by the ownership aspects for the current request.
+ * <p>
+ * The ownership aspects already query the entity being changed. They store it here so that the service
+ * method invoked afterwards can reuse it instead of reading the same row again. The context is bound to the
+ * current thread and is cleared by the aspects once the intercepted method returns.
+ * </p>
+ */
+public final class OwnershipContextHolder {
+
+    private static final ThreadLocal<VerifiedEntity> CONTEXT = new ThreadLocal<>();
+
+    private OwnershipContextHolder() {
+    }
+
+    /**
+     * Stores the entity whose ownership has been verified.
+     *
+     * @param entityType the type of the entity.
+     * @param id         the ID of the entity.
+     * @param entity     the loaded entity, or {@code null} if only the ownership has been checked.
+     */
+    public static void set(EntityType entityType, Long id, Object entity) {
+        CONTEXT.set(new VerifiedEntity(entityType, id, entity));
+    }
+
+    /**
+     * Returns the verified entity if it matches the given type and ID.
+     *
+     * @param entityType  the type of the entity.
+     * @param id          the ID of the entity.
+     * @param entityClass the class of the entity.
+     * @param <T>         the type of the entity.
+     * @return an {@link Optional} containing the loaded entity, or an empty {@link Optional} if none is stored.
+     */
+    public static <T> Optional<T> getEntity(EntityType entityType, Long id, Class<T> entityClass) {
+        VerifiedEntity verified = CONTEXT.get();
+        if (verified == null || !verified.matches(entityType, id) || !entityClass.isInstance(verified.entity())) {
+            return Optional.empty();
+        }
+        return Optional.of(entityClass.cast(verified.entity()));
+    }
+
+    /**
+     * Checks whether the existence and ownership of the entity have already been verified.
+     *
+     * @param entityType the type of the entity.
+     * @param id         the ID of the entity.
+     * @return true if the entity has been verified in the current request, false otherwise.
+     */
+    public static boolean isVerified(EntityType entityType, Long id) {
+        VerifiedEntity verified = CONTEXT.get();
+        return verified != null && verified.matches(entityType, id);
+    }
+
+    /**
+     * Removes the verified entity from the current thread.
+     */
+    public static void clear() {
+        CONTEXT.remove();
+    }
+
+    /**
+     * Record for the verified entity together with its type and ID.
+     */
+    private record VerifiedEntity(EntityType entityType, Long id, Object entity) {
+
+        boolean matches(EntityType type, Long entityId) {
+            return entityType == type && id.equals(entityId);
+        }
+    }
+}
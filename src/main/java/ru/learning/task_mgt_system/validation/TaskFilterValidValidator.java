@@ -47,12 +47,12 @@ public class TaskFilterValidValidator implements ConstraintValidator<TaskFilterV
 
         // Validate existence of authorId if provided
         if (value.getAuthorId() != null) {
-            userService.getById(value.getAuthorId());
+            userService.checkExists(value.getAuthorId());
         }
 
         // Validate existence of assigneeId if provided
         if (value.getAssigneeId() != null) {
-            userService.getById(value.getAssigneeId());
+            userService.checkExists(value.getAssigneeId());
         }
 
         return true;
@@ -0,0 +1,74 @@
+package ru.learning.task_mgt_system.validation;
+
+import ru.learning.task_mgt_system.model.Task;
+import ru.learning.task_mgt_system.model.User;
+import ru.learning.task_mgt_system.web.dto.TaskRequest;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Rules deciding whether a user may change a task.
+ * <p>
+ * Authors are allowed to make any changes, including deleting the task. Assignees are allowed to change
+ * only the task status. The rules compare user IDs only, so lazy-loaded users are never initialized.
+ * They are shared by {@link CheckOwnershipAndAssignmentForUpdateAspect} and the bulk operations.
+ * </p>
+ */
+public final class TaskOwnershipRules {
+
+    private TaskOwnershipRules() {
+    }
+
+    /**
+     * Checks whether the user may update the task with the given request.
+     *
+     * @param task    the task to update.
+     * @param request the request data for the update, may be of any type.
+     * @param userId  the ID of the user, may be {@code null} if the user is not registered.
+     * @return the reason why the update is not allowed, or {@code null} if it is allowed.
+     */
+    public static String checkUpdate(Task task, Object request, Long userId) {
+        // Check if the current user is the author of the task
+        boolean isAuthor = userId != null && userId.equals(idOf(task.getAuthor()));
+
+        // Check if the current user is the assignee of the task
+        boolean isAssignee = userId != null && userId.equals(idOf(task.getAssignee()));
+
+        if (!isAuthor && !isAssignee) {
+            return "You do not have permission to edit or delete this task.";
+        }
+
+        if (isAssignee && request instanceof TaskRequest taskRequest) {
+            // Check if the assignee is trying to change fields other than status
+            if (!taskRequest.getAssigneeId().equals(idOf(task.getAssignee())) ||
+                    !taskRequest.getTitle().equals(task.getTitle()) ||
+                    !Objects.equals(Optional.ofNullable(taskRequest.getDescription()).orElse(""), task.getDescription()) ||
+                    !taskRequest.getPriority().equals(task.getPriority().name())) {
+                return "The assignee is allowed to change only the task status.";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the user may delete the task. Only the author may delete a task.
+     *
+     * @param task   the task to delete.
+     * @param userId the ID of the user, may be {@code null} if the user is not registered.
+     * @return true if the task may be deleted, false otherwise.
+     */
+    public static boolean canDelete(Task task, Long userId) {
+        return userId != null && userId.equals(idOf(task.getAuthor()));
+    }
+
+    /**
+     * Returns the ID of a possibly lazy-loaded user without initializing it.
+     *
+     * @param user the user, may be {@code null}.
+     * @return the ID of the user, or {@code null} if there is no user.
+     */
+    static Long idOf(User user) {
+        return user == null ? null : user.getId();
+    }
+}
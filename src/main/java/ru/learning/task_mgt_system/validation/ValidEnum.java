@@ -48,4 +48,11 @@ public @interface ValidEnum {
      * @return the enum class
      */
     Class<? extends Enum<?>> enumClass();
-}
\ No newline at end of file
+
+    /**
+     * Specifies whether a {@code null} value is accepted, for optional fields such as those of partial updates.
+     *
+     * @return true if {@code null} is valid, false otherwise
+     */
+    boolean nullable() default false;
+}
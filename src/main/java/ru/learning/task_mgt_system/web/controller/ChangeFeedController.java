@@ -0,0 +1,87 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.learning.task_mgt_system.service.ChangeFeedService;
+import ru.learning.task_mgt_system.service.ChangeStreamService;
+import ru.learning.task_mgt_system.web.dto.ChangeFeedResponse;
+import ru.learning.task_mgt_system.web.dto.TaskChangeFilter;
+
+/**
+ * Controller for reading the feed of changes of tasks and comments, page by page or as a live stream.
+ */
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+    private final ChangeStreamService changeStreamService;
+
+    /**
+     * Reads the changes after a position of the feed.
+     *
+     * @param after the position of the last change the client has processed.
+     * @param limit the maximum number of changes.
+     * @return {@link ChangeFeedResponse} DTO containing the changes and the cursor to read the next page.
+     */
+    @Operation(
+            summary = "Read changes",
+            description = "Returns the committed changes of tasks and comments after the given position, in the order " +
+                    "they have been committed. Pass the returned nextCursor as after to resume.",
+            parameters = {
+                    @Parameter(name = "after", description = "Position of the last processed change, 0 to start from the oldest", example = "0"),
+                    @Parameter(name = "limit", description = "Maximum number of changes", example = "100")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes read"),
+            @ApiResponse(responseCode = "400", description = "Invalid position or limit")
+    })
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> read(@RequestParam(defaultValue = "0") long after,
+                                                   @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(changeFeedService.read(after, limit));
+    }
+
+    /**
+     * Opens a live stream of the changes matching a filter as Server-Sent Events.
+     *
+     * @param filter      the criteria the tasks of the changes must match.
+     * @param lastEventId the ID of the last event the client has received, sent by the browser on reconnect.
+     * @return the emitter the events are sent with.
+     */
+    @Operation(
+            summary = "Stream changes",
+            description = "Pushes the changes of tasks and comments as Server-Sent Events, as soon as they appear in " +
+                    "the feed. Comments are matched by their task; changes of deleted tasks are sent to every stream. " +
+                    "The event ID is the feed position: reconnecting with Last-Event-ID resumes after it.",
+            parameters = {
+                    @Parameter(name = "authorId", description = "Author ID of the tasks", example = "1"),
+                    @Parameter(name = "assigneeId", description = "Assignee ID of the tasks", example = "2"),
+                    @Parameter(name = "status", description = "Status of the tasks", example = "IN_PROGRESS"),
+                    @Parameter(name = "priority", description = "Priority of the tasks", example = "HIGH"),
+                    @Parameter(name = "Last-Event-ID", description = "ID of the last received event, to resume after it")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams, retry later")
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(TaskChangeFilter filter,
+                             @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeStreamService.subscribe(filter, lastEventId);
+    }
+}
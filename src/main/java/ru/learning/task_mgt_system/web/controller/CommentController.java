@@ -5,17 +5,24 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import ru.learning.task_mgt_system.service.CommentIngestionService;
 import ru.learning.task_mgt_system.service.CommentService;
 import ru.learning.task_mgt_system.validation.CheckOwnershipAndAssignmentForUpdate;
 import ru.learning.task_mgt_system.validation.CheckOwnershipForDelete;
 import ru.learning.task_mgt_system.validation.EntityType;
+import ru.learning.task_mgt_system.web.dto.CommentAcceptedResponse;
 import ru.learning.task_mgt_system.web.dto.CommentListResponse;
 import ru.learning.task_mgt_system.web.dto.CommentRequest;
 import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.MultiGetResponse;
+
+import java.util.List;
+import java.util.Set;
 
 /**
  * Controller for managing comments.
@@ -27,6 +34,7 @@ import ru.learning.task_mgt_system.web.dto.CommentResponse;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentIngestionService commentIngestionService;
 
     @Operation(
             summary = "Retrieve Comment by ID",
@@ -40,7 +48,24 @@ public class CommentController {
     @GetMapping("/{id}")
     public ResponseEntity<CommentResponse> getById(
             @Parameter(description = "The ID of the comment to retrieve") @PathVariable Long id) {
-        return ResponseEntity.ok(commentService.getById(id));
+        CommentResponse response = commentService.getById(id);
+        return VersionETags.ok(response, response.getVersion());
+    }
+
+    @Operation(
+            summary = "Retrieve Comments by IDs",
+            description = "Retrieves the comments for a list of identifiers with a single query. " +
+                    "Missing comments are marked as not found.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved comments, see the per-item status"),
+                    @ApiResponse(responseCode = "400", description = "Too many identifiers in the request")
+            }
+    )
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/bulk")
+    public ResponseEntity<MultiGetResponse<CommentResponse>> getByIds(
+            @Parameter(description = "Comma-separated IDs of the comments to retrieve") @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(commentService.getByIds(ids));
     }
 
     @Operation(
@@ -62,6 +87,27 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(commentService.create(commentRequest));
     }
 
+    @Operation(
+            summary = "Accept Comment for Asynchronous Ingestion",
+            description = "Validates a comment and acknowledges it with its ID; the comment is written later in a batch.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "DTO with data for creating the comment",
+                    required = true
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Comment accepted for ingestion"),
+                    @ApiResponse(responseCode = "400", description = "Invalid input"),
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "503", description = "Too many comments waiting to be written")
+            }
+    )
+    @PreAuthorize("hasRole('USER')")
+    @PostMapping("/async")
+    public ResponseEntity<CommentAcceptedResponse> createAsync(
+            @Valid @RequestBody CommentRequest commentRequest) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(commentIngestionService.accept(commentRequest));
+    }
+
     @Operation(
             summary = "Update Comment",
             description = "Updates an existing comment.",
@@ -72,7 +118,8 @@ public class CommentController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully updated comment"),
                     @ApiResponse(responseCode = "404", description = "Comment not found"),
-                    @ApiResponse(responseCode = "403", description = "Unauthorized to update comment")
+                    @ApiResponse(responseCode = "403", description = "Unauthorized to update comment"),
+                    @ApiResponse(responseCode = "409", description = "Comment changed since the version in If-Match")
             }
     )
     @CheckOwnershipAndAssignmentForUpdate(entityType = EntityType.COMMENT)
@@ -80,8 +127,11 @@ public class CommentController {
     @PutMapping("/{id}")
     public ResponseEntity<CommentResponse> update(
             @Parameter(description = "The ID of the comment to update") @PathVariable Long id,
-            @Valid @RequestBody CommentRequest commentRequest) {
-        return ResponseEntity.ok(commentService.update(id, commentRequest));
+            @Valid @RequestBody CommentRequest commentRequest,
+            @Parameter(description = "The ETag of the comment as read by the client")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CommentResponse response = commentService.update(id, commentRequest, VersionETags.parse(ifMatch));
+        return VersionETags.ok(response, response.getVersion());
     }
 
     @Operation(
@@ -104,7 +154,8 @@ public class CommentController {
 
     @Operation(
             summary = "Retrieve Comments by Task ID",
-            description = "Retrieves comments by task identifier with pagination.",
+            description = "Retrieves comments by task identifier with pagination. With fields, only the listed " +
+                    "fields of the comments are read and returned.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully retrieved comments"),
                     @ApiResponse(responseCode = "404", description = "Task not found")
@@ -115,13 +166,18 @@ public class CommentController {
     public ResponseEntity<CommentListResponse> getByTaskId(
             @Parameter(description = "The ID of the task") @PathVariable Long taskId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(commentService.getByTaskId(taskId, page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Comma-separated fields of the comments to return", example = "id,text")
+            @RequestParam(name = SparseFieldsAdvice.PARAMETER, required = false) Set<String> fields) {
+        return ResponseEntity.ok(fields == null
+                ? commentService.getByTaskId(taskId, page, size)
+                : commentService.getByTaskId(taskId, page, size, fields));
     }
 
     @Operation(
             summary = "Retrieve Comments by Author ID",
-            description = "Retrieves comments by author identifier with pagination.",
+            description = "Retrieves comments by author identifier with pagination. With fields, only the listed " +
+                    "fields of the comments are read and returned.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully retrieved comments"),
                     @ApiResponse(responseCode = "404", description = "Author not found")
@@ -132,7 +188,11 @@ public class CommentController {
     public ResponseEntity<CommentListResponse> getByAuthorId(
             @Parameter(description = "The ID of the author", required = true) @PathVariable Long authorId,
             @Parameter(description = "Page number for pagination", example = "0") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size for pagination", example = "10") @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(commentService.getByAuthorId(authorId, page, size));
+            @Parameter(description = "Page size for pagination", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Comma-separated fields of the comments to return", example = "id,text")
+            @RequestParam(name = SparseFieldsAdvice.PARAMETER, required = false) Set<String> fields) {
+        return ResponseEntity.ok(fields == null
+                ? commentService.getByAuthorId(authorId, page, size)
+                : commentService.getByAuthorId(authorId, page, size, fields));
     }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -13,7 +15,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.learning.task_mgt_system.exception.AccessDeniedException;
 import ru.learning.task_mgt_system.exception.AuthenticationException;
+import ru.learning.task_mgt_system.exception.BadRequestException;
 import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.exception.VersionConflictException;
+import ru.learning.task_mgt_system.web.dto.ConflictResponse;
 import ru.learning.task_mgt_system.web.dto.ErrorResponse;
 
 import java.text.MessageFormat;
@@ -76,6 +82,50 @@ public class ExceptionHandlerController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(ex.getLocalizedMessage()));
     }
 
+    @Operation(
+            summary = "Handle Bad Request Exception",
+            description = "Handles exceptions occurring when a request cannot be processed as submitted.",
+            responses = {
+                    @ApiResponse(responseCode = "400", description = "Bad request")
+            }
+    )
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> badRequest(BadRequestException ex) {
+        log.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(ex.getLocalizedMessage()));
+    }
+
+    @Operation(
+            summary = "Handle Version Conflict Exception",
+            description = "Handles exceptions occurring when an entity has been changed since the client read it.",
+            responses = {
+                    @ApiResponse(responseCode = "409", description = "Entity changed by another request")
+            }
+    )
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ConflictResponse> versionConflict(VersionConflictException ex) {
+        log.warn(ex.getMessage());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (ex.getCurrentVersion() != null) {
+            builder.eTag(VersionETags.of(ex.getCurrentVersion()));
+        }
+        return builder.body(new ConflictResponse(ex.getLocalizedMessage(), ex.getCurrentVersion()));
+    }
+
+    @Operation(
+            summary = "Handle Optimistic Locking Failure Exception",
+            description = "Handles concurrent changes detected when several entities are written together.",
+            responses = {
+                    @ApiResponse(responseCode = "409", description = "Entity changed by another request")
+            }
+    )
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ConflictResponse> optimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Concurrent change detected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ConflictResponse("The data has been changed by another request, reload it and try again.", null));
+    }
+
     @Operation(
             summary = "Handle Access Denied Exception",
             description = "Handles exceptions occurring when the user does not have access rights.",
@@ -102,6 +152,21 @@ public class ExceptionHandlerController {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(MessageFormat.format("Authentication error {0}. ", ex.getMessage())));
     }
 
+    @Operation(
+            summary = "Handle Service Unavailable Exception",
+            description = "Handles exceptions occurring when the service or a downstream dependency is overloaded.",
+            responses = {
+                    @ApiResponse(responseCode = "503", description = "Service temporarily unavailable")
+            }
+    )
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> serviceUnavailable(ServiceUnavailableException ex) {
+        log.warn(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(ex.getLocalizedMessage()));
+    }
+
     @Operation(
             summary = "Handle Security Exception",
             description = "Handles security exceptions.",
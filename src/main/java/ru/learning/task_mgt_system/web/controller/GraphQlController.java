@@ -0,0 +1,256 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+import ru.learning.task_mgt_system.exception.BadRequestException;
+import ru.learning.task_mgt_system.model.mapper.TaskMapper;
+import ru.learning.task_mgt_system.properties.BulkProperties;
+import ru.learning.task_mgt_system.properties.GraphQlLimitsProperties;
+import ru.learning.task_mgt_system.service.CommentService;
+import ru.learning.task_mgt_system.service.TaskService;
+import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.web.dto.*;
+
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Controller for the GraphQL API, see {@code graphql/schema.graphqls}.
+ * <p>
+ * The queries are served by the same services as the REST endpoints. Lists read only the columns of the
+ * selected fields. The authors, assignees and comments of the returned objects are not fetched one by one:
+ * their keys are collected per request and loaded with one query per level of the query, and an object
+ * requested twice in a request is loaded once. A page of tasks with their authors and latest comments
+ * therefore takes a fixed number of SQL statements, whatever the size of the page.
+ */
+@Controller
+public class GraphQlController {
+
+    private final TaskService taskService;
+    private final CommentService commentService;
+    private final UserService userService;
+    private final TaskMapper taskMapper;
+    private final GraphQlLimitsProperties properties;
+
+    public GraphQlController(TaskService taskService,
+                             CommentService commentService,
+                             UserService userService,
+                             TaskMapper taskMapper,
+                             GraphQlLimitsProperties properties,
+                             BulkProperties bulkProperties,
+                             BatchLoaderRegistry batchLoaderRegistry) {
+        this.taskService = taskService;
+        this.commentService = commentService;
+        this.userService = userService;
+        this.taskMapper = taskMapper;
+        this.properties = properties;
+        batchLoaderRegistry.forTypePair(Long.class, UserResponse.class)
+                .withOptions(options -> options.setMaxBatchSize(bulkProperties.getMaxItems()))
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() -> loadUsers(ids)));
+        batchLoaderRegistry.<TaskComments, List<CommentResponse>>forName("taskComments")
+                .registerMappedBatchLoader((keys, environment) -> Mono.fromCallable(() -> loadComments(keys)));
+    }
+
+    /**
+     * Retrieves a page of tasks, optionally filtered.
+     *
+     * @param page      the page number (0-based index).
+     * @param size      the page size.
+     * @param filter    the filter criteria, or {@code null} for all tasks.
+     * @param selection the selected fields of the page.
+     * @return the page of tasks holding the selected fields.
+     */
+    @QueryMapping
+    public TaskListResponse tasks(@Argument int page, @Argument int size, @Argument TaskFilter filter,
+                                  DataFetchingFieldSelectionSet selection) {
+        checkItems("size", size);
+        Set<String> fields = selectedColumns(selection.getFields("tasks/*"));
+        if (filter == null) {
+            return taskService.getAll(page, size, fields);
+        }
+        filter.setPage(page);
+        filter.setSize(size);
+        return taskService.filterBy(filter, fields);
+    }
+
+    /**
+     * Retrieves a task by its ID.
+     *
+     * @param id the ID of the task.
+     * @return the task.
+     */
+    @QueryMapping
+    public TaskResponse task(@Argument Long id) {
+        return taskMapper.responseWithCommentsToResponse(taskService.getById(id));
+    }
+
+    /**
+     * Retrieves a page of users.
+     *
+     * @param page      the page number (0-based index).
+     * @param size      the page size.
+     * @param selection the selected fields of the page.
+     * @return the page of users holding the selected fields.
+     */
+    @QueryMapping
+    public UserListResponse users(@Argument int page, @Argument int size, DataFetchingFieldSelectionSet selection) {
+        checkItems("size", size);
+        return userService.getAll(page, size, selectedColumns(selection.getFields("users/*")));
+    }
+
+    /**
+     * Retrieves a user by their ID.
+     *
+     * @param id the ID of the user.
+     * @return the user.
+     */
+    @QueryMapping
+    public UserResponse user(@Argument Long id) {
+        return userService.getById(id);
+    }
+
+    /**
+     * Retrieves a comment by its ID.
+     *
+     * @param id the ID of the comment.
+     * @return the comment.
+     */
+    @QueryMapping
+    @PreAuthorize("hasRole('USER')")
+    public CommentResponse comment(@Argument Long id) {
+        return commentService.getById(id);
+    }
+
+    /**
+     * Resolves the number of comments of a task, held by the task itself.
+     *
+     * @param task the task.
+     * @return the number of comments, or {@code null} if it has not been read.
+     */
+    @SchemaMapping(typeName = "Task")
+    public Long commentCount(TaskResponse task) {
+        return task.getComments();
+    }
+
+    /**
+     * Resolves the author of a task, loaded together with the other users of the request.
+     *
+     * @param task  the task.
+     * @param users the loader of the users of the request.
+     * @return the author.
+     */
+    @SchemaMapping(typeName = "Task")
+    public CompletableFuture<UserResponse> author(TaskResponse task, DataLoader<Long, UserResponse> users) {
+        return loadUser(task.getAuthorId(), users);
+    }
+
+    /**
+     * Resolves the assignee of a task, loaded together with the other users of the request.
+     *
+     * @param task  the task.
+     * @param users the loader of the users of the request.
+     * @return the assignee, or {@code null} if the task is not assigned.
+     */
+    @SchemaMapping(typeName = "Task")
+    public CompletableFuture<UserResponse> assignee(TaskResponse task, DataLoader<Long, UserResponse> users) {
+        return loadUser(task.getAssigneeId(), users);
+    }
+
+    /**
+     * Resolves the latest comments of a task, loaded together with the comments of the other tasks of the request.
+     *
+     * @param task         the task.
+     * @param last         the maximum number of comments.
+     * @param taskComments the loader of the comments of the tasks of the request.
+     * @return the comments, from the newest to the oldest.
+     */
+    @SchemaMapping(typeName = "Task")
+    @PreAuthorize("hasRole('USER')")
+    public CompletableFuture<List<CommentResponse>> comments(TaskResponse task, @Argument int last,
+                                                             DataLoader<TaskComments, List<CommentResponse>> taskComments) {
+        checkItems("last", last);
+        return taskComments.load(new TaskComments(task.getId(), last));
+    }
+
+    /**
+     * Resolves the author of a comment, loaded together with the other users of the request.
+     *
+     * @param comment the comment.
+     * @param users   the loader of the users of the request.
+     * @return the author.
+     */
+    @SchemaMapping(typeName = "Comment")
+    public CompletableFuture<UserResponse> author(CommentResponse comment, DataLoader<Long, UserResponse> users) {
+        return loadUser(comment.getAuthorId(), users);
+    }
+
+    private CompletableFuture<UserResponse> loadUser(Long id, DataLoader<Long, UserResponse> users) {
+        return id == null ? CompletableFuture.completedFuture(null) : users.load(id);
+    }
+
+    private Map<Long, UserResponse> loadUsers(Set<Long> ids) {
+        return userService.getByIds(new ArrayList<>(ids)).getItems().stream()
+                .filter(MultiGetItem::isFound)
+                .collect(Collectors.toMap(MultiGetItem::getId, MultiGetItem::getValue));
+    }
+
+    /**
+     * Loads the comments of the tasks with one query per distinct number of comments requested.
+     * Tasks without comments get an empty list.
+     */
+    private Map<TaskComments, List<CommentResponse>> loadComments(Set<TaskComments> keys) {
+        Map<TaskComments, List<CommentResponse>> comments = new HashMap<>();
+        keys.stream()
+                .collect(Collectors.groupingBy(TaskComments::last, Collectors.mapping(TaskComments::taskId, Collectors.toSet())))
+                .forEach((last, taskIds) -> {
+                    Map<Long, List<CommentResponse>> latest = commentService.getLatestByTaskIds(taskIds, last);
+                    taskIds.forEach(taskId -> comments.put(new TaskComments(taskId, last), latest.getOrDefault(taskId, List.of())));
+                });
+        return comments;
+    }
+
+    /**
+     * Maps the selected fields of the items of a page to the fields of the response DTO to read. Nested objects
+     * need the ID they are loaded by, the number of comments is held under the name of the list in the DTO.
+     */
+    private static Set<String> selectedColumns(List<SelectedField> selectedFields) {
+        Set<String> columns = new HashSet<>(Set.of("id"));
+        for (SelectedField field : selectedFields) {
+            switch (field.getName()) {
+                case "author" -> columns.add("authorId");
+                case "assignee" -> columns.add("assigneeId");
+                case "commentCount" -> columns.add("comments");
+                case "comments", "__typename" -> {
+                }
+                default -> columns.add(field.getName());
+            }
+        }
+        return columns;
+    }
+
+    private void checkItems(String argument, int items) {
+        if (items < 1 || items > properties.getMaxPageSize()) {
+            throw new BadRequestException(MessageFormat.format(
+                    "The argument {0} must be between 1 and {1}.", argument, properties.getMaxPageSize()));
+        }
+    }
+
+    /**
+     * The key of the latest comments of a task.
+     *
+     * @param taskId the ID of the task.
+     * @param last   the maximum number of comments.
+     */
+    record TaskComments(Long taskId, int last) {
+    }
+}
@@ -0,0 +1,41 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+import ru.learning.task_mgt_system.exception.AccessDeniedException;
+import ru.learning.task_mgt_system.exception.BadRequestException;
+import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+
+/**
+ * Resolver of the exceptions occurring in the GraphQL API.
+ * <p>
+ * Reports the exceptions the REST API answers with 404, 400 and 403, see {@link ExceptionHandlerController},
+ * as errors of the field that failed with the matching classification. Other exceptions are left to the
+ * default handling, which does not expose their messages.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        ErrorType errorType;
+        if (ex instanceof EntityNotFoundException) {
+            errorType = ErrorType.NOT_FOUND;
+        } else if (ex instanceof BadRequestException) {
+            errorType = ErrorType.BAD_REQUEST;
+        } else if (ex instanceof AccessDeniedException) {
+            errorType = ErrorType.FORBIDDEN;
+        } else {
+            return null;
+        }
+        log.error(ex.getMessage());
+        return GraphqlErrorBuilder.newError(env).errorType(errorType).message(ex.getMessage()).build();
+    }
+}
@@ -0,0 +1,202 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.learning.task_mgt_system.service.ReactiveReadService;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+import ru.learning.task_mgt_system.web.dto.TaskResponse;
+import ru.learning.task_mgt_system.web.dto.TaskResponseWithComments;
+import ru.learning.task_mgt_system.web.dto.UserResponse;
+
+/**
+ * Controller for the reactive read API.
+ * <p>
+ * Provides the reads of tasks, comments and users of the other controllers, with the same DTOs and criteria,
+ * over non-blocking database connections. Lists are streamed as newline-delimited JSON: the next item is only
+ * taken from the page once the previous one has been written, so a slow reader is fed at its own pace while
+ * the database connection has long been released. With {@code Accept: application/json} a list is returned
+ * as a single JSON array instead.
+ * <p>
+ * The items are written by the stream writers, which block while a client does not read. The API is therefore
+ * only enabled on virtual threads ({@code spring.threads.virtual.enabled}, see the {@code virtual-threads}
+ * profile), where a slow reader costs no platform thread; on platform threads every slow reader would hold one
+ * of the few writers, and the others would wait in their queue without getting any bytes.
+ */
+@RestController
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequestMapping("/api/v1/reactive")
+@RequiredArgsConstructor
+public class ReactiveReadController {
+
+    private final ReactiveReadService reactiveReadService;
+
+    /**
+     * Streams a page of all tasks.
+     *
+     * @param page the page number for pagination (default is 0).
+     * @param size the page size for pagination (default is 10).
+     * @return the tasks, ordered by ID.
+     */
+    @Operation(
+            summary = "Stream all tasks",
+            description = "Streams a page of all tasks ordered by ID as newline-delimited JSON.",
+            parameters = {
+                    @Parameter(name = "page", description = "The page number for pagination", example = "0"),
+                    @Parameter(name = "size", description = "The page size for pagination", example = "10")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks streamed")
+    })
+    @GetMapping(value = "/tasks", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<TaskResponse> getAllTasks(@RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "10") int size) {
+        return reactiveReadService.getAllTasks(page, size);
+    }
+
+    /**
+     * Streams a page of the tasks matching a filter.
+     *
+     * @param filter the filter criteria, validated as for the blocking filter.
+     * @return the matching tasks, ordered by ID.
+     */
+    @Operation(
+            summary = "Stream tasks by criteria",
+            description = "Streams a page of the tasks matching the filter criteria ordered by ID as newline-delimited JSON."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria")
+    })
+    @GetMapping(value = "/tasks/filter", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<TaskResponse> filterTasks(@Valid TaskFilter filter) {
+        return reactiveReadService.filterTasks(filter);
+    }
+
+    /**
+     * Retrieves a task by its identifier, including its comments.
+     *
+     * @param id the identifier of the task.
+     * @return the task with its comments.
+     */
+    @Operation(
+            summary = "Get task by ID",
+            description = "Retrieves a task with its comments by its identifier.",
+            parameters = {
+                    @Parameter(name = "id", description = "The identifier of the task", example = "1")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task found"),
+            @ApiResponse(responseCode = "404", description = "Task not found")
+    })
+    @GetMapping("/tasks/{id}")
+    public Mono<TaskResponseWithComments> getTaskById(@PathVariable Long id) {
+        return reactiveReadService.getTaskById(id);
+    }
+
+    @Operation(
+            summary = "Retrieve Comment by ID",
+            description = "Retrieves a comment by its identifier.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved comment"),
+                    @ApiResponse(responseCode = "404", description = "Comment not found")
+            }
+    )
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/comments/{id}")
+    public Mono<CommentResponse> getCommentById(
+            @Parameter(description = "The ID of the comment to retrieve") @PathVariable Long id) {
+        return reactiveReadService.getCommentById(id);
+    }
+
+    @Operation(
+            summary = "Stream Comments by Task ID",
+            description = "Streams a page of the comments of a task ordered by ID as newline-delimited JSON.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Comments streamed")
+            }
+    )
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping(value = "/comments/task/{taskId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<CommentResponse> getCommentsByTaskId(
+            @Parameter(description = "The ID of the task to retrieve comments for") @PathVariable Long taskId,
+            @Parameter(description = "Page number for pagination") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size for pagination") @RequestParam(defaultValue = "10") int size) {
+        return reactiveReadService.getCommentsByTaskId(taskId, page, size);
+    }
+
+    @Operation(
+            summary = "Stream Comments by Author ID",
+            description = "Streams a page of the comments of an author ordered by ID as newline-delimited JSON.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Comments streamed")
+            }
+    )
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping(value = "/comments/author/{authorId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<CommentResponse> getCommentsByAuthorId(
+            @Parameter(description = "The ID of the author to retrieve comments for") @PathVariable Long authorId,
+            @Parameter(description = "Page number for pagination") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size for pagination") @RequestParam(defaultValue = "10") int size) {
+        return reactiveReadService.getCommentsByAuthorId(authorId, page, size);
+    }
+
+    /**
+     * Streams a page of all users.
+     *
+     * @param page the page number for pagination (default is 0).
+     * @param size the page size for pagination (default is 10).
+     * @return the users, ordered by ID.
+     */
+    @Operation(
+            summary = "Stream all users",
+            description = "Streams a page of all users ordered by ID as newline-delimited JSON.",
+            parameters = {
+                    @Parameter(name = "page", description = "The page number for pagination", example = "0"),
+                    @Parameter(name = "size", description = "The page size for pagination", example = "10")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users streamed")
+    })
+    @GetMapping(value = "/users", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<UserResponse> getAllUsers(@RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "10") int size) {
+        return reactiveReadService.getAllUsers(page, size);
+    }
+
+    /**
+     * Retrieves a user by its identifier.
+     *
+     * @param id the identifier of the user.
+     * @return the user information.
+     */
+    @Operation(
+            summary = "Get user by ID",
+            description = "Retrieves a user by its identifier.",
+            parameters = {
+                    @Parameter(name = "id", description = "The identifier of the user", example = "1")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval of user"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    @GetMapping("/users/{id}")
+    public Mono<UserResponse> getUserById(@PathVariable Long id) {
+        return reactiveReadService.getUserById(id);
+    }
+}
@@ -0,0 +1,71 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+import ru.learning.task_mgt_system.web.dto.CommentListResponse;
+import ru.learning.task_mgt_system.web.dto.TaskListResponse;
+import ru.learning.task_mgt_system.web.dto.UserListResponse;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Advice that trims the items of list responses to the fields selected with the {@code fields} parameter.
+ * <p>
+ * The services read only the selected fields and leave the others empty; this advice removes the empty fields
+ * from the body, so a sparse response does not carry {@code null} for every field that has not been selected.
+ * The item DTOs take part in the filtering through {@link FilteredMixIn}, registered in the web configuration.
+ * </p>
+ */
+@ControllerAdvice
+public class SparseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    /**
+     * The name of the request parameter selecting the fields.
+     */
+    public static final String PARAMETER = "fields";
+
+    /**
+     * The ID of the Jackson filter applied to the items of list responses.
+     */
+    public static final String FILTER = "sparseFields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        Object body = bodyContainer.getValue();
+        if (!(body instanceof TaskListResponse || body instanceof CommentListResponse || body instanceof UserListResponse)
+                || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        String[] values = servletRequest.getServletRequest().getParameterValues(PARAMETER);
+        if (values == null) {
+            return;
+        }
+        Set<String> fields = Arrays.stream(values)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+    }
+
+    /**
+     * Mix-in that marks an item DTO as filtered by {@link #FILTER}.
+     * Without the filter, as in all other responses, every field is written.
+     */
+    @JsonFilter(FILTER)
+    public interface FilteredMixIn {
+    }
+}
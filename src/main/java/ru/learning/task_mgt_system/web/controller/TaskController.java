@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +16,9 @@ import ru.learning.task_mgt_system.validation.CheckOwnershipForDelete;
 import ru.learning.task_mgt_system.validation.EntityType;
 import ru.learning.task_mgt_system.web.dto.*;
 
+import java.util.List;
+import java.util.Set;
+
 /**
  * Controller for managing tasks.
  * Provides methods for creating, updating, deleting, and retrieving tasks.
@@ -29,20 +33,33 @@ public class TaskController {
     /**
      * Retrieves tasks based on filter criteria.
      *
-     * @param filter the filter criteria for retrieving tasks.
+     * @param filter   the filter criteria for retrieving tasks.
+     * @param archived whether archived tasks are retrieved instead of active ones.
+     * @param fields   the fields of the tasks to return, or {@code null} for all fields.
      * @return a list of tasks that match the filter criteria.
      */
     @Operation(
             summary = "Filter tasks by criteria",
-            description = "Retrieves tasks based on filter criteria."
+            description = "Retrieves tasks based on filter criteria. With archived=true, the archived tasks are searched. " +
+                    "With fields, only the listed fields of active tasks are read; the number of comments is only " +
+                    "counted if requested.",
+            parameters = {
+                    @Parameter(name = "archived", description = "Whether archived tasks are retrieved", example = "false"),
+                    @Parameter(name = "fields", description = "Comma-separated fields of the tasks to return", example = "id,title,status")
+            }
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
             @ApiResponse(responseCode = "400", description = "Invalid filter criteria")
     })
     @GetMapping("/filter")
-    public ResponseEntity<TaskListResponse> filterBy(@Valid TaskFilter filter) {
-        return ResponseEntity.ok(taskService.filterBy(filter));
+    public ResponseEntity<TaskListResponse> filterBy(@Valid TaskFilter filter,
+                                                     @RequestParam(defaultValue = "false") boolean archived,
+                                                     @RequestParam(name = SparseFieldsAdvice.PARAMETER, required = false) Set<String> fields) {
+        if (archived) {
+            return ResponseEntity.ok(taskService.filterArchived(filter));
+        }
+        return ResponseEntity.ok(fields == null ? taskService.filterBy(filter) : taskService.filterBy(filter, fields));
     }
 
     /**
@@ -50,14 +67,20 @@ public class TaskController {
      *
      * @param page the page number for pagination (default is 0).
      * @param size the page size for pagination (default is 10).
+     * @param archived whether archived tasks are retrieved instead of active ones (default is false).
+     * @param fields the fields of the tasks to return, or {@code null} for all fields.
      * @return a paginated list of all tasks.
      */
     @Operation(
             summary = "Get all tasks",
-            description = "Retrieves all tasks with pagination.",
+            description = "Retrieves all tasks with pagination. With archived=true, the archived tasks are retrieved. " +
+                    "With fields, only the listed fields of active tasks are read; the number of comments is only " +
+                    "counted if requested.",
             parameters = {
                     @Parameter(name = "page", description = "Page number for pagination", example = "0"),
-                    @Parameter(name = "size", description = "Page size for pagination", example = "10")
+                    @Parameter(name = "size", description = "Page size for pagination", example = "10"),
+                    @Parameter(name = "archived", description = "Whether archived tasks are retrieved", example = "false"),
+                    @Parameter(name = "fields", description = "Comma-separated fields of the tasks to return", example = "id,title,status")
             }
     )
     @ApiResponses(value = {
@@ -66,14 +89,22 @@ public class TaskController {
     })
     @GetMapping
     public ResponseEntity<TaskListResponse> getAll(@RequestParam(defaultValue = "0") int page,
-                                                   @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(taskService.getAll(page, size));
+                                                   @RequestParam(defaultValue = "10") int size,
+                                                   @RequestParam(defaultValue = "false") boolean archived,
+                                                   @RequestParam(name = SparseFieldsAdvice.PARAMETER, required = false) Set<String> fields) {
+        if (archived) {
+            return ResponseEntity.ok(taskService.getAllArchived(page, size));
+        }
+        return ResponseEntity.ok(fields == null ? taskService.getAll(page, size) : taskService.getAll(page, size, fields));
     }
 
     /**
      * Retrieves a task by its identifier.
+     * The version of the task and the state of its comments are sent as the ETag; if it matches If-None-Match,
+     * 304 Not Modified is returned.
      *
      * @param id the identifier of the task.
+     * @param ifNoneMatch the ETag of the task as already known by the client, if any.
      * @return the found task with comments.
      */
     @Operation(
@@ -85,11 +116,22 @@ public class TaskController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved task"),
+            @ApiResponse(responseCode = "304", description = "Task not modified since the version in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Task not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseWithComments> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getById(id));
+    public ResponseEntity<TaskResponseWithComments> getById(@PathVariable Long id,
+                                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TaskResponseWithComments response = taskService.getById(id);
+        String eTag = VersionETags.of(response.getVersion(), response.getComments());
+        if (VersionETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(response);
     }
 
     /**
@@ -116,6 +158,7 @@ public class TaskController {
      *
      * @param id the identifier of the task to update.
      * @param taskRequest DTO with new data for the task.
+     * @param ifMatch the ETag of the task as read by the client; if it is not current, 409 Conflict is returned.
      * @return the updated task.
      */
     @Operation(
@@ -129,12 +172,44 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "Task successfully updated"),
             @ApiResponse(responseCode = "400", description = "Invalid task data"),
             @ApiResponse(responseCode = "403", description = "Access denied for update"),
-            @ApiResponse(responseCode = "404", description = "Task not found")
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Task changed by another request")
     })
     @CheckOwnershipAndAssignmentForUpdate(entityType = EntityType.TASK)
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponse> update(@PathVariable Long id, @Valid @RequestBody TaskRequest taskRequest) {
-        return ResponseEntity.ok(taskService.update(id, taskRequest));
+    public ResponseEntity<TaskResponse> update(@PathVariable Long id, @Valid @RequestBody TaskRequest taskRequest,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse response = taskService.update(id, taskRequest, VersionETags.parse(ifMatch));
+        return VersionETags.ok(response, response.getVersion());
+    }
+
+    /**
+     * Partially updates an existing task.
+     *
+     * @param id the identifier of the task to update.
+     * @param patchRequest DTO with only the fields to change.
+     * @param ifMatch the ETag of the task as read by the client; if it is not current, 409 Conflict is returned.
+     * @return the updated task.
+     */
+    @Operation(
+            summary = "Partially update a task",
+            description = "Changes only the provided fields of a task. Assignees may change only the status.",
+            parameters = {
+                    @Parameter(name = "id", description = "The identifier of the task to update", example = "1")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task successfully updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid task data"),
+            @ApiResponse(responseCode = "403", description = "Access denied for update"),
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Task changed since the version in If-Match")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponse> patch(@PathVariable Long id, @Valid @RequestBody TaskPatchRequest patchRequest,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse response = taskService.patch(id, patchRequest, VersionETags.parse(ifMatch));
+        return VersionETags.ok(response, response.getVersion());
     }
 
     /**
@@ -162,6 +237,133 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Retrieves tasks by a list of identifiers.
+     *
+     * @param ids the identifiers of the tasks.
+     * @return the tasks with their comments in the order of the identifiers, with the missing ones marked.
+     */
+    @Operation(
+            summary = "Get tasks by IDs",
+            description = "Retrieves the tasks with their comments for a list of identifiers. Cached tasks are served " +
+                    "from the cache, the others are read with a single query. Missing tasks are marked as not found.",
+            parameters = {
+                    @Parameter(name = "ids", description = "Comma-separated identifiers of the tasks", example = "1,2,3")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval, see the per-item status"),
+            @ApiResponse(responseCode = "400", description = "Too many identifiers in the request")
+    })
+    @GetMapping("/bulk")
+    public ResponseEntity<MultiGetResponse<TaskResponseWithComments>> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(taskService.getByIds(ids));
+    }
+
+    /**
+     * Creates tasks in bulk.
+     *
+     * @param taskRequests DTOs with data for creating the tasks.
+     * @return the outcome of every item, in the order of the request.
+     */
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Creates tasks from an array of task data. Invalid items are skipped and reported per item."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk request processed, see the per-item status"),
+            @ApiResponse(responseCode = "400", description = "Too many items in the request")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> createAll(@RequestBody List<TaskRequest> taskRequests) {
+        return ResponseEntity.ok(taskService.createAll(taskRequests));
+    }
+
+    /**
+     * Updates tasks in bulk.
+     *
+     * @param updateRequests DTOs with the identifiers and the new data of the tasks.
+     * @return the outcome of every item, in the order of the request.
+     */
+    @Operation(
+            summary = "Update tasks in bulk",
+            description = "Updates tasks from an array of identifiers and task data. Items that are invalid, " +
+                    "not found or not allowed for the current user are skipped and reported per item."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk request processed, see the per-item status"),
+            @ApiResponse(responseCode = "400", description = "Too many items in the request")
+    })
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> updateAll(@RequestBody List<TaskBulkUpdateRequest> updateRequests) {
+        return ResponseEntity.ok(taskService.updateAll(updateRequests));
+    }
+
+    /**
+     * Deletes tasks in bulk.
+     *
+     * @param ids the identifiers of the tasks to delete.
+     * @return the outcome of every item, in the order of the request.
+     */
+    @Operation(
+            summary = "Delete tasks in bulk",
+            description = "Deletes tasks by their identifiers. Tasks that are not found or not authored " +
+                    "by the current user are skipped and reported per item.",
+            parameters = {
+                    @Parameter(name = "ids", description = "The identifiers of the tasks to delete", example = "1,2,3")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk request processed, see the per-item status"),
+            @ApiResponse(responseCode = "400", description = "Too many items in the request")
+    })
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> deleteAll(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(taskService.deleteAll(ids));
+    }
+
+    /**
+     * Deletes all tasks matching the filter criteria that are authored by the current user.
+     *
+     * @param filter the filter criteria, validated as for the filter of tasks; pagination is ignored.
+     * @return the number of deleted tasks.
+     */
+    @Operation(
+            summary = "Delete tasks by criteria",
+            description = "Deletes the tasks matching the filter criteria, together with their comments, in chunks of " +
+                    "app.bulk.max-items tasks, each with a single statement. Only tasks authored by the current user are " +
+                    "deleted. At least one criterion is required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks successfully deleted"),
+            @ApiResponse(responseCode = "400", description = "No or invalid filter criteria")
+    })
+    @DeleteMapping("/filter")
+    public ResponseEntity<TaskDeleteResponse> deleteBy(@Valid TaskFilter filter) {
+        return ResponseEntity.ok(taskService.deleteBy(filter));
+    }
+
+    /**
+     * Changes the status, and optionally the priority, of many tasks at once.
+     *
+     * @param transitionRequest DTO with the new status and priority and the IDs or the filter of the tasks.
+     * @return the number of updated tasks.
+     */
+    @Operation(
+            summary = "Change the status of many tasks",
+            description = "Changes the status, and optionally the priority, of the tasks selected by IDs or by a filter. " +
+                    "Only tasks the current user may change are updated: authors may change both fields, assignees only the status. " +
+                    "The tasks matching a filter are updated in chunks of app.bulk.max-items tasks."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks successfully updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid selection or too many IDs")
+    })
+    @PostMapping("/transition")
+    public ResponseEntity<TaskTransitionResponse> transitionStatus(@Valid @RequestBody TaskTransitionRequest transitionRequest) {
+        return ResponseEntity.ok(taskService.transitionStatus(transitionRequest));
+    }
+
     /**
      * Retrieves tasks by status with pagination.
      *
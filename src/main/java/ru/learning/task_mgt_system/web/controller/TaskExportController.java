@@ -0,0 +1,70 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.learning.task_mgt_system.service.TaskExportService;
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Controller for the streaming export of tasks.
+ * The tasks are written to the response while they are read from the database.
+ */
+@RestController
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+public class TaskExportController {
+
+    private final TaskExportService taskExportService;
+
+    /**
+     * Exports the tasks matching the filter criteria as NDJSON or CSV.
+     *
+     * @param filter       the filter criteria; pagination is ignored.
+     * @param format       the format of the export.
+     * @param withComments whether the comments of the tasks are exported.
+     * @param response     the response to write the tasks to.
+     * @throws IOException if the response cannot be written.
+     */
+    @Operation(
+            summary = "Export tasks",
+            description = "Streams all tasks matching the filter criteria, ordered by ID, as newline delimited " +
+                    "JSON or CSV. Without criteria all tasks are exported.",
+            parameters = {
+                    @Parameter(name = "format", description = "Format of the export: NDJSON or CSV", example = "NDJSON"),
+                    @Parameter(name = "withComments", description = "Whether the comments are exported", example = "false")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks exported"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria or format")
+    })
+    @GetMapping("/export")
+    public void export(TaskFilter filter,
+                       @RequestParam(defaultValue = "NDJSON") TaskDataFormat format,
+                       @RequestParam(defaultValue = "false") boolean withComments,
+                       HttpServletResponse response) throws IOException {
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + format.name().toLowerCase(Locale.ROOT))
+                .build()
+                .toString());
+
+        taskExportService.export(filter, format, withComments, response.getOutputStream());
+    }
+}
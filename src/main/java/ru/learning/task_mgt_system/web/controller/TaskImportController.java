@@ -0,0 +1,74 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.learning.task_mgt_system.service.TaskImportService;
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controller for the streaming import of tasks.
+ * The request body is read while the report is written, so neither is held in memory as a whole.
+ */
+@RestController
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+public class TaskImportController {
+
+    private final TaskImportService taskImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Imports tasks from an NDJSON or CSV body and streams the report as NDJSON.
+     * Every skipped row is reported with its number and reason, progress is reported after every chunk
+     * and the last line is the summary.
+     *
+     * @param contentType the content type of the body, selecting the format.
+     * @param request     the request to read the rows from.
+     * @param response    the response to write the report to.
+     * @throws IOException if the body cannot be read or the report cannot be written.
+     */
+    @Operation(
+            summary = "Import tasks",
+            description = "Imports tasks from newline delimited JSON (application/x-ndjson) or CSV (text/csv) " +
+                    "with the current user as author. The assignee is given by assigneeId or assigneeEmail. " +
+                    "The report is streamed as NDJSON: ERROR lines for skipped rows, PROGRESS lines after every " +
+                    "chunk and a final SUMMARY line."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see the streamed report"),
+            @ApiResponse(responseCode = "400", description = "Unsupported content type or invalid CSV header")
+    })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public void importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        TaskDataFormat format = TaskDataFormat.fromContentType(contentType);
+        response.setContentType(TaskDataFormat.NDJSON.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ServletOutputStream output = response.getOutputStream();
+        taskImportService.importTasks(request.getInputStream(), format, event -> {
+            try {
+                output.write(objectMapper.writeValueAsBytes(event));
+                output.write('\n');
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.learning.task_mgt_system.service.TaskStatisticsService;
+import ru.learning.task_mgt_system.web.dto.TaskStatisticsResponse;
+
+/**
+ * Controller for the statistics of tasks.
+ * The numbers are served from memory, without querying the database.
+ */
+@RestController
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+public class TaskStatisticsController {
+
+    private final TaskStatisticsService taskStatisticsService;
+
+    /**
+     * Retrieves the numbers of tasks per assignee, status and priority.
+     *
+     * @param assigneeId the ID of the assignee to count the tasks of, or {@code null} for all assignees.
+     * @return the numbers of tasks.
+     */
+    @Operation(
+            summary = "Get task statistics",
+            description = "Retrieves the numbers of tasks per assignee, status and priority. The numbers are kept " +
+                    "in memory and recounted by the database periodically, at the returned reconciledAt.",
+            parameters = {
+                    @Parameter(name = "assigneeId", description = "ID of the assignee to count the tasks of", example = "1")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the statistics")
+    })
+    @GetMapping("/statistics")
+    public ResponseEntity<TaskStatisticsResponse> getStatistics(@RequestParam(required = false) Long assigneeId) {
+        return ResponseEntity.ok(taskStatisticsService.getStatistics(assigneeId));
+    }
+}
@@ -8,9 +8,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.web.dto.MultiGetResponse;
 import ru.learning.task_mgt_system.web.dto.UserListResponse;
 import ru.learning.task_mgt_system.web.dto.UserResponse;
 
+import java.util.List;
+import java.util.Set;
+
 /**
  * Controller for managing users.
  * Provides methods for retrieving user information.
@@ -27,14 +31,17 @@ public class UserController {
      *
      * @param page the page number for pagination (default is 0).
      * @param size the page size for pagination (default is 10).
+     * @param fields the fields of the users to return, or {@code null} for all fields.
      * @return a paginated list of all users.
      */
     @Operation(
             summary = "Get all users",
-            description = "Retrieves a paginated list of all users.",
+            description = "Retrieves a paginated list of all users. With fields, only the listed fields of the users " +
+                    "are read and returned; the task counts are only computed if requested.",
             parameters = {
                     @Parameter(name = "page", description = "The page number for pagination", example = "0"),
-                    @Parameter(name = "size", description = "The page size for pagination", example = "10")
+                    @Parameter(name = "size", description = "The page size for pagination", example = "10"),
+                    @Parameter(name = "fields", description = "Comma-separated fields of the users to return", example = "id,fullName")
             }
     )
     @ApiResponses(value = {
@@ -43,8 +50,9 @@ public class UserController {
     })
     @GetMapping
     public ResponseEntity<UserListResponse> getAll(@RequestParam(defaultValue = "0") int page,
-                                                   @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(userService.getAll(page, size));
+                                                   @RequestParam(defaultValue = "10") int size,
+                                                   @RequestParam(name = SparseFieldsAdvice.PARAMETER, required = false) Set<String> fields) {
+        return ResponseEntity.ok(fields == null ? userService.getAll(page, size) : userService.getAll(page, size, fields));
     }
 
     /**
@@ -68,4 +76,27 @@ public class UserController {
     public ResponseEntity<UserResponse> getById(@PathVariable Long id) {
         return ResponseEntity.ok(userService.getById(id));
     }
+
+    /**
+     * Retrieves users by a list of identifiers.
+     *
+     * @param ids the identifiers of the users.
+     * @return the users in the order of the identifiers, with the missing ones marked.
+     */
+    @Operation(
+            summary = "Get users by IDs",
+            description = "Retrieves the users for a list of identifiers with a single query. " +
+                    "Missing users are marked as not found.",
+            parameters = {
+                    @Parameter(name = "ids", description = "Comma-separated identifiers of the users", example = "1,2,3")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval, see the per-item status"),
+            @ApiResponse(responseCode = "400", description = "Too many identifiers in the request")
+    })
+    @GetMapping("/bulk")
+    public ResponseEntity<MultiGetResponse<UserResponse>> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getByIds(ids));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package ru.learning.task_mgt_system.web.controller;
+
+import org.springframework.http.ResponseEntity;
+import ru.learning.task_mgt_system.exception.BadRequestException;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+/**
+ * Conversion between entity versions and the values of the {@code ETag}, {@code If-Match}
+ * and {@code If-None-Match} headers.
+ * <p>
+ * The ETag of a task or a comment is its version in quotes, for example {@code "3"}. A task read together with
+ * its comments also describes the comments after the version, see {@link #of(Long, List)}; only the version
+ * counts in {@code If-Match}.
+ * </p>
+ */
+final class VersionETags {
+
+    private VersionETags() {
+    }
+
+    /**
+     * Formats a version as an ETag.
+     *
+     * @param version the version of the entity.
+     * @return the ETag, or {@code null} if the version is not known.
+     */
+    static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Formats the ETag of a task together with its comments: the version of the task, the number of comments,
+     * the highest comment ID and the sum of the comment versions, for example {@code "3-2-57-3"}. Changes of
+     * the comments do not change the version of the task, but every added, edited or deleted comment changes
+     * one of the other parts.
+     *
+     * @param version  the version of the task.
+     * @param comments the comments of the task, may be {@code null}.
+     * @return the ETag, or {@code null} if the version is not known.
+     */
+    static String of(Long version, List<CommentResponse> comments) {
+        if (version == null) {
+            return null;
+        }
+        long maxId = 0;
+        long versions = 0;
+        List<CommentResponse> all = comments == null ? List.of() : comments;
+        for (CommentResponse comment : all) {
+            maxId = Math.max(maxId, comment.getId() == null ? 0 : comment.getId());
+            versions += comment.getVersion() == null ? 0 : comment.getVersion();
+        }
+        return "\"" + version + "-" + all.size() + "-" + maxId + "-" + versions + "\"";
+    }
+
+    /**
+     * Checks whether the value of an {@code If-None-Match} header matches an ETag. Weak tags match
+     * their strong counterparts.
+     *
+     * @param header the value of the header, may be {@code null}.
+     * @param eTag   the current ETag, may be {@code null}.
+     * @return {@code true} if the header holds the ETag.
+     */
+    static boolean matches(String header, String eTag) {
+        if (header == null || eTag == null) {
+            return false;
+        }
+        String value = header.trim();
+        return (value.startsWith("W/") ? value.substring(2) : value).equals(eTag);
+    }
+
+    /**
+     * Creates a 200 OK response with the version of the entity as its ETag.
+     *
+     * @param body    the body of the response.
+     * @param version the version of the entity, may be {@code null}.
+     * @param <T>     the type of the body.
+     * @return the response.
+     */
+    static <T> ResponseEntity<T> ok(T body, Long version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (version != null) {
+            builder.eTag(of(version));
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Parses the version from the value of an {@code If-Match} or {@code If-None-Match} header.
+     * The parts after the version in the ETag of a task with comments are ignored.
+     *
+     * @param header the value of the header, may be {@code null}.
+     * @return the version, or {@code null} if the header is missing or matches any version ({@code *}).
+     * @throws BadRequestException if the header does not contain a version.
+     */
+    static Long parse(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String value = header.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        if (value.indexOf('-') > 0) {
+            value = value.substring(0, value.indexOf('-'));
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(MessageFormat.format("Invalid entity tag: {0}.", header));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of a single item in a bulk operation.
+ * Items are reported in the order of the request, identified by their position.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkItemResult {
+
+    /**
+     * Zero-based position of the item in the request.
+     */
+    private int index;
+
+    /**
+     * Identifier of the task, if it is known.
+     */
+    private Long id;
+
+    /**
+     * Outcome of the item.
+     */
+    private BulkItemStatus status;
+
+    /**
+     * Reason why the item has been skipped, {@code null} on success.
+     */
+    private String message;
+}
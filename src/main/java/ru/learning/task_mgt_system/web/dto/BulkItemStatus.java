@@ -0,0 +1,42 @@
+package ru.learning.task_mgt_system.web.dto;
+
+/**
+ * Enumeration of the outcomes of a single item in a bulk operation.
+ */
+public enum BulkItemStatus {
+
+    /**
+     * The task has been created.
+     */
+    CREATED,
+
+    /**
+     * The task has been updated.
+     */
+    UPDATED,
+
+    /**
+     * The task has been deleted.
+     */
+    DELETED,
+
+    /**
+     * The item failed validation and has been skipped.
+     */
+    INVALID,
+
+    /**
+     * The task or a referenced user does not exist, the item has been skipped.
+     */
+    NOT_FOUND,
+
+    /**
+     * The current user is not allowed to change the task, the item has been skipped.
+     */
+    FORBIDDEN,
+
+    /**
+     * The task has been changed since the client read it, the item has been skipped.
+     */
+    CONFLICT
+}
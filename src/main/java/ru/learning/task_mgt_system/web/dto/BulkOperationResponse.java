@@ -0,0 +1,29 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for responding to a bulk operation.
+ * Contains the per-item results together with the number of succeeded and failed items.
+ */
+@Data
+public class BulkOperationResponse {
+
+    /**
+     * Results of the items, in the order of the request.
+     */
+    private List<BulkItemResult> results = new ArrayList<>();
+
+    /**
+     * Number of items that have been applied.
+     */
+    private int succeeded;
+
+    /**
+     * Number of items that have been skipped.
+     */
+    private int failed;
+}
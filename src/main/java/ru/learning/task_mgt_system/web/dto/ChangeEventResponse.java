@@ -0,0 +1,80 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * DTO for a change of a task or a comment read from the change feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEventResponse {
+
+    /**
+     * Position of the event in the feed, which orders the events.
+     */
+    private Long position;
+
+    /**
+     * The kind of entity that has been changed.
+     */
+    private AggregateType aggregateType;
+
+    /**
+     * Identifier of the changed entity.
+     */
+    private Long aggregateId;
+
+    /**
+     * The kind of change.
+     */
+    private ChangeType type;
+
+    /**
+     * The date and time of the change.
+     */
+    private Instant occurredAt;
+
+    /**
+     * The state of the entity after the change, in the shape of the task or comment response;
+     * only the changed fields for set-based changes.
+     */
+    @JsonSerialize(using = PayloadSerializer.class)
+    private String payload;
+
+    /**
+     * Writes the stored JSON payload as it is into JSON responses, and converts it token by token
+     * for binary formats such as CBOR, which cannot embed raw JSON text.
+     */
+    static class PayloadSerializer extends JsonSerializer<String> {
+
+        private static final JsonFactory JSON = new JsonFactory();
+
+        @Override
+        public void serialize(String value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            if (!generator.canWriteBinaryNatively()) {
+                generator.writeRawValue(value);
+                return;
+            }
+            try (JsonParser parser = JSON.createParser(value)) {
+                parser.nextToken();
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+}
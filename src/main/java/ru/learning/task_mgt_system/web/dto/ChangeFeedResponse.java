@@ -0,0 +1,32 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a page of the change feed.
+ * The cursor is passed as {@code after} to read the next page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+
+    /**
+     * The events after the requested position, in the order of their positions.
+     */
+    private List<ChangeEventResponse> events;
+
+    /**
+     * Position to read after for the next page; the requested position if there are no new events.
+     */
+    private long nextCursor;
+
+    /**
+     * Whether more events are available right away.
+     */
+    private boolean hasMore;
+}
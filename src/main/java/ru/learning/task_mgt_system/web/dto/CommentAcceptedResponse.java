@@ -0,0 +1,32 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for the acknowledgement of a comment accepted for asynchronous ingestion.
+ * The comment is written to the database later, under the returned ID.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentAcceptedResponse {
+
+    /**
+     * The ID reserved for the comment.
+     */
+    private Long id;
+
+    /**
+     * The ID of the task the comment belongs to.
+     */
+    private Long taskId;
+
+    /**
+     * The time the comment has been accepted.
+     */
+    private Instant acceptedAt;
+}
@@ -41,4 +41,9 @@ public class CommentResponse {
      * The timestamp indicating when the comment was created.
      */
     private Instant createdAt;
+
+    /**
+     * The version of the comment, also sent as the ETag of the comment.
+     */
+    private Long version;
 }
\ No newline at end of file
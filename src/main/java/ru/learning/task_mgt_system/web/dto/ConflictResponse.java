@@ -0,0 +1,25 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for responses to conflicting updates.
+ * Carries the current version of the entity, so the client can reload it and retry.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConflictResponse {
+
+    /**
+     * The error message to be sent to the client.
+     */
+    private String errorMessage;
+
+    /**
+     * The current version of the entity, or {@code null} if it is not known.
+     */
+    private Long currentVersion;
+}
@@ -0,0 +1,34 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of a single ID in a multi-get request.
+ * Items are reported in the order of the request, a missing entity is marked as not found.
+ *
+ * @param <T> the type of the entity DTO.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MultiGetItem<T> {
+
+    /**
+     * Requested identifier.
+     */
+    private Long id;
+
+    /**
+     * Whether an entity with the identifier exists.
+     */
+    private boolean found;
+
+    /**
+     * The entity, {@code null} if it has not been found.
+     */
+    private T value;
+}
@@ -0,0 +1,31 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for responding to a multi-get request.
+ * Contains an item for every requested ID together with the number of found and missing items.
+ *
+ * @param <T> the type of the entity DTO.
+ */
+@Data
+public class MultiGetResponse<T> {
+
+    /**
+     * Results of the IDs, in the order of the request, repeated IDs included.
+     */
+    private List<MultiGetItem<T>> items = new ArrayList<>();
+
+    /**
+     * Number of items that have been found.
+     */
+    private int found;
+
+    /**
+     * Number of items that have not been found.
+     */
+    private int missing;
+}
@@ -0,0 +1,37 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a single item of a bulk task update.
+ * Contains the identifier of the task, its new data and optionally the version the client has read.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBulkUpdateRequest {
+
+    /**
+     * Identifier of the task to update.
+     */
+    @NotNull(message = "Task ID is mandatory")
+    private Long id;
+
+    /**
+     * New data of the task.
+     */
+    @NotNull(message = "Task data is mandatory")
+    @Valid
+    private TaskRequest task;
+
+    /**
+     * Version of the task the client has read, or {@code null} to skip the version check.
+     */
+    private Long version;
+}
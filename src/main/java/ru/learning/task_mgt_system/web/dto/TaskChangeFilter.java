@@ -0,0 +1,39 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+
+/**
+ * DTO for filtering the live stream of task and comment changes.
+ * A change matches if its task matches all specified criteria; comments are matched by their task.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskChangeFilter {
+
+    /**
+     * The ID of the author of the tasks to filter by.
+     */
+    private Long authorId;
+
+    /**
+     * The ID of the assignee of the tasks to filter by.
+     */
+    private Long assigneeId;
+
+    /**
+     * The status of the tasks to filter by.
+     */
+    private Status status;
+
+    /**
+     * The priority of the tasks to filter by.
+     */
+    private Priority priority;
+}
@@ -0,0 +1,36 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the number of tasks of an assignee with a status and a priority.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskCountResponse {
+
+    /**
+     * Identifier of the assignee of the tasks.
+     */
+    private Long assigneeId;
+
+    /**
+     * Status of the tasks.
+     */
+    private String status;
+
+    /**
+     * Priority of the tasks.
+     */
+    private String priority;
+
+    /**
+     * Number of tasks.
+     */
+    private long tasks;
+}
@@ -0,0 +1,52 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import org.springframework.http.MediaType;
+import ru.learning.task_mgt_system.exception.BadRequestException;
+
+import java.text.MessageFormat;
+
+/**
+ * Enumeration of the formats of the task import and export.
+ */
+public enum TaskDataFormat {
+
+    /**
+     * One JSON object per line; imported rows have the fields of {@link TaskImportRecord}.
+     */
+    NDJSON("application/x-ndjson"),
+
+    /**
+     * Comma separated values with a header row naming the columns.
+     */
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    TaskDataFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Determines the format from the content type of a request.
+     *
+     * @param contentType the content type of the request.
+     * @return the matching format.
+     * @throws BadRequestException if the content type is not supported.
+     */
+    public static TaskDataFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (TaskDataFormat format : values()) {
+                if (MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new BadRequestException(MessageFormat.format(
+                "Unsupported content type {0}, expected application/x-ndjson or text/csv.", contentType));
+    }
+}
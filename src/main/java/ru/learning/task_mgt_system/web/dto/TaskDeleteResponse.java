@@ -0,0 +1,20 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for responding to the deletion of the tasks matching a filter.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDeleteResponse {
+
+    /**
+     * Number of tasks that have been deleted together with their comments.
+     * Tasks that the current user is not allowed to delete are not counted.
+     */
+    private long deleted;
+}
@@ -0,0 +1,49 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a line of the task import report.
+ * Error lines carry the row number and the reason, progress and summary lines carry the counters.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskImportEvent {
+
+    /**
+     * Type of the line.
+     */
+    private TaskImportEventType type;
+
+    /**
+     * Number of the skipped row, starting at 1 with the first data row.
+     */
+    private Long row;
+
+    /**
+     * Reason why the row has been skipped.
+     */
+    private String message;
+
+    /**
+     * Number of rows processed so far.
+     */
+    private Long processed;
+
+    /**
+     * Number of tasks imported so far.
+     */
+    private Long imported;
+
+    /**
+     * Number of rows skipped so far.
+     */
+    private Long failed;
+}
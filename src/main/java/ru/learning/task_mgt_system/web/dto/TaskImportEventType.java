@@ -0,0 +1,22 @@
+package ru.learning.task_mgt_system.web.dto;
+
+/**
+ * Enumeration of the lines reported by the task import.
+ */
+public enum TaskImportEventType {
+
+    /**
+     * A chunk of rows has been processed.
+     */
+    PROGRESS,
+
+    /**
+     * A row has been skipped.
+     */
+    ERROR,
+
+    /**
+     * The import has finished, this is the last line.
+     */
+    SUMMARY
+}
@@ -0,0 +1,48 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a single row of a task import.
+ * Contains the fields of {@link TaskRequest}; the assignee may be given by ID or by email address.
+ * The row is validated with the rules of {@link TaskRequest} once the assignee has been resolved.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportRecord {
+
+    /**
+     * Title of the task.
+     */
+    private String title;
+
+    /**
+     * Description of the task.
+     */
+    private String description;
+
+    /**
+     * Status of the task.
+     */
+    private String status;
+
+    /**
+     * Priority of the task.
+     */
+    private String priority;
+
+    /**
+     * Identifier of the assignee, takes precedence over the email address.
+     */
+    private Long assigneeId;
+
+    /**
+     * Email address of the assignee, used when no identifier is given.
+     */
+    private String assigneeEmail;
+}
@@ -0,0 +1,51 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+import ru.learning.task_mgt_system.validation.ValidEnum;
+
+/**
+ * DTO for a partial update of a task.
+ * Contains only the fields to change, fields that are {@code null} are left unchanged.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPatchRequest {
+
+    /**
+     * New title of the task.
+     * Must be between 3 and 50 characters and cannot be blank.
+     */
+    @Size(min = 3, max = 50, message = "Title length must be between {min} and {max} characters!")
+    @Pattern(regexp = ".*\\S.*", message = "Title must not be blank!")
+    private String title;
+
+    /**
+     * New description of the task.
+     * Must be less than or equal to 1000 characters.
+     */
+    @Size(max = 1000, message = "Description length must be less than {max} characters!")
+    private String description;
+
+    /**
+     * New status of the task.
+     * Must be a valid value of {@link Status}.
+     */
+    @ValidEnum(enumClass = Status.class, nullable = true, message = "Invalid status value!")
+    private String status;
+
+    /**
+     * New priority of the task.
+     * Must be a valid value of {@link Priority}.
+     */
+    @ValidEnum(enumClass = Priority.class, nullable = true, message = "Invalid priority value!")
+    private String priority;
+}
@@ -63,6 +63,11 @@ public class TaskResponse {
      */
     private Instant updatedAt;
 
+    /**
+     * Version of the task, also sent as the ETag of the task.
+     */
+    private Long version;
+
     /**
      * Number of comments associated with the task.
      */
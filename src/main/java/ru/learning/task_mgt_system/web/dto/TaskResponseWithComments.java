@@ -63,6 +63,11 @@ public class TaskResponseWithComments {
      */
     private Instant updatedAt;
 
+    /**
+     * Version of the task, also sent at the start of the ETag of the task.
+     */
+    private Long version;
+
     /**
      * List of comments associated with the task.
      */
@@ -0,0 +1,34 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the numbers of tasks per assignee, status and priority.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatisticsResponse {
+
+    /**
+     * Number of tasks of every combination of assignee, status and priority that has any,
+     * ordered by assignee, status and priority.
+     */
+    private List<TaskCountResponse> counts = new ArrayList<>();
+
+    /**
+     * Total number of the counted tasks.
+     */
+    private long total;
+
+    /**
+     * Time the counters have last been reconciled with the database, or {@code null} if they have not been yet.
+     */
+    private Instant reconciledAt;
+}
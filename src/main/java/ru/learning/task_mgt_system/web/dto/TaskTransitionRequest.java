@@ -0,0 +1,47 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+import ru.learning.task_mgt_system.validation.ValidEnum;
+
+import java.util.List;
+
+/**
+ * DTO for changing the status of many tasks at once.
+ * The tasks are selected either by a list of IDs or by a filter, exactly one of them must be specified.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTransitionRequest {
+
+    /**
+     * New status of the tasks.
+     */
+    @NotBlank(message = "Status is mandatory and should not be blank!")
+    @ValidEnum(enumClass = Status.class, message = "Invalid status value!")
+    private String status;
+
+    /**
+     * New priority of the tasks, optional.
+     * If specified, only the tasks authored by the current user are changed.
+     */
+    @ValidEnum(enumClass = Priority.class, nullable = true, message = "Invalid priority value!")
+    private String priority;
+
+    /**
+     * IDs of the tasks to change.
+     */
+    private List<Long> ids;
+
+    /**
+     * Filter selecting the tasks to change. Pagination fields are ignored.
+     */
+    private TaskFilter filter;
+}
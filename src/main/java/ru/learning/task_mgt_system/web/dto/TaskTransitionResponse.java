@@ -0,0 +1,20 @@
+package ru.learning.task_mgt_system.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for responding to a status change of many tasks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTransitionResponse {
+
+    /**
+     * Number of tasks that have been changed.
+     * Tasks that do not exist or that the current user is not allowed to change are not counted.
+     */
+    private long updated;
+}
@@ -0,0 +1,107 @@
+package ru.learning.task_mgt_system.config;
+
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.client.web.OAuth2LoginAuthenticationFilter;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.learning.task_mgt_system.service.TaskService;
+import ru.learning.task_mgt_system.web.controller.TaskController;
+import ru.learning.task_mgt_system.web.dto.TaskListResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for the filter chains configured by {@link SecurityConfig}.
+ * <p>
+ * API requests must be served by the stateless chain: they must not create an HTTP session,
+ * must not pass the OAuth2 login filters and must get 401 instead of a login redirect.
+ * The Swagger UI keeps the session based OAuth2 login.
+ */
+@WebMvcTest(controllers = TaskController.class, properties = {
+        "app.jwk-set-uri=http://localhost:8585/realms/taskmgt/protocol/openid-connect/certs",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration"
+})
+@Import({SecurityConfig.class, SecurityConfigTest.ClientRegistrations.class})
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @MockBean
+    private TaskService taskService;
+
+    @Test
+    void apiRequest_ShouldNotCreateSession() throws Exception {
+        when(taskService.getAll(0, 10)).thenReturn(new TaskListResponse());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false));
+    }
+
+    @Test
+    void apiRequestWithoutToken_ShouldReturnUnauthorizedWithoutSession() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false));  // The request is not saved for a login redirect
+    }
+
+    @Test
+    void swaggerRequestWithoutLogin_ShouldRedirectToLogin() throws Exception {
+        mockMvc.perform(get("/swagger-ui/index.html"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    void apiChain_ShouldSkipLoginFilters() {
+        List<Filter> apiFilters = filterChainProxy.getFilters("/api/v1/tasks");
+        List<Filter> loginFilters = filterChainProxy.getFilters("/swagger-ui/index.html");
+
+        assertTrue(apiFilters.size() < loginFilters.size());
+        assertTrue(apiFilters.stream().noneMatch(OAuth2LoginAuthenticationFilter.class::isInstance));
+        assertTrue(loginFilters.stream().anyMatch(OAuth2LoginAuthenticationFilter.class::isInstance));
+    }
+
+    /**
+     * Static client registration, so the tests do not need the Keycloak discovery endpoint.
+     */
+    @TestConfiguration
+    static class ClientRegistrations {
+
+        @Bean
+        ClientRegistrationRepository clientRegistrationRepository() {
+            return new InMemoryClientRegistrationRepository(ClientRegistration.withRegistrationId("keycloak")
+                    .clientId("task-mgt-system")
+                    .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                    .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                    .authorizationUri("http://localhost:8585/realms/taskmgt/protocol/openid-connect/auth")
+                    .tokenUri("http://localhost:8585/realms/taskmgt/protocol/openid-connect/token")
+                    .build());
+        }
+    }
+}
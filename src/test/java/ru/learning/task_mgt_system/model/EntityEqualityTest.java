@@ -0,0 +1,125 @@
+package ru.learning.task_mgt_system.model;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the id-based equality of the entities against an in-memory database.
+ * <p>
+ * Entities are equal if they are of the same entity class and have the same ID. Comparing them must not load
+ * any association, and the hash code must not change when the ID is assigned.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class EntityEqualityTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User author;
+    private Task task;
+    private Comment comment;
+
+    /**
+     * Persists an author with a task and a comment, detaches them and resets the statement statistics.
+     */
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder().email("author@mail.ru").fullName("Task Author").build());
+        task = entityManager.persist(Task.builder()
+                .title("Test Task")
+                .description("Test Description")
+                .status(Status.PENDING)
+                .priority(Priority.HIGH)
+                .author(author)
+                .assignee(author)
+                .build());
+        comment = entityManager.persist(Comment.builder().text("Test Comment").author(author).task(task).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void equals_ShouldCompareById() {
+        User loaded = entityManager.find(User.class, author.getId());
+        Task loadedTask = entityManager.find(Task.class, task.getId());
+        Comment loadedComment = entityManager.find(Comment.class, comment.getId());
+
+        assertEquals(author, loaded);
+        assertEquals(task, loadedTask);
+        assertEquals(comment, loadedComment);
+        assertNotEquals(author, User.builder().id(author.getId() + 1).build());
+        assertNotEquals(new User(), new User());  // Transient entities are only equal to themselves
+    }
+
+    @Test
+    void equals_ShouldNotLoadAssociations() {
+        User loaded = entityManager.find(User.class, author.getId());
+        Task loadedTask = entityManager.find(Task.class, task.getId());
+        statistics.clear();
+
+        assertEquals(author, loaded);
+        assertEquals(task, loadedTask);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertFalse(Hibernate.isInitialized(loaded.getAuthoredTasks()));
+        assertFalse(Hibernate.isInitialized(loadedTask.getComments()));
+    }
+
+    @Test
+    void equals_ShouldNotInitializeProxyArgument() {
+        User reference = entityManager.getEntityManager().getReference(User.class, author.getId());
+
+        assertTrue(author.equals(reference));
+        assertFalse(Hibernate.isInitialized(reference));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void hashCode_ShouldInitializeProxy() {
+        User reference = entityManager.getEntityManager().getReference(User.class, author.getId());
+
+        assertEquals(author.hashCode(), reference.hashCode());
+        assertTrue(Hibernate.isInitialized(reference));  // Overridden methods are forwarded to the loaded entity
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void hashCode_ShouldNotChangeOnPersist() {
+        Task transientTask = Task.builder()
+                .title("Other Task")
+                .description("Other Description")
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .author(entityManager.find(User.class, author.getId()))
+                .build();
+        Set<Task> tasks = new HashSet<>(Set.of(transientTask));
+
+        entityManager.persistAndFlush(transientTask);
+
+        assertNotNull(transientTask.getId());
+        assertTrue(tasks.contains(transientTask));
+    }
+}
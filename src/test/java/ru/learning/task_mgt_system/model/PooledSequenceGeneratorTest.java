@@ -0,0 +1,79 @@
+package ru.learning.task_mgt_system.model;
+
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.learning.task_mgt_system.repository.CommentRepository;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the identifiers assigned by {@link PooledSequenceGenerator} against an in-memory database.
+ * <p>
+ * Only entities that opt in with {@link PooledSequence#reservedIds()} may be persisted with an identifier
+ * reserved in advance; any other identifier set by the caller is rejected.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class PooledSequenceGeneratorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User author;
+    private Task task;
+
+    /**
+     * Persists an author with a task.
+     */
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder().email("author@mail.ru").fullName("Task Author").build());
+        task = entityManager.persist(task());
+    }
+
+    @Test
+    void persist_ShouldKeepReservedCommentId() {
+        Long reservedId = commentRepository.reserveId();
+
+        Comment comment = commentRepository.saveAndFlush(Comment.builder().id(reservedId).text("Comment").author(author).task(task).build());
+
+        assertEquals(reservedId, comment.getId());
+    }
+
+    @Test
+    void persist_ShouldRejectAssignedIds() {
+        Task assignedTask = task();
+        assignedTask.setId(taskRepository.reserveIds(1).get(0));
+        User assignedUser = User.builder().id(author.getId() + 1).email("other@mail.ru").fullName("Other User").build();
+
+        assertThrows(PersistenceException.class, () -> entityManager.persist(assignedTask));
+        assertThrows(PersistenceException.class, () -> entityManager.persist(assignedUser));
+    }
+
+    @Test
+    void persist_ShouldGenerateIdsWithoutAssignedOne() {
+        Task generated = entityManager.persist(task());
+
+        assertNotNull(generated.getId());
+        assertNotEquals(task.getId(), generated.getId());
+    }
+
+    private Task task() {
+        return Task.builder()
+                .title("Test Task")
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .author(author)
+                .build();
+    }
+}
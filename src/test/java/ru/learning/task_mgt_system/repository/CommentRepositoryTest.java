@@ -0,0 +1,59 @@
+package ru.learning.task_mgt_system.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.learning.task_mgt_system.model.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reading the latest comments of many tasks against an in-memory database.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class CommentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void findLatestByTaskIds_ShouldReadLatestCommentsOfEveryTask() {
+        User author = entityManager.persist(User.builder().email("author@mail.ru").fullName("Task Author").build());
+        Task first = entityManager.persist(task("First", author));
+        Task second = entityManager.persist(task("Second", author));
+        Task other = entityManager.persist(task("Other", author));
+        Comment oldest = entityManager.persist(comment("1", first, author));
+        Comment older = entityManager.persist(comment("2", first, author));
+        Comment newest = entityManager.persist(comment("3", first, author));
+        Comment only = entityManager.persist(comment("4", second, author));
+        entityManager.persist(comment("5", other, author));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> ids = commentRepository.findLatestByTaskIds(List.of(first.getId(), second.getId()), 2).stream()
+                .map(Comment::getId)
+                .toList();
+
+        assertEquals(List.of(newest.getId(), older.getId(), only.getId()), ids);
+        assertFalse(ids.contains(oldest.getId()));
+    }
+
+    private Task task(String title, User author) {
+        return Task.builder()
+                .title(title)
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .author(author)
+                .build();
+    }
+
+    private Comment comment(String text, Task task, User author) {
+        return Comment.builder().text(text).author(author).task(task).build();
+    }
+}
@@ -0,0 +1,102 @@
+package ru.learning.task_mgt_system.repository;
+
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import ru.learning.task_mgt_system.model.*;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reading selected fields of tasks and users against an in-memory database.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class ProjectionQueriesTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void findFields_ShouldReadOnlySelectedTaskFields() {
+        User author = entityManager.persist(User.builder().email("author@mail.ru").fullName("Task Author").build());
+        Task task = entityManager.persist(task("First", author));
+        entityManager.persist(task("Second", author));
+        entityManager.persist(Comment.builder().text("Comment").author(author).task(task).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskFilter filter = TaskFilter.builder().authorId(author.getId()).build();
+        Page<Tuple> page = taskRepository.findFields(TaskSpecification.withFilter(filter),
+                List.of("id", "status", "comments"), PageRequest.of(0, 1));
+
+        assertEquals(2, page.getTotalElements());
+        Tuple first = page.getContent().get(0);
+        assertEquals(3, first.getElements().size());
+        assertEquals(task.getId(), first.get("id"));
+        assertEquals(Status.PENDING, first.get("status"));
+        assertEquals(1L, first.get("comments"));
+    }
+
+    @Test
+    void findFields_ShouldCountTasksOfUsersOnlyIfSelected() {
+        User author = entityManager.persist(User.builder().email("author@mail.ru").fullName("Task Author").build());
+        entityManager.persist(task("First", author));
+        entityManager.flush();
+        entityManager.clear();
+
+        Tuple withCount = userRepository.findFields(List.of("fullName", "authoredTasks"), PageRequest.of(0, 10))
+                .getContent().get(0);
+        Tuple withoutCount = userRepository.findFields(List.of("fullName"), PageRequest.of(0, 10))
+                .getContent().get(0);
+
+        assertEquals(1L, withCount.get("authoredTasks"));
+        assertEquals(1, withoutCount.getElements().size());
+        assertEquals("Task Author", withoutCount.get("fullName"));
+    }
+
+    @Test
+    void findAllFields_ShouldCountTasksOfEveryUserOfPage() {
+        User author = entityManager.persist(User.builder().email("author@mail.ru").fullName("Task Author").build());
+        User assignee = entityManager.persist(User.builder().email("assignee@mail.ru").fullName("Task Assignee").build());
+        Task assigned = task("First", author);
+        assigned.setAssignee(assignee);
+        entityManager.persist(assigned);
+        entityManager.persist(task("Second", author));
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<Tuple> page = userRepository.findAllFields(PageRequest.of(0, 10));
+
+        assertEquals(2, page.getTotalElements());
+        Tuple first = page.getContent().get(0);
+        Tuple second = page.getContent().get(1);
+        assertEquals(5, first.getElements().size());
+        assertEquals(author.getId(), first.get("id"));
+        assertEquals(2L, first.get("authoredTasks"));
+        assertEquals(0L, first.get("assignedTasks"));
+        assertEquals(0L, second.get("authoredTasks"));
+        assertEquals(1L, second.get("assignedTasks"));
+    }
+
+    private Task task(String title, User author) {
+        return Task.builder()
+                .title(title)
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .author(author)
+                .build();
+    }
+}
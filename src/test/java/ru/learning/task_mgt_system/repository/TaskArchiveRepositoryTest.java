@@ -0,0 +1,67 @@
+package ru.learning.task_mgt_system.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import ru.learning.task_mgt_system.model.*;
+import ru.learning.task_mgt_system.web.dto.TaskFilter;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for moving tasks into the archive tables against an in-memory database.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TaskArchiveRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Test
+    void moveToArchive_ShouldMoveTaskWithComments() {
+        User author = entityManager.persist(User.builder().email("author@mail.ru").fullName("Task Author").build());
+        Task task = entityManager.persist(Task.builder()
+                .title("Done Task")
+                .description("Test Description")
+                .status(Status.COMPLETED)
+                .priority(Priority.LOW)
+                .author(author)
+                .assignee(author)
+                .build());
+        entityManager.persist(Comment.builder().text("First").author(author).task(task).build());
+        entityManager.persist(Comment.builder().text("Second").author(author).task(task).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        int moved = taskRepository.moveToArchive(List.of(task.getId()), Instant.now());
+        entityManager.clear();
+
+        assertEquals(1, moved);
+        assertFalse(taskRepository.existsById(task.getId()));
+        assertEquals(0, commentRepository.count());  // Deleted by the cascading foreign key
+
+        ArchivedTask archived = archivedTaskRepository.findById(task.getId()).orElseThrow();
+        assertEquals("Done Task", archived.getTitle());
+        assertEquals(Status.COMPLETED, archived.getStatus());
+        assertEquals(2L, archived.getCommentCount());
+        assertNotNull(archived.getArchivedAt());
+
+        TaskFilter filter = TaskFilter.builder().authorId(author.getId()).build();
+        assertEquals(1, archivedTaskRepository.findAll(TaskSpecification.archivedWithFilter(filter),
+                PageRequest.of(0, 10)).getTotalElements());
+    }
+}
@@ -0,0 +1,155 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.exception.BadRequestException;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
+import ru.learning.task_mgt_system.model.mapper.ChangeEventMapper;
+import ru.learning.task_mgt_system.properties.OutboxProperties;
+import ru.learning.task_mgt_system.repository.OutboxEventRepository;
+import ru.learning.task_mgt_system.web.dto.ChangeEventResponse;
+import ru.learning.task_mgt_system.web.dto.ChangeFeedResponse;
+import ru.learning.task_mgt_system.web.dto.TaskResponse;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the outbox and the change feed against an in-memory database.
+ * <p>
+ * The events are written by {@link OutboxServiceImpl}, published by the relay of {@link ChangeFeedServiceImpl}
+ * and read back through its cursor API. Every test runs in one transaction, which the relay joins.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class ChangeFeedServiceImplTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+
+    private OutboxServiceImpl outboxService;
+    private ChangeFeedServiceImpl changeFeedService;
+
+    /**
+     * Creates the services on top of the repository of the in-memory database.
+     */
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxEventRepository, jdbcTemplate, new ObjectMapper());
+        changeFeedService = relay(outboxEventRepository);
+    }
+
+    @Test
+    void publish_ShouldNumberCommittedEventsAfterLastPosition() {
+        outboxService.recordAll(AggregateType.TASK, List.of(1L, 2L), ChangeType.CREATED, null);
+        assertEquals(2, changeFeedService.publish());
+        outboxService.record(AggregateType.COMMENT, 3L, ChangeType.UPDATED, null);
+
+        assertEquals(1, changeFeedService.publish());
+        assertEquals(0, changeFeedService.publish());
+
+        List<ChangeEventResponse> events = changeFeedService.read(0, 10).getEvents();
+        assertEquals(List.of(1L, 2L, 3L), events.stream().map(ChangeEventResponse::getPosition).toList());
+        assertEquals(List.of(1L, 2L, 3L), events.stream().map(ChangeEventResponse::getAggregateId).toList());
+        assertEquals(3L, changeFeedService.currentPosition());
+    }
+
+    @Test
+    void publish_ShouldPlaceLateCommitAfterPassedPosition() {
+        // A transaction reserves its ID first, but commits after another one has been published
+        Long lateId = outboxEventRepository.reserveIds(1).get(0);
+        outboxService.record(AggregateType.TASK, 2L, ChangeType.CREATED, null);
+        changeFeedService.publish();
+        ChangeFeedResponse first = changeFeedService.read(0, 10);
+
+        insertEvent(lateId, 1L);
+        changeFeedService.publish();
+
+        ChangeFeedResponse next = changeFeedService.read(first.getNextCursor(), 10);
+        assertEquals(List.of(2L), first.getEvents().stream().map(ChangeEventResponse::getAggregateId).toList());
+        assertEquals(List.of(1L), next.getEvents().stream().map(ChangeEventResponse::getAggregateId).toList());
+        assertEquals(2L, next.getNextCursor());
+    }
+
+    @Test
+    void read_ShouldPageWithCursor() {
+        outboxService.recordAll(AggregateType.TASK, List.of(1L, 2L, 3L), ChangeType.DELETED, null);
+        changeFeedService.publish();
+
+        ChangeFeedResponse first = changeFeedService.read(0, 2);
+        ChangeFeedResponse second = changeFeedService.read(first.getNextCursor(), 2);
+        ChangeFeedResponse last = changeFeedService.read(second.getNextCursor(), 2);
+
+        assertEquals(2, first.getEvents().size());
+        assertTrue(first.isHasMore());
+        assertEquals(2L, first.getNextCursor());
+        assertEquals(List.of(3L), second.getEvents().stream().map(ChangeEventResponse::getPosition).toList());
+        assertFalse(second.isHasMore());
+        assertEquals(List.of(), last.getEvents());
+        assertEquals(3L, last.getNextCursor());  // An empty page keeps the cursor
+        assertFalse(last.isHasMore());
+    }
+
+    @Test
+    void read_ShouldRejectInvalidCursorOrLimit() {
+        assertThrows(BadRequestException.class, () -> changeFeedService.read(-1, 10));
+        assertThrows(BadRequestException.class, () -> changeFeedService.read(0, 0));
+        assertThrows(BadRequestException.class, () -> changeFeedService.read(0, outboxProperties.getMaxPageSize() + 1));
+    }
+
+    @Test
+    void recordAll_ShouldMergeChangedFieldsIntoPayload() {
+        outboxService.recordAll(AggregateType.TASK, List.of(7L), ChangeType.UPDATED,
+                TaskResponse.builder().status("COMPLETED").build());
+        changeFeedService.publish();
+
+        ChangeEventResponse event = changeFeedService.read(0, 10).getEvents().get(0);
+        assertEquals(7L, event.getAggregateId());
+        assertEquals(ChangeType.UPDATED, event.getType());
+        assertEquals("{\"id\":7,\"status\":\"COMPLETED\"}", event.getPayload());  // Without the null fields
+    }
+
+    @Test
+    void publish_ShouldFailOnPositionTakenConcurrently() {
+        outboxService.record(AggregateType.TASK, 1L, ChangeType.CREATED, null);
+        changeFeedService.publish();
+        outboxService.record(AggregateType.TASK, 2L, ChangeType.CREATED, null);
+
+        // A relay that has read the last position before the other one published
+        OutboxEventRepository staleRepository = mock(OutboxEventRepository.class, delegatesTo(outboxEventRepository));
+        doReturn(0L).when(staleRepository).findLastPosition();
+
+        assertThrows(DataIntegrityViolationException.class, () -> relay(staleRepository).publish());
+    }
+
+    private ChangeFeedServiceImpl relay(OutboxEventRepository repository) {
+        return new ChangeFeedServiceImpl(repository, Mappers.getMapper(ChangeEventMapper.class),
+                new TransactionTemplate(transactionManager), outboxProperties);
+    }
+
+    private void insertEvent(Long id, Long aggregateId) {
+        jdbcTemplate.update("insert into outbox_events (id, aggregate_type, aggregate_id, type, created_at) values (?, ?, ?, ?, ?)",
+                id, AggregateType.TASK.name(), aggregateId, ChangeType.CREATED.name(), Timestamp.from(Instant.now()));
+    }
+}
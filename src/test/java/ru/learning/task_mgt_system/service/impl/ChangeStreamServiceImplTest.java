@@ -0,0 +1,236 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.learning.task_mgt_system.model.AggregateType;
+import ru.learning.task_mgt_system.model.ChangeType;
+import ru.learning.task_mgt_system.properties.ChangeStreamProperties;
+import ru.learning.task_mgt_system.properties.OutboxProperties;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.service.ChangeFeedService;
+import ru.learning.task_mgt_system.web.dto.ChangeEventResponse;
+import ru.learning.task_mgt_system.web.dto.ChangeFeedResponse;
+import ru.learning.task_mgt_system.web.dto.TaskChangeFilter;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ChangeStreamServiceImpl} and {@link ChangeStreamSubscriber} classes.
+ * <p>
+ * The senders run on an executor that queues the submitted tasks until the test runs them, so the interleaving
+ * of the catch-up, the dispatched events and the drains is controlled by the test. The emitters record the IDs
+ * of the events they send; the change feed and the repository are mocked.
+ */
+class ChangeStreamServiceImplTest {
+
+    private final ChangeFeedService changeFeedService = mock(ChangeFeedService.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ChangeStreamProperties properties = new ChangeStreamProperties();
+    private final ManualExecutor executor = new ManualExecutor();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private ChangeStreamServiceImpl changeStreamService;
+
+    /**
+     * Creates the service with emitters that record the events sent to them.
+     */
+    @BeforeEach
+    void setUp() {
+        changeStreamService = new ChangeStreamServiceImpl(changeFeedService, taskRepository, new ObjectMapper(),
+                executor, properties, new OutboxProperties()) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        when(taskRepository.findAttributesByIds(anyCollection())).thenReturn(List.of());
+    }
+
+    /**
+     * Tests that the events are written in the order they were offered and that a connection has at most one
+     * drain scheduled at a time.
+     */
+    @Test
+    void offer_WritesInOrderWithSingleDrainer() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeStreamSubscriber subscriber = new ChangeStreamSubscriber(emitter, new TaskChangeFilter(), 0, 10, executor);
+
+        subscriber.start(() -> {
+        });
+        subscriber.offer(event(1));
+        subscriber.offer(event(2));
+        assertEquals(1, executor.pending());  // The events wait for the drain after the catch-up
+        executor.runAll();
+
+        subscriber.offer(event(3));
+        subscriber.offer(event(4));
+        assertEquals(1, executor.pending());
+        executor.runAll();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), emitter.sent);
+        assertTrue(subscriber.isOpen());
+    }
+
+    /**
+     * Tests that a connection whose buffer overflows is closed, while another connection keeps its events.
+     */
+    @Test
+    void offer_OverflowClosesOnlyThatConnection() {
+        RecordingEmitter slowEmitter = new RecordingEmitter();
+        RecordingEmitter otherEmitter = new RecordingEmitter();
+        ChangeStreamSubscriber slow = new ChangeStreamSubscriber(slowEmitter, new TaskChangeFilter(), 0, 2, executor);
+        ChangeStreamSubscriber other = new ChangeStreamSubscriber(otherEmitter, new TaskChangeFilter(), 0, 2, executor);
+        slow.start(() -> {
+        });
+        other.start(() -> {
+        });
+
+        slow.offer(event(1));
+        slow.offer(event(2));
+        slow.offer(event(3));
+        other.offer(event(1));
+        other.offer(event(2));
+        executor.runAll();
+
+        assertFalse(slow.isOpen());
+        assertTrue(slowEmitter.completed);
+        assertEquals(List.of(), slowEmitter.sent);
+        assertTrue(other.isOpen());
+        assertFalse(otherEmitter.completed);
+        assertEquals(List.of(1L, 2L), otherEmitter.sent);
+    }
+
+    /**
+     * Tests that a connection resuming with a last event ID first gets the missed events from the feed,
+     * then the new ones.
+     */
+    @Test
+    void subscribe_ResumesFromLastEventId() {
+        when(changeFeedService.currentPosition()).thenReturn(3L);
+        when(changeFeedService.read(eq(1L), anyInt())).thenReturn(page(3, false, 2, 3));
+        when(changeFeedService.read(eq(3L), anyInt())).thenReturn(page(4, false, 4));
+
+        changeStreamService.subscribe(new TaskChangeFilter(), 1L);
+        executor.runAll();
+        changeStreamService.dispatchOnSchedule();
+        executor.runAll();
+
+        assertEquals(List.of(2L, 3L, 4L), emitters.get(0).sent);
+    }
+
+    /**
+     * Tests that the events dispatched while a resuming connection catches up are sent once, after the missed
+     * ones, although the feed read by the catch-up already holds them.
+     */
+    @Test
+    void subscribe_CatchUpOverlappingLiveEventsSendsEachOnce() {
+        when(changeFeedService.currentPosition()).thenReturn(3L);
+        when(changeFeedService.read(eq(1L), anyInt())).thenReturn(page(5, false, 2, 3, 4, 5));
+        when(changeFeedService.read(eq(3L), anyInt())).thenReturn(page(5, false, 4, 5));
+
+        changeStreamService.subscribe(new TaskChangeFilter(), 1L);
+        changeStreamService.dispatchOnSchedule();  // Buffered before the catch-up runs
+        executor.runAll();
+
+        assertEquals(List.of(2L, 3L, 4L, 5L), emitters.get(0).sent);
+    }
+
+    /**
+     * Tests that a new connection without a last event ID only gets the events after its registration.
+     */
+    @Test
+    void subscribe_WithoutLastEventIdStartsAtCurrentPosition() {
+        when(changeFeedService.currentPosition()).thenReturn(3L);
+        when(changeFeedService.read(eq(3L), anyInt())).thenReturn(page(4, false, 4));
+
+        changeStreamService.subscribe(new TaskChangeFilter(), null);
+        changeStreamService.dispatchOnSchedule();
+        executor.runAll();
+
+        assertEquals(List.of(4L), emitters.get(0).sent);
+        verify(changeFeedService, never()).read(longThat(after -> after < 3), anyInt());
+    }
+
+    private static ChangeFeedResponse page(long nextCursor, boolean hasMore, long... positions) {
+        return new ChangeFeedResponse(Arrays.stream(positions).mapToObj(ChangeStreamServiceImplTest::event).toList(),
+                nextCursor, hasMore);
+    }
+
+    private static ChangeEventResponse event(long position) {
+        return ChangeEventResponse.builder()
+                .position(position)
+                .aggregateType(AggregateType.TASK)
+                .aggregateId(position)
+                .type(ChangeType.UPDATED)
+                .build();
+    }
+
+    /**
+     * Executor that queues the tasks until they are run by the test.
+     */
+    private static class ManualExecutor extends ThreadPoolTaskExecutor {
+
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+
+    /**
+     * Emitter that records the IDs of the events sent and whether it has been completed.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+        private final List<Long> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(data -> text.append(data.getData()));
+            Matcher matcher = ID.matcher(text);
+            if (matcher.find()) {
+                sent.add(Long.valueOf(matcher.group(1)));
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.properties.CommentIngestionProperties;
+import ru.learning.task_mgt_system.repository.CommentRepository;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.repository.UserRepository;
+import ru.learning.task_mgt_system.service.OutboxService;
+import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.web.dto.CommentAcceptedResponse;
+import ru.learning.task_mgt_system.web.dto.CommentRequest;
+import ru.learning.task_mgt_system.web.dto.UserInfo;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link CommentIngestionServiceImpl} class.
+ * <p>
+ * The writer thread is started for every test, the repositories and the transaction template are mocked.
+ */
+class CommentIngestionServiceImplTest {
+
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final CommentIngestionProperties properties = new CommentIngestionProperties();
+
+    private CommentIngestionServiceImpl ingestionService;
+
+    /**
+     * Stubs a registered user, an existing task and a transaction template that runs the callbacks directly.
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        AtomicLong ids = new AtomicLong(100);
+        when(commentRepository.reserveId()).thenAnswer(invocation -> ids.incrementAndGet());
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("author@mail.ru", "Task", "Author")));
+        when(userService.getIdByEmail("author@mail.ru")).thenReturn(Optional.of(2L));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (ingestionService != null) {
+            ingestionService.stop();
+        }
+    }
+
+    /**
+     * Tests that accepted comments are acknowledged with their reserved IDs and written as one batch
+     * once the batch is full.
+     */
+    @Test
+    void accept_WritesFullBatch() {
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        start();
+
+        CommentAcceptedResponse first = ingestionService.accept(new CommentRequest("First", 1L));
+        ingestionService.accept(new CommentRequest("Second", 1L));
+        ingestionService.accept(new CommentRequest("Third", 1L));
+
+        assertEquals(101L, first.getId());
+        assertEquals(1L, first.getTaskId());
+        verify(commentRepository, timeout(1000)).saveAll(argThat(comments -> sizeOf(comments) == 3));
+        verify(userService, never()).createOrRetrieveUser();
+    }
+
+    /**
+     * Tests that a comment for a missing task is rejected without reserving an ID.
+     */
+    @Test
+    void accept_TaskNotFound() {
+        start();
+        CommentRequest request = new CommentRequest("Comment", 5L);
+
+        assertThrows(EntityNotFoundException.class, () -> ingestionService.accept(request));
+        verify(commentRepository, never()).reserveId();
+    }
+
+    /**
+     * Tests the backpressure: while the writer is busy and the queue is full, new comments are rejected.
+     */
+    @Test
+    void accept_QueueFull() throws InterruptedException {
+        properties.setQueueCapacity(1);
+        properties.setBatchSize(1);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(commentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return List.of();
+        });
+        start();
+
+        ingestionService.accept(new CommentRequest("Being written", 1L));
+        assertTrue(writing.await(1, TimeUnit.SECONDS));
+        ingestionService.accept(new CommentRequest("Queued", 1L));
+        CommentRequest rejected = new CommentRequest("Rejected", 1L);
+
+        assertThrows(ServiceUnavailableException.class, () -> ingestionService.accept(rejected));
+        release.countDown();
+    }
+
+    /**
+     * Tests that the buffered comments are written on shutdown and no comment is accepted afterwards.
+     */
+    @Test
+    void stop_WritesBufferedComments() {
+        properties.setBatchSize(10);
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        start();
+
+        ingestionService.accept(new CommentRequest("Buffered", 1L));
+        ingestionService.stop();
+
+        verify(commentRepository).saveAll(argThat(comments -> sizeOf(comments) == 1));
+        CommentRequest late = new CommentRequest("Late", 1L);
+        assertThrows(ServiceUnavailableException.class, () -> ingestionService.accept(late));
+    }
+
+    private void start() {
+        ingestionService = new CommentIngestionServiceImpl(commentRepository, taskRepository, userRepository,
+                userService, transactionTemplate, mock(CacheManager.class), properties, mock(OutboxService.class));
+        ingestionService.start();
+    }
+
+    private static int sizeOf(Iterable<?> comments) {
+        int size = 0;
+        for (Object ignored : comments) {
+            size++;
+        }
+        return size;
+    }
+}
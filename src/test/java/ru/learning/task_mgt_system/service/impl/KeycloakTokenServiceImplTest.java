@@ -0,0 +1,108 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.properties.TokenClientProperties;
+import ru.learning.task_mgt_system.web.dto.UserRequest;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link KeycloakTokenServiceImpl} class.
+ * <p>
+ * The token requests run on an executor that queues them until the test runs them, so a request can be kept
+ * in flight while the bulkhead is checked. The authorization server is mocked.
+ */
+class KeycloakTokenServiceImplTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenClientProperties properties = new TokenClientProperties();
+
+    /**
+     * Tests that a request is rejected at once while the bulkhead is full, and accepted again once
+     * the request in flight has completed.
+     */
+    @Test
+    void requestToken_RejectsAtOnceWhenBulkheadIsFull() {
+        properties.setMaxConcurrentRequests(1);
+        ManualExecutor executor = new ManualExecutor();
+        KeycloakTokenServiceImpl tokenService = new KeycloakTokenServiceImpl(restTemplate, executor, meterRegistry, properties);
+        ReflectionTestUtils.setField(tokenService, "resourceServerUrl", "http://localhost/token");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(ResponseEntity.ok("token"));
+
+        CompletableFuture<String> inFlight = tokenService.requestToken(userRequest());
+
+        assertTimeoutPreemptively(Duration.ofMillis(100), () ->
+                assertThrows(ServiceUnavailableException.class, () -> tokenService.requestToken(userRequest())));
+        assertEquals(1, meterRegistry.counter("auth.token.rejected").count());
+
+        executor.runAll();
+        assertEquals("token", inFlight.join());
+        assertEquals(1, meterRegistry.get("auth.token.bulkhead.available").gauge().value());
+        assertNotNull(tokenService.requestToken(userRequest()));
+    }
+
+    /**
+     * Tests that a request rejected by the executor is reported as unavailable and frees its bulkhead slot.
+     */
+    @Test
+    void requestToken_ExecutorRejectionReleasesSlot() {
+        properties.setMaxConcurrentRequests(2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                throw new RejectedExecutionException("Queue is full");
+            }
+        };
+        KeycloakTokenServiceImpl tokenService = new KeycloakTokenServiceImpl(restTemplate, executor, meterRegistry, properties);
+
+        assertThrows(ServiceUnavailableException.class, () -> tokenService.requestToken(userRequest()));
+        assertEquals(2, meterRegistry.get("auth.token.bulkhead.available").gauge().value());
+        assertEquals(1, meterRegistry.counter("auth.token.rejected").count());
+        verifyNoInteractions(restTemplate);
+    }
+
+    private static UserRequest userRequest() {
+        UserRequest userRequest = new UserRequest();
+        userRequest.setEmail("user@mail.ru");
+        userRequest.setPassword("password");
+        return userRequest;
+    }
+
+    /**
+     * Executor that queues the tasks until they are run by the test.
+     */
+    private static class ManualExecutor extends ThreadPoolTaskExecutor {
+
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+}
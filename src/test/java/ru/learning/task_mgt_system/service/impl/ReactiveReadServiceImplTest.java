@@ -0,0 +1,97 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.exception.ServiceUnavailableException;
+import ru.learning.task_mgt_system.model.mapper.CommentMapper;
+import ru.learning.task_mgt_system.model.mapper.TaskMapper;
+import ru.learning.task_mgt_system.model.mapper.UserMapper;
+import ru.learning.task_mgt_system.properties.ReactiveProperties;
+import ru.learning.task_mgt_system.repository.ReactiveReadRepository;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.TaskResponse;
+import ru.learning.task_mgt_system.web.dto.TaskResponseWithComments;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ReactiveReadServiceImpl} class.
+ * <p>
+ * The repository is mocked and returns DTOs directly; the mappers combine them with their real default methods.
+ */
+class ReactiveReadServiceImplTest {
+
+    private final ReactiveReadRepository repository = mock(ReactiveReadRepository.class);
+    private final ReactiveProperties properties = new ReactiveProperties();
+    private final ReactiveReadServiceImpl service = new ReactiveReadServiceImpl(repository,
+            mock(TaskMapper.class, CALLS_REAL_METHODS), mock(CommentMapper.class), mock(UserMapper.class), properties);
+
+    /**
+     * Tests that a task is returned together with all of its comments.
+     */
+    @Test
+    void getTaskById_CombinesTaskWithComments() {
+        CommentResponse comment = CommentResponse.builder().id(5L).taskId(1L).text("Comment").build();
+        when(repository.<TaskResponse>findTaskById(eq(1L), any()))
+                .thenReturn(Mono.just(TaskResponse.builder().id(1L).title("Task").comments(1L).build()));
+        when(repository.<CommentResponse>findCommentsByTaskId(eq(1L), any(), any())).thenReturn(Flux.just(comment));
+
+        TaskResponseWithComments response = service.getTaskById(1L).block();
+
+        assertNotNull(response);
+        assertEquals("Task", response.getTitle());
+        assertEquals(List.of(comment), response.getComments());
+    }
+
+    /**
+     * Tests that a missing task ends the result with an {@link EntityNotFoundException}
+     * and its comments are not read.
+     */
+    @Test
+    void getTaskById_TaskNotFound() {
+        when(repository.<TaskResponse>findTaskById(eq(1L), any())).thenReturn(Mono.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> service.getTaskById(1L).block());
+        verify(repository, never()).findCommentsByTaskId(anyLong(), any(), any());
+    }
+
+    /**
+     * Tests that a list subscribed to while the maximum number of lists is streamed is rejected,
+     * and that the place is freed when a stream completes.
+     */
+    @Test
+    void getAllTasks_RejectsStreamsBeyondLimit() {
+        properties.setMaxStreams(1);
+        Sinks.Many<TaskResponse> open = Sinks.many().unicast().onBackpressureBuffer();
+        when(repository.<TaskResponse>findTasks(isNull(), any(), any())).thenReturn(open.asFlux(), Flux.empty(), Flux.empty());
+
+        service.getAllTasks(0, 10).subscribe();
+
+        Flux<TaskResponse> rejected = service.getAllTasks(0, 10);
+        assertThrows(ServiceUnavailableException.class, rejected::blockLast);
+
+        open.tryEmitComplete();
+        assertEquals(List.of(), service.getAllTasks(0, 10).collectList().block());
+    }
+
+    /**
+     * Tests that a list that is never subscribed to does not hold a place.
+     */
+    @Test
+    void getAllTasks_UnsubscribedListHoldsNoPlace() {
+        properties.setMaxStreams(1);
+        when(repository.<TaskResponse>findTasks(isNull(), any(), any())).thenReturn(Flux.empty());
+
+        service.getAllTasks(0, 10);
+        service.getAllTasks(0, 10);
+
+        assertEquals(List.of(), service.getAllTasks(0, 10).collectList().block());
+    }
+}
@@ -0,0 +1,84 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import ru.learning.task_mgt_system.web.dto.CommentResponse;
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+import ru.learning.task_mgt_system.web.dto.TaskResponseWithComments;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the {@link TaskExportWriter} class.
+ */
+class TaskExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csv_ShouldQuoteFields() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TaskExportWriter writer = TaskExportWriter.of(TaskDataFormat.CSV, output, objectMapper, false);
+
+        writer.write(task("Title, with comma", "Says \"hi\"\nand more", List.of()));
+        writer.flush();
+
+        assertEquals("id,title,description,status,priority,authorId,assigneeId,createdAt,updatedAt,version\r\n" +
+                "1,\"Title, with comma\",\"Says \"\"hi\"\"\nand more\",PENDING,HIGH,2,,,,0\r\n", text(output));
+    }
+
+    @Test
+    void csvWithComments_ShouldWriteRowPerComment() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TaskExportWriter writer = TaskExportWriter.of(TaskDataFormat.CSV, output, objectMapper, true);
+
+        writer.write(task("First", "", List.of(
+                CommentResponse.builder().id(10L).authorId(2L).text("One").build(),
+                CommentResponse.builder().id(11L).authorId(3L).text("Two").build())));
+        writer.write(task("Second", "", List.of()));
+        writer.flush();
+
+        String[] lines = text(output).split("\r\n");
+        assertEquals(4, lines.length);
+        assertEquals("1,First,,PENDING,HIGH,2,,,,0,10,2,One,", lines[1]);
+        assertEquals("1,First,,PENDING,HIGH,2,,,,0,11,3,Two,", lines[2]);
+        assertEquals("1,Second,,PENDING,HIGH,2,,,,0,,,,", lines[3]);
+    }
+
+    @Test
+    void ndjson_ShouldWriteLinePerTaskWithoutNullFields() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TaskExportWriter writer = TaskExportWriter.of(TaskDataFormat.NDJSON, output, objectMapper, false);
+
+        writer.write(task("First", "Text", null));
+        writer.write(task("Second", "Text", null));
+        writer.flush();
+
+        String[] lines = text(output).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"title\":\"First\",\"description\":\"Text\",\"status\":\"PENDING\"," +
+                "\"priority\":\"HIGH\",\"authorId\":2,\"version\":0}", lines[0]);
+    }
+
+    private TaskResponseWithComments task(String title, String description, List<CommentResponse> comments) {
+        return TaskResponseWithComments.builder()
+                .id(1L)
+                .title(title)
+                .description(description)
+                .status("PENDING")
+                .priority("HIGH")
+                .authorId(2L)
+                .version(0L)
+                .comments(comments)
+                .build();
+    }
+
+    private String text(ByteArrayOutputStream output) {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,102 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import ru.learning.task_mgt_system.exception.BadRequestException;
+import ru.learning.task_mgt_system.web.dto.TaskDataFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TaskImportReader} class.
+ */
+class TaskImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ndjson_ShouldReadRowsAndReportInvalidOnes() throws IOException {
+        TaskImportReader reader = reader(TaskDataFormat.NDJSON, 100, """
+                {"title":"First","status":"PENDING","priority":"HIGH","assigneeId":1}
+
+                {"title":
+                {"title":"Third","status":"PENDING","priority":"LOW","assigneeEmail":"user@mail.ru"}
+                """);
+
+        TaskImportReader.ImportRow first = reader.next();
+        assertEquals(1, first.number());
+        assertEquals("First", first.record().getTitle());
+        assertEquals(1L, first.record().getAssigneeId());
+
+        TaskImportReader.ImportRow second = reader.next();  // The blank line is skipped
+        assertEquals(2, second.number());
+        assertNull(second.record());
+        assertTrue(second.error().startsWith("Invalid JSON"));
+
+        TaskImportReader.ImportRow third = reader.next();
+        assertEquals(3, third.number());
+        assertEquals("user@mail.ru", third.record().getAssigneeEmail());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    void ndjson_ShouldSkipTooLongRow() throws IOException {
+        TaskImportReader reader = reader(TaskDataFormat.NDJSON, 20, """
+                {"title":"A very long title that does not fit"}
+                {"title":"Short"}
+                """);
+
+        assertNotNull(reader.next().error());
+        assertEquals("Short", reader.next().record().getTitle());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void csv_ShouldReadQuotedFieldsAcrossLines() throws IOException {
+        TaskImportReader reader = reader(TaskDataFormat.CSV, 200,
+                "Title,Description,Status,Priority,AssigneeId\r\n" +
+                        "Plain,,PENDING,HIGH,1\r\n" +
+                        "\"Quoted, with comma\",\"Line one\nsays \"\"hi\"\"\",COMPLETED,LOW,2\r\n");
+
+        TaskImportReader.ImportRow first = reader.next();
+        assertEquals("Plain", first.record().getTitle());
+        assertNull(first.record().getDescription());
+        assertEquals("HIGH", first.record().getPriority());
+
+        TaskImportReader.ImportRow second = reader.next();
+        assertEquals(2, second.number());
+        assertEquals("Quoted, with comma", second.record().getTitle());
+        assertEquals("Line one\nsays \"hi\"", second.record().getDescription());
+        assertEquals(2L, second.record().getAssigneeId());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    void csv_ShouldReportInvalidAssigneeId() throws IOException {
+        TaskImportReader reader = reader(TaskDataFormat.CSV, 200,
+                "title,status,priority,assigneeId\nTask,PENDING,HIGH,abc\n");
+
+        TaskImportReader.ImportRow row = reader.next();
+
+        assertNull(row.record());
+        assertEquals("Invalid assigneeId: abc.", row.error());
+    }
+
+    @Test
+    void csv_WithoutRequiredColumns_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class,
+                () -> reader(TaskDataFormat.CSV, 200, "title,description\nTask,Text\n"));
+        assertThrows(BadRequestException.class, () -> reader(TaskDataFormat.CSV, 200, ""));
+    }
+
+    private TaskImportReader reader(TaskDataFormat format, int maxRowLength, String content) throws IOException {
+        return TaskImportReader.of(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                objectMapper, maxRowLength);
+    }
+}
@@ -1,22 +1,41 @@
 package ru.learning.task_mgt_system.service.impl;
 
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.learning.task_mgt_system.exception.BadRequestException;
 import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.exception.VersionConflictException;
 import ru.learning.task_mgt_system.model.*;
 import ru.learning.task_mgt_system.model.mapper.TaskMapper;
+import ru.learning.task_mgt_system.properties.BulkProperties;
+import ru.learning.task_mgt_system.properties.OptimisticLockProperties;
 import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.service.OutboxService;
+import ru.learning.task_mgt_system.service.TaskStatisticsService;
 import ru.learning.task_mgt_system.service.UserService;
 import ru.learning.task_mgt_system.web.dto.*;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -55,6 +74,48 @@ class TaskServiceImplTest {
     @Mock
     private TaskMapper taskMapper;
 
+    /**
+     * Mocks the {@link Validator} used to validate the items of bulk requests.
+     */
+    @Mock
+    private Validator validator;
+
+    /**
+     * Bulk settings with the default limits.
+     */
+    @Spy
+    private BulkProperties bulkProperties = new BulkProperties();
+
+    /**
+     * Mocks the {@link CacheManager} used for targeted cache eviction.
+     */
+    @Mock
+    private CacheManager cacheManager;
+
+    /**
+     * Optimistic locking settings, the retry is enabled by the tests that need it.
+     */
+    @Spy
+    private OptimisticLockProperties optimisticLockProperties = new OptimisticLockProperties();
+
+    /**
+     * Mocks the {@link OutboxService} the change events are written to.
+     */
+    @Mock
+    private OutboxService outboxService;
+
+    /**
+     * Runs the callbacks directly, with a transaction manager that does nothing.
+     */
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    /**
+     * Mocks the {@link TaskStatisticsService} the changed tasks are counted by.
+     */
+    @Mock
+    private TaskStatisticsService taskStatisticsService;
+
     private Task task;
     private TaskRequest taskRequest;
     private TaskResponse taskResponse;
@@ -114,7 +175,6 @@ class TaskServiceImplTest {
     @Test
     void createTask() {
         when(userService.createOrRetrieveUser()).thenReturn(new User());
-        when(userService.getById(anyLong())).thenReturn(new UserResponse());
         when(taskMapper.taskRequestToTask(any(TaskRequest.class))).thenReturn(task);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(taskMapper.taskToResponse(any(Task.class))).thenReturn(taskResponse);
@@ -214,7 +274,6 @@ class TaskServiceImplTest {
     @Test
     void getByAuthorId() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(userService.getById(anyLong())).thenReturn(new UserResponse());
         when(taskRepository.findByAuthorId(anyLong(), any(Pageable.class))).thenReturn(Page.empty());
         when(taskMapper.taskListToTaskListResponse(any(Page.class))).thenReturn(taskListResponse);
 
@@ -222,6 +281,8 @@ class TaskServiceImplTest {
 
         assertNotNull(response);
         verify(taskRepository, times(1)).findByAuthorId(anyLong(), any(Pageable.class));
+        verify(userService).checkExists(1L);
+        verify(userService, never()).getById(anyLong());
     }
 
     /**
@@ -232,7 +293,6 @@ class TaskServiceImplTest {
     @Test
     void getByAssigneeId() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(userService.getById(anyLong())).thenReturn(new UserResponse());
         when(taskRepository.findByAssigneeId(anyLong(), any(Pageable.class))).thenReturn(Page.empty());
         when(taskMapper.taskListToTaskListResponse(any(Page.class))).thenReturn(taskListResponse);
 
@@ -258,4 +318,351 @@ class TaskServiceImplTest {
         assertNotNull(response);
         verify(taskRepository, times(1)).findByStatusAndPriority(any(Status.class), any(Priority.class), any(Pageable.class));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the bulk creation of tasks using {@link TaskServiceImpl#createAll(List)}.
+     * <p>
+     * Ensures that the assignees are checked with a single query, items with unknown assignees are reported
+     * and the remaining tasks are saved together.
+     */
+    @Test
+    void createAll_SkipsUnknownAssignee() {
+        TaskRequest unknownAssignee = new TaskRequest("Other Task", null, "PENDING", "LOW", 2L);
+        taskRequest.setAssigneeId(1L);
+        when(userService.getExistingIds(Set.of(1L, 2L))).thenReturn(Set.of(1L));
+        when(userService.createOrRetrieveUser()).thenReturn(new User());
+        when(taskMapper.taskRequestToTask(taskRequest)).thenReturn(task);
+
+        BulkOperationResponse response = taskService.createAll(List.of(taskRequest, unknownAssignee));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(BulkItemStatus.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, response.getResults().get(1).getStatus());
+        verify(userService, times(1)).getExistingIds(anyCollection());
+        verify(taskRepository, times(1)).saveAll(anyCollection());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    /**
+     * Tests the bulk deletion of tasks using {@link TaskServiceImpl#deleteAll(List)}.
+     * <p>
+     * Ensures that only the tasks authored by the current user are deleted and the others are reported.
+     */
+    @Test
+    void deleteAll_DeletesOnlyAuthoredTasks() {
+        task.setAuthor(User.builder().id(1L).build());
+        Task foreignTask = Task.builder().id(2L).author(User.builder().id(5L).build()).build();
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("author@mail.ru", "Task", "Author")));
+        when(userService.getIdByEmail("author@mail.ru")).thenReturn(Optional.of(1L));
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(task, foreignTask));
+
+        BulkOperationResponse response = taskService.deleteAll(List.of(1L, 2L, 3L));
+
+        assertEquals(BulkItemStatus.DELETED, response.getResults().get(0).getStatus());
+        assertEquals(BulkItemStatus.FORBIDDEN, response.getResults().get(1).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, response.getResults().get(2).getStatus());
+        verify(taskRepository, times(1)).deleteAllByIdInBatch(List.of(task.getId()));
+    }
+
+    /**
+     * Tests the bulk deletion of a task listed twice using {@link TaskServiceImpl#deleteAll(List)}.
+     * <p>
+     * Ensures that both items are reported as deleted, while the task is deleted, reported to the outbox
+     * and uncounted once.
+     */
+    @Test
+    void deleteAll_RepeatedIdDeletedOnce() {
+        task.setAuthor(User.builder().id(1L).build());
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("author@mail.ru", "Task", "Author")));
+        when(userService.getIdByEmail("author@mail.ru")).thenReturn(Optional.of(1L));
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(task));
+
+        BulkOperationResponse response = taskService.deleteAll(List.of(1L, 1L));
+
+        assertEquals(List.of(BulkItemStatus.DELETED, BulkItemStatus.DELETED),
+                response.getResults().stream().map(BulkItemResult::getStatus).toList());
+        verify(taskRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxService).recordAll(eq(AggregateType.TASK), eq(List.of(1L)), eq(ChangeType.DELETED), isNull());
+        verify(taskStatisticsService).recordAll(List.of(new TaskStatisticsService.Bucket(null, Status.PENDING, Priority.HIGH)), List.of());
+    }
+
+    /**
+     * Tests the bulk update of a task listed twice using {@link TaskServiceImpl#updateAll(List)}.
+     * <p>
+     * Ensures that both updates are applied in order, while the task is saved and counted once, from its state
+     * before the first update to its state after the last one.
+     */
+    @Test
+    void updateAll_RepeatedIdCountedOnce() {
+        task.setAuthor(User.builder().id(1L).build());
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("author@mail.ru", "Task", "Author")));
+        when(userService.getIdByEmail("author@mail.ru")).thenReturn(Optional.of(1L));
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(task));
+        TaskRequest inProgress = new TaskRequest("Test Task", null, "IN_PROGRESS", "HIGH", null);
+        TaskRequest completed = new TaskRequest("Test Task", null, "COMPLETED", "LOW", null);
+
+        BulkOperationResponse response = taskService.updateAll(List.of(
+                new TaskBulkUpdateRequest(1L, inProgress, null), new TaskBulkUpdateRequest(1L, completed, null)));
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(Status.COMPLETED, task.getStatus());
+        verify(taskRepository).saveAll(argThat(tasks -> ((Collection<?>) tasks).size() == 1));
+        verify(taskStatisticsService).recordAll(
+                List.of(new TaskStatisticsService.Bucket(null, Status.PENDING, Priority.HIGH)),
+                List.of(new TaskStatisticsService.Bucket(null, Status.COMPLETED, Priority.LOW)));
+    }
+
+    /**
+     * Tests the deletion of a task that does not exist using {@link TaskServiceImpl#delete(Long)}.
+     * <p>
+     * Ensures that the task is deleted with a single statement and an {@link EntityNotFoundException}
+     * is thrown when nothing has been deleted.
+     */
+    @Test
+    void delete_TaskNotFound() {
+        when(taskRepository.delete(ArgumentMatchers.<Specification<Task>>any())).thenReturn(0L);
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.delete(1L));
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    /**
+     * Tests the deletion of tasks by a filter using {@link TaskServiceImpl#deleteBy(TaskFilter)}.
+     * <p>
+     * Ensures that a filter without criteria is rejected, so that it cannot delete all tasks.
+     */
+    @Test
+    void deleteBy_WithoutCriteria() {
+        assertThrows(BadRequestException.class, () -> taskService.deleteBy(new TaskFilter()));
+        verify(taskRepository, never()).delete(ArgumentMatchers.<Specification<Task>>any());
+    }
+
+    /**
+     * Tests the deletion of many tasks by a filter using {@link TaskServiceImpl#deleteBy(TaskFilter)}.
+     * <p>
+     * Ensures that the tasks are deleted in chunks of at most the bulk limit and every chunk is reported to the outbox.
+     */
+    @Test
+    void deleteBy_InChunks() {
+        bulkProperties.setMaxItems(2);
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("author@mail.ru", "Task", "Author")));
+        when(userService.getIdByEmail("author@mail.ru")).thenReturn(Optional.of(1L));
+        when(taskRepository.findIds(any(), eq(2))).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(taskRepository.delete(ArgumentMatchers.<Specification<Task>>any())).thenReturn(2L, 1L);
+
+        TaskDeleteResponse response = taskService.deleteBy(TaskFilter.builder().searchQuery("task").build());
+
+        assertEquals(3, response.getDeleted());
+        verify(taskRepository, times(2)).delete(ArgumentMatchers.<Specification<Task>>any());
+        verify(outboxService).recordAll(eq(AggregateType.TASK), eq(List.of(1L, 2L)), eq(ChangeType.DELETED), isNull());
+        verify(outboxService).recordAll(eq(AggregateType.TASK), eq(List.of(3L)), eq(ChangeType.DELETED), isNull());
+    }
+
+    /**
+     * Tests that bulk requests exceeding the configured limit are rejected.
+     * <p>
+     * Ensures that a {@link BadRequestException} is thrown and nothing is saved.
+     */
+    @Test
+    void createAll_TooManyItems() {
+        bulkProperties.setMaxItems(1);
+
+        assertThrows(BadRequestException.class, () -> taskService.createAll(Collections.nCopies(2, taskRequest)));
+        verify(taskRepository, never()).saveAll(anyCollection());
+    }
+
+    /**
+     * Tests the retrieval of many tasks using {@link TaskServiceImpl#getByIds(List)}.
+     * <p>
+     * Ensures that cached tasks are not read again, the others are read with a single query and cached,
+     * and the results follow the order of the request with the missing tasks marked.
+     */
+    @Test
+    void getByIds_ServesCachedTasksAndMarksMissing() {
+        Cache cache = mock(Cache.class);
+        TaskResponseWithComments cached = TaskResponseWithComments.builder().id(2L).build();
+        when(cacheManager.getCache("databaseEntityById")).thenReturn(cache);
+        when(cache.get(2L, TaskResponseWithComments.class)).thenReturn(cached);
+        when(taskRepository.findWithCommentsByIds(List.of(3L, 1L))).thenReturn(List.of(task));
+        when(taskMapper.taskToResponseWithComments(task)).thenReturn(taskResponseWithComments);
+
+        MultiGetResponse<TaskResponseWithComments> response = taskService.getByIds(List.of(3L, 2L, 1L, 2L));
+
+        assertEquals(List.of(3L, 2L, 1L, 2L), response.getItems().stream().map(MultiGetItem::getId).toList());
+        assertFalse(response.getItems().get(0).isFound());
+        assertSame(cached, response.getItems().get(1).getValue());
+        assertSame(taskResponseWithComments, response.getItems().get(2).getValue());
+        assertEquals(3, response.getFound());
+        assertEquals(1, response.getMissing());
+        verify(cache).put(task.getId(), taskResponseWithComments);
+    }
+
+    /**
+     * Tests the status transition of tasks selected by IDs using {@link TaskServiceImpl#transitionStatus(TaskTransitionRequest)}.
+     * <p>
+     * Ensures that the tasks are changed with a single update and only their cache entries are evicted.
+     */
+    @Test
+    void transitionStatus_ByIds() {
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache("databaseEntityById")).thenReturn(cache);
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("author@mail.ru", "Task", "Author")));
+        when(userService.getIdByEmail("author@mail.ru")).thenReturn(Optional.of(1L));
+        when(taskRepository.findIds(any())).thenReturn(List.of(1L, 2L));
+        when(taskRepository.updateStatus(any(), eq(Status.COMPLETED), isNull())).thenReturn(2);
+
+        TaskTransitionResponse response = taskService.transitionStatus(
+                TaskTransitionRequest.builder().status("COMPLETED").ids(List.of(1L, 2L)).build());
+
+        assertEquals(2, response.getUpdated());
+        verify(taskRepository, times(1)).updateStatus(any(), eq(Status.COMPLETED), isNull());
+        verify(taskRepository, never()).findAllById(anyIterable());
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verify(outboxService).recordAll(eq(AggregateType.TASK), eq(List.of(1L, 2L)), eq(ChangeType.UPDATED), any());
+    }
+
+    /**
+     * Tests the status transition of many tasks selected by a filter using {@link TaskServiceImpl#transitionStatus(TaskTransitionRequest)}.
+     * <p>
+     * Ensures that a filter selecting more tasks than the bulk limit is not rejected, but changed in chunks
+     * of at most the bulk limit, every chunk with its own update.
+     */
+    @Test
+    void transitionStatus_ByFilterInChunks() {
+        bulkProperties.setMaxItems(2);
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("author@mail.ru", "Task", "Author")));
+        when(userService.getIdByEmail("author@mail.ru")).thenReturn(Optional.of(1L));
+        when(taskRepository.findIds(any(), eq(2))).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(taskRepository.updateStatus(any(), eq(Status.COMPLETED), isNull())).thenReturn(2, 1);
+
+        TaskTransitionResponse response = taskService.transitionStatus(TaskTransitionRequest.builder()
+                .status("COMPLETED").filter(TaskFilter.builder().searchQuery("task").build()).build());
+
+        assertEquals(3, response.getUpdated());
+        verify(taskRepository, times(2)).updateStatus(any(), eq(Status.COMPLETED), isNull());
+        verify(taskRepository, never()).findIds(any());
+        verify(outboxService).recordAll(eq(AggregateType.TASK), eq(List.of(1L, 2L)), eq(ChangeType.UPDATED), any());
+        verify(outboxService).recordAll(eq(AggregateType.TASK), eq(List.of(3L)), eq(ChangeType.UPDATED), any());
+    }
+
+    /**
+     * Tests that a status transition must select the tasks either by IDs or by a filter.
+     * <p>
+     * Ensures that a {@link BadRequestException} is thrown and nothing is updated.
+     */
+    @Test
+    void transitionStatus_WithoutSelection() {
+        TaskTransitionRequest request = TaskTransitionRequest.builder().status("COMPLETED").build();
+
+        assertThrows(BadRequestException.class, () -> taskService.transitionStatus(request));
+        verify(taskRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    /**
+     * Tests the partial update of a task using {@link TaskServiceImpl#patch(Long, TaskPatchRequest, Long)}.
+     * <p>
+     * Ensures that only the provided field is written with a single update, without loading the task first.
+     */
+    @Test
+    void patch_WritesOnlyChangedFields() {
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("assignee@mail.ru", "Task", "Assignee")));
+        when(userService.getIdByEmail("assignee@mail.ru")).thenReturn(Optional.of(2L));
+        when(taskRepository.updateFields(any(), eq(Map.of("status", Status.COMPLETED)))).thenReturn(1);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskMapper.taskToResponse(task)).thenReturn(taskResponse);
+
+        TaskResponse response = taskService.patch(1L, TaskPatchRequest.builder().status("COMPLETED").build(), null);
+
+        assertNotNull(response);
+        verify(taskRepository, times(1)).updateFields(any(), eq(Map.of("status", Status.COMPLETED)));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    /**
+     * Tests the partial update of a task the current user is not allowed to change.
+     * <p>
+     * Ensures that a {@link SecurityException} is thrown when the conditional update matches no row
+     * although the task exists.
+     */
+    @Test
+    void patch_NotAllowed() {
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("assignee@mail.ru", "Task", "Assignee")));
+        when(userService.getIdByEmail("assignee@mail.ru")).thenReturn(Optional.of(2L));
+        when(taskRepository.updateFields(any(), anyMap())).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        TaskPatchRequest request = TaskPatchRequest.builder().title("New Title").build();
+
+        assertThrows(SecurityException.class, () -> taskService.patch(1L, request, null));
+    }
+
+    /**
+     * Tests the update of a task with a version that is no longer current.
+     * <p>
+     * Ensures that a {@link VersionConflictException} carrying the current version is thrown and nothing is written.
+     */
+    @Test
+    void update_StaleVersion() {
+        task.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        VersionConflictException exception = assertThrows(VersionConflictException.class,
+                () -> taskService.update(1L, taskRequest, 2L));
+
+        assertEquals(3L, exception.getCurrentVersion());
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
+    /**
+     * Tests the retry of an update that lost a race against a status change.
+     * <p>
+     * Ensures that the title of the update is applied on top of the concurrently changed status.
+     */
+    @Test
+    void update_RetriesOverConcurrentStatusChange() {
+        optimisticLockProperties.setRetryEnabled(true);
+        task.setVersion(1L);
+        Task current = Task.builder().id(1L).title("Test Task").description("Test Description")
+                .status(Status.COMPLETED).priority(Priority.HIGH).version(2L).build();
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task), Optional.of(current));
+        when(taskRepository.saveAndFlush(any(Task.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskMapper.taskToResponse(current)).thenReturn(taskResponse);
+        taskRequest.setTitle("New Title");
+
+        TaskResponse response = taskService.update(1L, taskRequest, null);
+
+        assertEquals(taskResponse, response);
+        assertEquals("New Title", current.getTitle());
+        assertEquals(Status.COMPLETED, current.getStatus());
+        verify(taskRepository, times(2)).saveAndFlush(any(Task.class));
+        verify(outboxService, times(1)).record(AggregateType.TASK, 1L, ChangeType.UPDATED, taskResponse);
+    }
+
+    /**
+     * Tests the retry of an update that lost a race against a change of the same field.
+     * <p>
+     * Ensures that a {@link VersionConflictException} is thrown instead of overwriting the other change.
+     */
+    @Test
+    void update_ConflictingConcurrentChange() {
+        optimisticLockProperties.setRetryEnabled(true);
+        task.setVersion(1L);
+        Task current = Task.builder().id(1L).title("Other Title").description("Test Description")
+                .status(Status.PENDING).priority(Priority.HIGH).version(2L).build();
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task), Optional.of(current));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+        taskRequest.setTitle("New Title");
+
+        VersionConflictException exception = assertThrows(VersionConflictException.class,
+                () -> taskService.update(1L, taskRequest, null));
+
+        assertEquals(2L, exception.getCurrentVersion());
+        assertEquals("Other Title", current.getTitle());
+        verify(taskRepository, times(1)).saveAndFlush(any(Task.class));
+        verify(outboxService, never()).record(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,65 @@
+package ru.learning.task_mgt_system.service.impl;
+
+import org.junit.jupiter.api.Test;
+import ru.learning.task_mgt_system.model.Priority;
+import ru.learning.task_mgt_system.model.Status;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.service.TaskStatisticsService.Bucket;
+import ru.learning.task_mgt_system.web.dto.TaskCountResponse;
+import ru.learning.task_mgt_system.web.dto.TaskStatisticsResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link TaskStatisticsServiceImpl} class.
+ */
+class TaskStatisticsServiceImplTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskStatisticsServiceImpl statisticsService = new TaskStatisticsServiceImpl(taskRepository);
+
+    @Test
+    void record_ShouldMoveTasksBetweenCountsWithoutQueries() {
+        List<TaskRepository.TaskCount> counts = List.of(count(1L, Status.PENDING, Priority.LOW, 2),
+                count(2L, Status.PENDING, Priority.HIGH, 1));
+        when(taskRepository.countByAssigneeAndStatusAndPriority()).thenReturn(counts);
+        statisticsService.reconcile();
+
+        statisticsService.record(new Bucket(1L, Status.PENDING, Priority.LOW), new Bucket(1L, Status.IN_PROGRESS, Priority.LOW));
+        statisticsService.record(null, new Bucket(1L, Status.PENDING, Priority.LOW));
+        statisticsService.record(new Bucket(2L, Status.PENDING, Priority.HIGH), null);
+        TaskStatisticsResponse statistics = statisticsService.getStatistics(null);
+
+        assertEquals(3, statistics.getTotal());
+        assertNotNull(statistics.getReconciledAt());
+        assertEquals(List.of(new TaskCountResponse(1L, "PENDING", "LOW", 2), new TaskCountResponse(1L, "IN_PROGRESS", "LOW", 1)),
+                statistics.getCounts());
+        assertEquals(0, statisticsService.getStatistics(2L).getTotal());
+        verify(taskRepository, times(1)).countByAssigneeAndStatusAndPriority();
+    }
+
+    @Test
+    void reconcile_ShouldReplaceDriftedCounts() {
+        statisticsService.record(null, new Bucket(1L, Status.PENDING, Priority.LOW));
+        List<TaskRepository.TaskCount> counts = List.of(count(3L, Status.COMPLETED, Priority.MEDIUM, 4));
+        when(taskRepository.countByAssigneeAndStatusAndPriority()).thenReturn(counts);
+
+        statisticsService.reconcile();
+        TaskStatisticsResponse statistics = statisticsService.getStatistics(null);
+
+        assertEquals(List.of(new TaskCountResponse(3L, "COMPLETED", "MEDIUM", 4)), statistics.getCounts());
+        assertEquals(4, statistics.getTotal());
+    }
+
+    private TaskRepository.TaskCount count(Long assigneeId, Status status, Priority priority, long tasks) {
+        TaskRepository.TaskCount count = mock(TaskRepository.TaskCount.class);
+        when(count.getAssigneeId()).thenReturn(assigneeId);
+        when(count.getStatus()).thenReturn(status);
+        when(count.getPriority()).thenReturn(priority);
+        when(count.getTasks()).thenReturn(tasks);
+        return count;
+    }
+}
@@ -0,0 +1,192 @@
+package ru.learning.task_mgt_system.validation;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.learning.task_mgt_system.exception.EntityNotFoundException;
+import ru.learning.task_mgt_system.model.*;
+import ru.learning.task_mgt_system.repository.CommentRepository;
+import ru.learning.task_mgt_system.repository.TaskRepository;
+import ru.learning.task_mgt_system.repository.UserRepository;
+import ru.learning.task_mgt_system.service.UserService;
+import ru.learning.task_mgt_system.web.dto.CommentRequest;
+import ru.learning.task_mgt_system.web.dto.TaskRequest;
+import ru.learning.task_mgt_system.web.dto.UserInfo;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the ownership aspects against an in-memory database.
+ * <p>
+ * Every ownership check must cost exactly two SQL statements: one to resolve the ID of the current user
+ * and one for the entity being changed. Neither the user nor any of the lazy collections may be loaded.
+ * The verified entity is handed over to the intercepted method through {@link OwnershipContextHolder},
+ * so the service does not read the same row again.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OwnershipAspectsQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private CheckOwnershipAndAssignmentForUpdateAspect updateAspect;
+    private CheckOwnershipForDeleteAspect deleteAspect;
+    private ProceedingJoinPoint joinPoint;
+    private Statistics statistics;
+
+    private User author;
+    private Task task;
+    private Comment comment;
+
+    /**
+     * Persists an author with a task and a comment, and resets the statement statistics.
+     */
+    @BeforeEach
+    void setUp() throws Throwable {
+        author = entityManager.persist(User.builder().email("author@mail.ru").fullName("Task Author").build());
+        task = entityManager.persist(Task.builder()
+                .title("Test Task")
+                .description("Test Description")
+                .status(Status.PENDING)
+                .priority(Priority.HIGH)
+                .author(author)
+                .assignee(author)
+                .build());
+        comment = entityManager.persist(Comment.builder().text("Test Comment").author(author).task(task).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        UserService userService = mock(UserService.class);
+        when(userService.getCurrentUserInfo()).thenReturn(Optional.of(new UserInfo("author@mail.ru", "Task", "Author")));
+        when(userService.getIdByEmail(anyString())).thenAnswer(invocation -> userRepository.findIdByEmail(invocation.getArgument(0)));
+
+        updateAspect = new CheckOwnershipAndAssignmentForUpdateAspect(userService, taskRepository, commentRepository);
+        deleteAspect = new CheckOwnershipForDeleteAspect(userService, taskRepository, commentRepository);
+        joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenReturn(null);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void updateTask_ShouldIssueTwoStatements() throws Throwable {
+        TaskRequest request = new TaskRequest("Test Task", "Test Description", "COMPLETED", "HIGH", author.getId());
+
+        updateAspect.checkOwnershipAndAssignmentForUpdate(joinPoint, annotation(EntityType.TASK), task.getId(), request);
+
+        assertStatements(2);
+        assertEquals(1, statistics.getEntityLoadCount());  // Only the task itself
+    }
+
+    @Test
+    void updateComment_ShouldIssueTwoStatements() throws Throwable {
+        CommentRequest request = new CommentRequest("Updated Comment", task.getId());
+
+        updateAspect.checkOwnershipAndAssignmentForUpdate(joinPoint, annotation(EntityType.COMMENT), comment.getId(), request);
+
+        assertStatements(2);
+        assertEquals(1, statistics.getEntityLoadCount());  // Only the comment itself
+    }
+
+    @Test
+    void deleteTask_ShouldIssueTwoStatements() throws Throwable {
+        deleteAspect.checkOwnershipForDelete(joinPoint, deleteAnnotation(EntityType.TASK), task.getId());
+
+        assertStatements(2);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void deleteComment_ShouldIssueTwoStatements() throws Throwable {
+        deleteAspect.checkOwnershipForDelete(joinPoint, deleteAnnotation(EntityType.COMMENT), comment.getId());
+
+        assertStatements(2);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void updateTask_ShouldHandOverLoadedTask() throws Throwable {
+        TaskRequest request = new TaskRequest("Test Task", "Test Description", "COMPLETED", "HIGH", author.getId());
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            Task verified = OwnershipContextHolder.getEntity(EntityType.TASK, task.getId(), Task.class).orElseThrow();
+            assertEquals("Test Task", verified.getTitle());
+            return null;
+        });
+
+        updateAspect.checkOwnershipAndAssignmentForUpdate(joinPoint, annotation(EntityType.TASK), task.getId(), request);
+
+        assertStatements(2);
+        assertFalse(OwnershipContextHolder.isVerified(EntityType.TASK, task.getId()));  // Cleared after the call
+    }
+
+    @Test
+    void deleteTask_ShouldMarkTaskVerified() throws Throwable {
+        when(joinPoint.proceed()).thenAnswer(invocation -> OwnershipContextHolder.isVerified(EntityType.TASK, task.getId()));
+
+        assertEquals(true, deleteAspect.checkOwnershipForDelete(joinPoint, deleteAnnotation(EntityType.TASK), task.getId()));
+        assertFalse(OwnershipContextHolder.isVerified(EntityType.TASK, task.getId()));
+    }
+
+    @Test
+    void deleteTask_ShouldTellForeignFromMissingTask() throws Throwable {
+        User other = entityManager.persist(User.builder().email("other@mail.ru").fullName("Other User").build());
+        Task foreignTask = entityManager.persist(Task.builder()
+                .title("Foreign Task")
+                .description("Foreign Description")
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .author(other)
+                .build());
+        entityManager.flush();
+
+        assertThrows(SecurityException.class,
+                () -> deleteAspect.checkOwnershipForDelete(joinPoint, deleteAnnotation(EntityType.TASK), foreignTask.getId()));
+        assertThrows(EntityNotFoundException.class,
+                () -> deleteAspect.checkOwnershipForDelete(joinPoint, deleteAnnotation(EntityType.TASK), foreignTask.getId() + 100));
+        verify(joinPoint, never()).proceed();
+    }
+
+    private void assertStatements(long expected) throws Throwable {
+        verify(joinPoint).proceed();
+        assertEquals(expected, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    private CheckOwnershipAndAssignmentForUpdate annotation(EntityType entityType) {
+        CheckOwnershipAndAssignmentForUpdate annotation = mock(CheckOwnershipAndAssignmentForUpdate.class);
+        when(annotation.entityType()).thenReturn(entityType);
+        return annotation;
+    }
+
+    private CheckOwnershipForDelete deleteAnnotation(EntityType entityType) {
+        CheckOwnershipForDelete annotation = mock(CheckOwnershipForDelete.class);
+        when(annotation.entityType()).thenReturn(entityType);
+        return annotation;
+    }
+}
@@ -11,7 +11,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
+import ru.learning.task_mgt_system.service.CommentIngestionService;
 import ru.learning.task_mgt_system.service.CommentService;
+import ru.learning.task_mgt_system.web.dto.CommentAcceptedResponse;
 import ru.learning.task_mgt_system.web.dto.CommentListResponse;
 import ru.learning.task_mgt_system.web.dto.CommentRequest;
 import ru.learning.task_mgt_system.web.dto.CommentResponse;
@@ -29,6 +31,9 @@ class CommentControllerTest {
     @Mock
     private CommentService commentService;
 
+    @Mock
+    private CommentIngestionService commentIngestionService;
+
     @InjectMocks
     private CommentController commentController;
 
@@ -86,9 +91,9 @@ class CommentControllerTest {
     void update_ShouldReturnUpdatedCommentResponse() {
         CommentRequest request = new CommentRequest();
         CommentResponse response = new CommentResponse();
-        when(commentService.update(1L, request)).thenReturn(response);  // Mocking the service response
+        when(commentService.update(1L, request, null)).thenReturn(response);  // Mocking the service response
 
-        ResponseEntity<CommentResponse> result = commentController.update(1L, request);
+        ResponseEntity<CommentResponse> result = commentController.update(1L, request, null);
         assertEquals(HttpStatus.OK, result.getStatusCode());  // Asserting the status code
         assertEquals(response, result.getBody());  // Asserting the response body
     }
@@ -122,7 +127,7 @@ class CommentControllerTest {
         CommentListResponse response = new CommentListResponse();
         when(commentService.getByTaskId(1L, 0, 10)).thenReturn(response);  // Mocking the service response
 
-        ResponseEntity<CommentListResponse> result = commentController.getByTaskId(1L, 0, 10);
+        ResponseEntity<CommentListResponse> result = commentController.getByTaskId(1L, 0, 10, null);
         assertEquals(HttpStatus.OK, result.getStatusCode());  // Asserting the status code
         assertEquals(response, result.getBody());  // Asserting the response body
     }
@@ -140,8 +145,25 @@ class CommentControllerTest {
         CommentListResponse response = new CommentListResponse();
         when(commentService.getByAuthorId(1L, 0, 10)).thenReturn(response);  // Mocking the service response
 
-        ResponseEntity<CommentListResponse> result = commentController.getByAuthorId(1L, 0, 10);
+        ResponseEntity<CommentListResponse> result = commentController.getByAuthorId(1L, 0, 10, null);
         assertEquals(HttpStatus.OK, result.getStatusCode());  // Asserting the status code
         assertEquals(response, result.getBody());  // Asserting the response body
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the createAsync method of CommentController.
+     *
+     * This test verifies that an accepted comment is acknowledged with
+     * status code 202 Accepted and the reserved comment ID.
+     */
+    @Test
+    void createAsync_ShouldReturnAccepted() {
+        CommentRequest request = new CommentRequest("Test Comment", 1L);
+        CommentAcceptedResponse accepted = new CommentAcceptedResponse(10L, 1L, null);
+        when(commentIngestionService.accept(request)).thenReturn(accepted);
+
+        ResponseEntity<CommentAcceptedResponse> result = commentController.createAsync(request);
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals(accepted, result.getBody());
+    }
+}
@@ -12,6 +12,9 @@ import ru.learning.task_mgt_system.model.Status;
 import ru.learning.task_mgt_system.service.TaskService;
 import ru.learning.task_mgt_system.web.dto.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -72,7 +75,7 @@ public class TaskControllerTest {
         TaskFilter filter = new TaskFilter(); // Set filter criteria
         when(taskService.filterBy(any(TaskFilter.class))).thenReturn(emptyTaskListResponse);
 
-        ResponseEntity<TaskListResponse> response = taskController.filterBy(filter);
+        ResponseEntity<TaskListResponse> response = taskController.filterBy(filter, false, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(emptyTaskListResponse, response.getBody());
@@ -90,7 +93,7 @@ public class TaskControllerTest {
     void testGetAll() {
         when(taskService.getAll(defaultPage, defaultSize)).thenReturn(emptyTaskListResponse);
 
-        ResponseEntity<TaskListResponse> response = taskController.getAll(defaultPage, defaultSize);
+        ResponseEntity<TaskListResponse> response = taskController.getAll(defaultPage, defaultSize, false, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(emptyTaskListResponse, response.getBody());
@@ -108,13 +111,38 @@ public class TaskControllerTest {
         Long id = 1L;
         when(taskService.getById(id)).thenReturn(taskResponseWithComments);
 
-        ResponseEntity<TaskResponseWithComments> response = taskController.getById(id);
+        ResponseEntity<TaskResponseWithComments> response = taskController.getById(id, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(taskResponseWithComments, response.getBody());
         verify(taskService, times(1)).getById(id);
     }
 
+    /**
+     * Tests the getById method of TaskController with the If-None-Match header.
+     *
+     * This test verifies that the known ETag yields 304 Not Modified while the comments are unchanged,
+     * and that a new comment changes the ETag although the version of the task stays the same.
+     */
+    @Test
+    void testGetById_ETagCoversComments() {
+        Long id = 1L;
+        CommentResponse comment = CommentResponse.builder().id(10L).taskId(id).version(0L).build();
+        taskResponseWithComments.setVersion(3L);
+        taskResponseWithComments.setComments(new ArrayList<>(List.of(comment)));
+        when(taskService.getById(id)).thenReturn(taskResponseWithComments);
+
+        String eTag = taskController.getById(id, null).getHeaders().getETag();
+        assertEquals(HttpStatus.NOT_MODIFIED, taskController.getById(id, eTag).getStatusCode());
+
+        taskResponseWithComments.getComments().add(CommentResponse.builder().id(11L).taskId(id).version(0L).build());
+        ResponseEntity<TaskResponseWithComments> response = taskController.getById(id, eTag);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(eTag, response.getHeaders().getETag());
+        assertEquals(3L, VersionETags.parse(response.getHeaders().getETag()));
+    }
+
     /**
      * Tests the create method of TaskController.
      *
@@ -142,13 +170,13 @@ public class TaskControllerTest {
     @Test
     void testUpdate() {
         Long id = 1L;
-        when(taskService.update(eq(id), any(TaskRequest.class))).thenReturn(taskResponse);
+        when(taskService.update(eq(id), any(TaskRequest.class), isNull())).thenReturn(taskResponse);
 
-        ResponseEntity<TaskResponse> response = taskController.update(id, taskRequest);
+        ResponseEntity<TaskResponse> response = taskController.update(id, taskRequest, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(taskResponse, response.getBody());
-        verify(taskService, times(1)).update(eq(id), any(TaskRequest.class));
+        verify(taskService, times(1)).update(eq(id), any(TaskRequest.class), isNull());
     }
 
     /**
@@ -51,7 +51,7 @@ class UserControllerTest {
         UserListResponse userListResponse = new UserListResponse();
         when(userService.getAll(anyInt(), anyInt())).thenReturn(userListResponse);
 
-        ResponseEntity<UserListResponse> response = userController.getAll(0, 10);
+        ResponseEntity<UserListResponse> response = userController.getAll(0, 10, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(userListResponse, response.getBody());
     }